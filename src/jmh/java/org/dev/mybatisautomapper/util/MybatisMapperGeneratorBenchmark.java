@@ -0,0 +1,120 @@
+package org.dev.mybatisautomapper.util;
+
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MybatisMapperGenerator 성능 측정 (처리량 + GC 프로파일러로 연산당 할당 바이트)
+ * 실행: mvn -Pjmh test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MybatisMapperGeneratorBenchmark {
+    private static final String TABLE_NAME = "TB_BENCH_SAMPLE";
+
+    // 실제 테이블에서 자주 나오는 타입 구성
+    private static final String[] DATA_TYPES = {"VARCHAR2(20)", "NUMBER", "VARCHAR2(200)", "DATE", "CHAR(1)", "NVARCHAR2(100)"};
+    // 생성기의 특수 처리 대상인 감사 컬럼
+    private static final String[] AUDIT_COLUMNS = {
+            "INSERT_ID", "INSERT_IP", "INSERT_MCADDR_NM", "INSERT_DTS",
+            "UPDATE_ID", "UPDATE_IP", "UPDATE_MCADDR_NM", "UPDATE_DTS"
+    };
+
+    @Param({"10", "100", "1000"})
+    public int columnCount;
+
+    // PK_HEAVY: 컬럼의 1/4이 PK (WHERE 절 비중이 큼), PK_FREE: PK 없음
+    @Param({"PK_HEAVY", "PK_FREE"})
+    public String shape;
+
+    private List<ColumnInfo> columns;
+    private List<String> columnNames;
+    private final MapperOptions options = new MapperOptions();
+    private final StringBuilder reusedBuffer = new StringBuilder(1 << 16);
+
+    @Setup
+    public void setUp() {
+        columns = new ArrayList<>(columnCount);
+        int pkCount = "PK_HEAVY".equals(shape) ? Math.max(1, columnCount / 4) : 0;
+        int regularCount = Math.max(0, columnCount - AUDIT_COLUMNS.length);
+
+        for (int i = 0; i < columnCount; i++) {
+            ColumnInfo col = new ColumnInfo();
+            col.setTable_nm(TABLE_NAME);
+            col.setTable_comments("벤치마크 테이블");
+            if (i < regularCount) {
+                col.setColumn_name(String.format("COL_%04d_NM", i));
+                col.setData_type(DATA_TYPES[i % DATA_TYPES.length]);
+                col.setColumn_comments(i % 3 == 0 ? null : "컬럼 설명 " + i);
+            } else {
+                col.setColumn_name(AUDIT_COLUMNS[i - regularCount]);
+                col.setData_type(AUDIT_COLUMNS[i - regularCount].endsWith("DTS") ? "DATE" : "VARCHAR2(50)");
+            }
+            col.setPrimary_key(i < pkCount ? "Y" : "N");
+            columns.add(col);
+        }
+
+        columnNames = new ArrayList<>(columnCount);
+        for (ColumnInfo col : columns) {
+            columnNames.add(col.getColumn_name());
+        }
+    }
+
+    @Benchmark
+    public String generateSelect() {
+        return MybatisMapperGenerator.generateSelectStatement(TABLE_NAME, columns, true, true);
+    }
+
+    @Benchmark
+    public String generateInsert() {
+        return MybatisMapperGenerator.generateInsertStatement(TABLE_NAME, columns, true);
+    }
+
+    @Benchmark
+    public String generateUpdate() {
+        return MybatisMapperGenerator.generateUpdateStatement(TABLE_NAME, columns, true, true, true);
+    }
+
+    @Benchmark
+    public String generateDelete() {
+        return MybatisMapperGenerator.generateDeleteStatement(TABLE_NAME, columns, true, true);
+    }
+
+    @Benchmark
+    public String generateMapper() {
+        return MybatisMapperGenerator.generateMapper(TABLE_NAME, columns, options);
+    }
+
+    // 재사용 버퍼에 직접 쓰는 경우 (파일 스트리밍과 같은 경로, 결과 문자열 할당 없음)
+    @Benchmark
+    public int writeMapperReusedBuffer() throws IOException {
+        reusedBuffer.setLength(0);
+        MybatisMapperGenerator.writeMapper(reusedBuffer, TABLE_NAME, columns, options);
+        return reusedBuffer.length();
+    }
+
+    @Benchmark
+    public String simplifiedFormatLineByLine() {
+        return MybatisMapperGenerator.simplifiedFormatLineByLine(columnNames, 5, ",", 4);
+    }
+}
@@ -12,6 +12,7 @@ module org.dev.mybatisautomapper {
     requires org.apache.logging.log4j; // Log4j가 모듈이라면
     requires org.apache.logging.log4j.core;
     requires org.fxmisc.richtext;
+    requires reactfx;       // RichTextFX의 변경 이벤트 스트림(plainTextChanges) 구독용
     requires org.controlsfx.controls;
 
     //opens <패키지>: 해당 패키지를 “완전 리플렉션”에 개방
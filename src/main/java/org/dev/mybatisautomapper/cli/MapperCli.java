@@ -0,0 +1,429 @@
+package org.dev.mybatisautomapper.cli;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
+import org.dev.mybatisautomapper.service.BatchMapperService;
+import org.dev.mybatisautomapper.service.MapperExportService;
+import org.dev.mybatisautomapper.service.OraclePlanProvider;
+import org.dev.mybatisautomapper.service.PlanAnalysisService;
+import org.dev.mybatisautomapper.service.SchemaSnapshotService;
+import org.dev.mybatisautomapper.service.SchemaWatchService;
+import org.dev.mybatisautomapper.service.TableInfoService;
+import org.dev.mybatisautomapper.util.Config;
+import org.dev.mybatisautomapper.util.ConfigLoader;
+import org.dev.mybatisautomapper.util.MapperTemplate;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 화면 없이 매퍼를 생성하는 명령줄 진입점 (빌드 파이프라인/스크립트용)
+ * - JavaFX 클래스를 전혀 사용하지 않으므로 화면 초기화, 자동 연결 테스트 없이 바로 생성합니다.
+ * - 테이블별로 &lt;out&gt;/&lt;테이블명&gt;.xml 파일을 만듭니다. (MapperExportService: 내용이 바뀐 파일만 씀)
+ *
+ * 실행 예 (mvn package 후):
+ * <pre>
+ * java -cp "target/classes:target/lib/*" org.dev.mybatisautomapper.cli.MapperCli --out mappers ME_* TB_USER
+ * </pre>
+ */
+public class MapperCli {
+    static final int EXIT_OK = 0;
+    static final int EXIT_FAILED = 1;       // 일부 또는 전체 테이블 생성 실패
+    static final int EXIT_USAGE = 2;        // 잘못된 인자
+
+    private static final String USAGE = String.join("\n",
+            "사용법: MapperCli --out <디렉터리> [옵션] <테이블명|패턴> ...",
+            "",
+            "  <테이블명|패턴>              테이블명 또는 패턴 ('*', '%': 임의의 문자열, '?': 임의의 한 글자)",
+            "  --tables <a,b,...>          테이블명 또는 패턴 (쉼표 구분, 여러 번 지정 가능)",
+            "  --all                       스키마 전체",
+            "  --out <디렉터리>             결과를 저장할 디렉터리 (테이블별 <테이블명>.xml)",
+            "  --mapper-package <패키지>    매퍼 파일 namespace의 패키지 (<패키지>.<모델명>Mapper, 기본: config.json의 generator.mapperPackage)",
+            "  --config <파일>              설정 파일 (기본: config.json)",
+            "  --template <파일>            구문 템플릿 파일 (config.json의 template.path보다 우선)",
+            "  --param-type <model|hashmap> 파라미터 타입 (기본: model)",
+            "  --if-update / --no-if-update UPDATE문에 <if> 구문 적용 여부 (기본: 적용)",
+            "  --if-where / --no-if-where   WHERE절에 <if> 구문 적용 여부 (기본: 미적용)",
+            "  --result-map / --no-result-map SELECT 결과를 <resultMap>으로 매핑할지 여부 (기본: 사용)",
+            "  --jdbc-type / --no-jdbc-type 바인드 변수마다 jdbcType 명시 여부 (기본: 명시)",
+            "  --select-by-index            인덱스별 조회(selectBy인덱스명) 구문 추가 (PK 인덱스 제외, 선택도 높은 순)",
+            "  --select-stream              스트리밍 전체 조회(selectStream, fetchSize/FORWARD_ONLY) 구문 추가",
+            "  --select-page                PK 순 keyset 페이지 조회(selectPage) 구문 추가 (PK가 있는 테이블만)",
+            "  --insert-batch               다건 INSERT(insertBatch) 구문 추가",
+            "  --merge                      등록 또는 수정 MERGE(merge, mergeBatch) 구문 추가 (PK가 있는 테이블만)",
+            "  --by-pk-list                 PK 목록 다건 조회/수정/삭제(selectByPkList, updateByPkList, deleteByPkList) 구문 추가 (PK가 있는 테이블만)",
+            "  --batch-size <건수>          다건 구문 한 번에 처리할 최대 건수 (기본: 500, 바인드 수 제한으로 더 작아질 수 있음)",
+            "  --explain                    구문마다 EXPLAIN PLAN을 실행하여 비용/접근 경로/경고를 주석으로 추가 (경고는 화면에도 출력)",
+            "  --watch <초>                 생성 후 종료하지 않고 스키마 변경(DDL)을 감시하여 바뀐 테이블만 다시 저장 (Ctrl+C로 종료)",
+            "  -h, --help                  도움말");
+
+    /** 명령줄 인자 */
+    static class Arguments {
+        String configPath = "config.json";
+        String templatePath;
+        String mapperPackage;   // 지정하지 않으면 config.json의 generator.mapperPackage 사용
+        Path outDir;
+        boolean allTables;
+        final Set<String> tables = new LinkedHashSet<>();   // 테이블명 또는 패턴 (대문자)
+        final MapperOptions options = new MapperOptions();
+        boolean batchSizeSet;   // --batch-size를 지정했는지 (지정하지 않으면 config.json의 generator.batchSize 사용)
+        long watchSeconds;      // 0이면 감시하지 않음
+        boolean explain;        // 구문마다 실행 계획 주석 추가
+        boolean help;
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * @return 종료 코드 (EXIT_OK, EXIT_FAILED, EXIT_USAGE)
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Arguments arguments;
+        try {
+            arguments = parseArguments(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println();
+            err.println(USAGE);
+            return EXIT_USAGE;
+        }
+        if (arguments.help) {
+            out.println(USAGE);
+            return EXIT_OK;
+        }
+
+        long start = System.nanoTime();
+        try {
+            // MyBatisUtil도 같은 설정을 사용하도록 먼저 로드 (ConfigLoader는 처음 로드한 설정을 유지)
+            Config config = ConfigLoader.load(arguments.configPath);
+            MapperOptions options = arguments.options;
+            options.setTemplate(loadTemplate(arguments.templatePath, config));
+            if (!arguments.batchSizeSet && config.getGenerator() != null) {
+                options.setBatchSize(config.getGenerator().batchSize);
+            }
+            if (arguments.mapperPackage == null && config.getGenerator() != null) {
+                arguments.mapperPackage = config.getGenerator().mapperPackage;
+            }
+
+            TableInfoService tableInfoService = new TableInfoService(config.getCache());
+            BatchMapperService batchMapperService = new BatchMapperService(tableInfoService);
+
+            List<String> targets = resolveTables(arguments, tableInfoService);
+            if (targets != null && targets.isEmpty()) {
+                err.println("일치하는 테이블이 없습니다: " + String.join(", ", arguments.tables));
+                return EXIT_FAILED;
+            }
+
+            // 감시 기준을 생성 전에 기록 (생성 중에 바뀐 DDL도 첫 주기에 감지)
+            SchemaWatchService watchService = null;
+            if (arguments.watchSeconds > 0) {
+                SchemaSnapshotService snapshotService = new SchemaSnapshotService(SchemaSnapshotService.DEFAULT_PATH, config.getDb().url, config.getDb().user);
+                snapshotService.load();
+                watchService = new SchemaWatchService(tableInfoService, snapshotService, () -> options);
+                watchService.poll();
+            }
+
+            // 내용이 바뀐 파일만 원자적으로 교체 (변경 없는 파일은 수정 시각 유지)
+            MapperExportService exportService = new MapperExportService(batchMapperService);
+            MapperExportService.ExportResult result = arguments.explain
+                    ? exportWithPlans(targets, options, config, batchMapperService, tableInfoService, exportService, arguments.outDir,
+                                      arguments.mapperPackage, out)
+                    : exportService.export(targets, options, arguments.outDir, arguments.mapperPackage, null);
+
+            for (Map.Entry<String, String> failure : result.getFailures().entrySet()) {
+                err.println("[실패] " + failure.getKey() + ": " + failure.getValue());
+            }
+            out.printf("%s -> 저장 %d개, 변경 없음 %d개, 실패 %d건 (생성 %dms, 저장 %dms, 전체 %dms)%n",
+                    arguments.outDir.toAbsolutePath(), result.getWrittenTables().size(), result.getUnchangedTables(),
+                    result.getFailures().size(), result.getGenerateMillis(), result.getWriteMillis(),
+                    (System.nanoTime() - start) / 1_000_000);
+            if (watchService != null) {
+                watch(arguments, watchService, exportService, out, err);
+            }
+            return result.getFailures().isEmpty() ? EXIT_OK : EXIT_FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            err.println("생성이 중단되었습니다.");
+            return EXIT_FAILED;
+        } catch (Exception e) {
+            // 로거는 오류 시에만 가져옴 (도움말/인자 오류 때 log4j 초기화 비용을 들이지 않도록)
+            Logger logger = LogManager.getLogger(MapperCli.class);
+            logger.error("[CLI] 매퍼 생성 중 오류가 발생했습니다.", e);
+            err.println("매퍼 생성 실패: " + e.getMessage());
+            return EXIT_FAILED;
+        }
+    }
+
+    static Arguments parseArguments(String[] args) {
+        Arguments arguments = new Arguments();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "-h":
+                case "--help":
+                    arguments.help = true;
+                    return arguments;
+                case "--config":
+                    arguments.configPath = value(args, ++i, arg);
+                    break;
+                case "--template":
+                    arguments.templatePath = value(args, ++i, arg);
+                    break;
+                case "--mapper-package":
+                    arguments.mapperPackage = value(args, ++i, arg);
+                    break;
+                case "--out":
+                    arguments.outDir = Path.of(value(args, ++i, arg));
+                    break;
+                case "--tables":
+                    addTables(arguments, value(args, ++i, arg));
+                    break;
+                case "--all":
+                    arguments.allTables = true;
+                    break;
+                case "--param-type":
+                    String type = value(args, ++i, arg);
+                    if (type.equalsIgnoreCase("model")) {
+                        arguments.options.setParameterTypeModel(true);
+                    } else if (type.equalsIgnoreCase("hashmap")) {
+                        arguments.options.setParameterTypeModel(false);
+                    } else {
+                        throw new IllegalArgumentException("--param-type은 model 또는 hashmap이어야 합니다: " + type);
+                    }
+                    break;
+                case "--if-update":
+                    arguments.options.setUseIfUpdate(true);
+                    break;
+                case "--no-if-update":
+                    arguments.options.setUseIfUpdate(false);
+                    break;
+                case "--if-where":
+                    arguments.options.setUseIfWhere(true);
+                    break;
+                case "--no-if-where":
+                    arguments.options.setUseIfWhere(false);
+                    break;
+                case "--jdbc-type":
+                    arguments.options.setUseJdbcType(true);
+                    break;
+                case "--no-jdbc-type":
+                    arguments.options.setUseJdbcType(false);
+                    break;
+                case "--result-map":
+                    arguments.options.setUseResultMap(true);
+                    break;
+                case "--no-result-map":
+                    arguments.options.setUseResultMap(false);
+                    break;
+                case "--select-by-index":
+                    arguments.options.setUseSelectByIndex(true);
+                    break;
+                case "--select-stream":
+                    arguments.options.setUseSelectStream(true);
+                    break;
+                case "--select-page":
+                    arguments.options.setUseSelectPage(true);
+                    break;
+                case "--insert-batch":
+                    arguments.options.setUseInsertBatch(true);
+                    break;
+                case "--merge":
+                    arguments.options.setUseMerge(true);
+                    break;
+                case "--by-pk-list":
+                    arguments.options.setUseByPkList(true);
+                    break;
+                case "--batch-size":
+                    arguments.options.setBatchSize(positiveInt(value(args, ++i, arg), arg));
+                    arguments.batchSizeSet = true;
+                    break;
+                case "--explain":
+                    arguments.explain = true;
+                    break;
+                case "--watch":
+                    arguments.watchSeconds = positiveInt(value(args, ++i, arg), arg);
+                    break;
+                default:
+                    if (arg.startsWith("-")) {
+                        throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+                    }
+                    addTables(arguments, arg);
+            }
+        }
+
+        if (arguments.outDir == null) {
+            throw new IllegalArgumentException("--out 디렉터리를 지정해주세요.");
+        }
+        if (arguments.allTables == !arguments.tables.isEmpty()) {
+            throw new IllegalArgumentException("테이블명/패턴 또는 --all 중 하나를 지정해주세요.");
+        }
+        return arguments;
+    }
+
+    // 생성한 매퍼마다 실행 계획 주석을 단 뒤 내보냄 (경고는 테이블.구문 단위로 출력)
+    private static MapperExportService.ExportResult exportWithPlans(List<String> targets, MapperOptions options, Config config,
+                                                                    BatchMapperService batchMapperService, TableInfoService tableInfoService,
+                                                                    MapperExportService exportService, Path outDir, String mapperPackage,
+                                                                    PrintStream out) throws Exception {
+        long generateStart = System.nanoTime();
+        BatchMapperService.BatchResult generated = batchMapperService.generateAll(targets, options, null);
+        Config.Plan plan = config.getPlan() == null ? new Config.Plan() : config.getPlan();
+        PlanAnalysisService planAnalysisService = new PlanAnalysisService(new OraclePlanProvider(), plan.fullScanWarnRows);
+
+        Map<String, String> annotated = new LinkedHashMap<>();
+        Map<String, String> failures = new LinkedHashMap<>(generated.getFailures());
+        for (Map.Entry<String, String> entry : generated.getMappers().entrySet()) {
+            String table = entry.getKey();
+            try {
+                List<PlanAnalysisService.StatementPlan> plans = planAnalysisService.analyze(entry.getValue(), tableInfoService.fetchColumns(table));
+                for (PlanAnalysisService.StatementPlan statementPlan : plans) {
+                    for (String warning : statementPlan.getWarnings()) {
+                        out.println("[계획 경고] " + table + "." + statementPlan.getId() + ": " + warning);
+                    }
+                    if (statementPlan.getError() != null) {
+                        out.println("[계획 오류] " + table + "." + statementPlan.getId() + ": " + statementPlan.getError());
+                    }
+                }
+                annotated.put(table, PlanAnalysisService.annotate(entry.getValue(), plans));
+            } catch (Exception e) {
+                failures.put(table, "실행 계획 확인 실패: " + e.getMessage());
+            }
+        }
+        long generateMillis = (System.nanoTime() - generateStart) / 1_000_000;
+
+        MapperExportService.ExportResult written = exportService.exportGenerated(annotated, outDir, mapperPackage, null);
+        failures.putAll(written.getFailures());
+        return new MapperExportService.ExportResult(written.getWrittenTables(), written.getUnchangedTables(), failures,
+                generateMillis, written.getWriteMillis());
+    }
+
+    // 중단될 때까지 주기적으로 DDL 변경을 확인하고, 대상 테이블 중 바뀐 테이블의 파일만 다시 저장
+    private static void watch(Arguments arguments, SchemaWatchService watchService, MapperExportService exportService,
+                              PrintStream out, PrintStream err) throws InterruptedException {
+        out.printf("스키마 변경 감시 중 (%d초 간격, Ctrl+C로 종료)%n", arguments.watchSeconds);
+        while (true) {
+            Thread.sleep(arguments.watchSeconds * 1000);
+            try {
+                SchemaWatchService.DriftReport report = watchService.poll();
+                if (report == null) {
+                    continue;
+                }
+                Map<String, String> mappers = new LinkedHashMap<>();
+                for (SchemaWatchService.TableDrift drift : report.getTables()) {
+                    if (!isTarget(arguments, drift.getTableName())) {
+                        continue;
+                    }
+                    out.println("[" + drift.getKind() + "] " + drift.getTableName()
+                            + (drift.getChanges().isEmpty() ? "" : " : " + String.join(", ", drift.getChanges())));
+                    if (drift.getMapper() != null) {
+                        mappers.put(drift.getTableName(), drift.getMapper());
+                    }
+                }
+                if (!mappers.isEmpty()) {
+                    MapperExportService.ExportResult result = exportService.exportGenerated(mappers, arguments.outDir, arguments.mapperPackage, null);
+                    for (Map.Entry<String, String> failure : result.getFailures().entrySet()) {
+                        err.println("[실패] " + failure.getKey() + ": " + failure.getValue());
+                    }
+                    out.printf("스키마 변경 반영: 저장 %d개, 변경 없음 %d개 (%s)%n",
+                            result.getWrittenTables().size(), result.getUnchangedTables(), report.getSummary());
+                }
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                // 일시적인 연결 오류 등은 다음 주기에 다시 시도
+                err.println("스키마 변경 확인 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    // 지정한 테이블명/패턴에 해당하는 테이블인지 (--all이면 전부)
+    private static boolean isTarget(Arguments arguments, String tableName) {
+        if (arguments.allTables) {
+            return true;
+        }
+        ColumnInfo table = new ColumnInfo();
+        table.setTable_nm(tableName);
+        for (String target : arguments.tables) {
+            if (isPattern(target) ? !BatchMapperService.matchTables(List.of(table), target).isEmpty() : target.equals(tableName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 대상 테이블명 목록, 스키마 전체이면 null (테이블 목록 없이 한 번에 조회)
+    private static List<String> resolveTables(Arguments arguments, TableInfoService tableInfoService) throws Exception {
+        if (arguments.allTables) {
+            return null;
+        }
+        boolean hasPattern = arguments.tables.stream().anyMatch(MapperCli::isPattern);
+        if (!hasPattern) {
+            // 테이블명만 지정한 경우 전체 테이블 목록 조회를 생략
+            return new ArrayList<>(arguments.tables);
+        }
+
+        List<ColumnInfo> allTables = tableInfoService.getAllTableNames();
+        Set<String> targets = new LinkedHashSet<>();
+        for (String table : arguments.tables) {
+            if (isPattern(table)) {
+                targets.addAll(BatchMapperService.matchTables(allTables, table));
+            } else {
+                targets.add(table);
+            }
+        }
+        return new ArrayList<>(targets);
+    }
+
+    private static MapperTemplate loadTemplate(String templatePath, Config config) throws Exception {
+        String path = templatePath;
+        if (path == null && config.getTemplate() != null) {
+            path = config.getTemplate().path;
+        }
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        return MapperTemplate.load(Path.of(path));
+    }
+
+    private static void addTables(Arguments arguments, String value) {
+        for (String table : value.split(",")) {
+            if (!table.isBlank()) {
+                arguments.tables.add(table.trim().toUpperCase());
+            }
+        }
+    }
+
+    private static boolean isPattern(String table) {
+        return table.indexOf('*') >= 0 || table.indexOf('%') >= 0 || table.indexOf('?') >= 0;
+    }
+
+    private static int positiveInt(String value, String option) {
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(option + "에는 숫자를 지정해주세요: " + value);
+        }
+        if (number <= 0) {
+            throw new IllegalArgumentException(option + "에는 1 이상의 값을 지정해주세요: " + value);
+        }
+        return number;
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length || args[index].startsWith("--")) {
+            throw new IllegalArgumentException(option + " 옵션에 값이 필요합니다.");
+        }
+        return args[index];
+    }
+}
@@ -1,13 +1,26 @@
 package org.dev.mybatisautomapper.dao;
 
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.SqlSession;
 import org.dev.mybatisautomapper.mapper.ColumnMapper;
 import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.IndexInfo;
+import org.dev.mybatisautomapper.model.TableDdlInfo;
+import org.dev.mybatisautomapper.model.TableDdlSummary;
 import org.dev.mybatisautomapper.util.MyBatisUtil;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ColumnDao {
+    // Oracle IN 절 최대 항목 수
+    private static final int IN_LIST_LIMIT = 1000;
+
     // SqlSession을 직접 매개변수로 받아서 트랜잭션 관리를 Service 계층에 위임하거나
     // 각 DAO 메서드 내에서 SqlSession을 열고 닫는 방법 (현재 Service 방식과 유사)
     public List<ColumnInfo> selectColumnsByTableName(String tableName) {
@@ -27,4 +40,160 @@ public class ColumnDao {
             return session.getMapper(ColumnMapper.class).selectAllTableNames();
         }
     }
+
+    /**
+     * 현재 스키마의 모든 테이블과 마지막 DDL 변경 시각을 조회합니다.
+     * @return 테이블별 DDL 변경 시각 리스트
+     */
+    public List<TableDdlInfo> selectTableDdlTimes() {
+        try (SqlSession session = MyBatisUtil.getFactory().openSession()) {
+            return session.getMapper(ColumnMapper.class).selectTableDdlTimes(null);
+        }
+    }
+
+    /**
+     * 마지막 DDL 변경 시각이 since 이후(같은 시각 포함)인 테이블만 조회합니다.
+     * @param since 기준 시각
+     * @return 테이블별 DDL 변경 시각 리스트
+     */
+    public List<TableDdlInfo> selectTableDdlTimesSince(Date since) {
+        try (SqlSession session = MyBatisUtil.getFactory().openSession()) {
+            return session.getMapper(ColumnMapper.class).selectTableDdlTimes(since);
+        }
+    }
+
+    /**
+     * 스키마 전체의 DDL 변경 요약(테이블 수, DDL 변경 시각 합계/최댓값)을 1행으로 조회합니다.
+     * @return DDL 변경 요약
+     */
+    public TableDdlSummary selectTableDdlSummary() {
+        try (SqlSession session = MyBatisUtil.getFactory().openSession()) {
+            return session.getMapper(ColumnMapper.class).selectTableDdlSummary();
+        }
+    }
+
+    /**
+     * 한 세션에서 연결 정보를 확인하고, 테이블 목록과 DDL 변경 시각을 함께 조회합니다.
+     * (앱 시작 시 연결 확인, 메타데이터, 테이블 목록을 세션 하나와 조회 한 번으로 처리)
+     * @return 연결 정보와 테이블별 DDL 변경 시각
+     */
+    public ConnectionCheck checkConnectionAndSelectTableDdlTimes() throws SQLException {
+        try (SqlSession session = MyBatisUtil.getFactory().openSession()) {
+            String connectionInfo = MyBatisUtil.describeConnection(session.getConnection());
+            List<TableDdlInfo> tables = session.getMapper(ColumnMapper.class).selectTableDdlTimes(null);
+            return new ConnectionCheck(connectionInfo, tables);
+        }
+    }
+
+    /**
+     * 연결 확인 결과 (연결 정보 문자열 + 테이블별 DDL 변경 시각)
+     */
+    public static class ConnectionCheck {
+        private final String connectionInfo;
+        private final List<TableDdlInfo> tables;
+
+        public ConnectionCheck(String connectionInfo, List<TableDdlInfo> tables) {
+            this.connectionInfo = connectionInfo;
+            this.tables = tables;
+        }
+
+        public String getConnectionInfo() {
+            return connectionInfo;
+        }
+
+        public List<TableDdlInfo> getTables() {
+            return tables;
+        }
+    }
+
+    /**
+     * 여러 테이블의 컬럼 정보를 한 세션에서 일괄 조회하여 테이블별로 묶습니다.
+     * - 결과는 ResultHandler로 스트리밍되며, TABLE_NM이 바뀔 때마다 새 그룹을 시작
+     * - 테이블명 목록은 Oracle IN 절 제한(1000개)에 맞춰 나누어 조회
+     * @param tableNames 조회할 테이블명 리스트 (null이면 스키마 전체)
+     * @param tableListener 테이블 하나의 컬럼 수신이 끝날 때마다 호출 (null 허용)
+     * @return 테이블명 -> 컬럼 리스트 (조회 순서 유지)
+     */
+    public Map<String, List<ColumnInfo>> selectColumnsByTableNames(List<String> tableNames, TableColumnsListener tableListener) {
+        GroupingHandler handler = new GroupingHandler(tableListener);
+        try (SqlSession session = MyBatisUtil.getFactory().openSession()) {
+            ColumnMapper mapper = session.getMapper(ColumnMapper.class);
+            if (tableNames == null) {
+                mapper.selectColumnsBulk(null, handler);
+            } else {
+                for (int from = 0; from < tableNames.size(); from += IN_LIST_LIMIT) {
+                    List<String> chunk = tableNames.subList(from, Math.min(from + IN_LIST_LIMIT, tableNames.size()));
+                    mapper.selectColumnsBulk(new ArrayList<>(chunk), handler);
+                }
+            }
+        }
+        handler.flush(); // 마지막 테이블 완료 처리
+        return handler.columnsByTable;
+    }
+
+    /**
+     * 여러 테이블의 인덱스 컬럼 정보를 한 세션에서 조회하여 테이블별로 묶습니다.
+     * - 테이블명 목록은 Oracle IN 절 제한(1000개)에 맞춰 나누어 조회
+     * @param tableNames 조회할 테이블명 리스트 (null이면 스키마 전체)
+     * @return 테이블명 -> 인덱스 컬럼 리스트 (INDEX_NAME, COLUMN_POSITION 순, 인덱스가 없는 테이블은 키 없음)
+     */
+    public Map<String, List<IndexInfo>> selectIndexesByTableNames(List<String> tableNames) {
+        Map<String, List<IndexInfo>> indexesByTable = new LinkedHashMap<>();
+        try (SqlSession session = MyBatisUtil.getFactory().openSession()) {
+            ColumnMapper mapper = session.getMapper(ColumnMapper.class);
+            if (tableNames == null) {
+                groupByTable(mapper.selectIndexes(null), indexesByTable);
+            } else {
+                for (int from = 0; from < tableNames.size(); from += IN_LIST_LIMIT) {
+                    List<String> chunk = tableNames.subList(from, Math.min(from + IN_LIST_LIMIT, tableNames.size()));
+                    groupByTable(mapper.selectIndexes(new ArrayList<>(chunk)), indexesByTable);
+                }
+            }
+        }
+        return indexesByTable;
+    }
+
+    private static void groupByTable(List<IndexInfo> rows, Map<String, List<IndexInfo>> indexesByTable) {
+        for (IndexInfo row : rows) {
+            indexesByTable.computeIfAbsent(row.getTable_nm(), name -> new ArrayList<>()).add(row);
+        }
+    }
+
+    /**
+     * 일괄 조회 중 테이블 하나의 컬럼이 모두 수신되었을 때 호출되는 콜백
+     */
+    public interface TableColumnsListener {
+        void onTableLoaded(String tableName, List<ColumnInfo> columns);
+    }
+
+    // 정렬된(TABLE_NM, COLUMN_ID) 결과를 테이블 단위로 묶는 ResultHandler
+    private static class GroupingHandler implements ResultHandler<ColumnInfo> {
+        private final Map<String, List<ColumnInfo>> columnsByTable = new LinkedHashMap<>();
+        private final TableColumnsListener tableListener;
+        private String currentTable;
+        private List<ColumnInfo> currentColumns;
+
+        GroupingHandler(TableColumnsListener tableListener) {
+            this.tableListener = tableListener;
+        }
+
+        @Override
+        public void handleResult(ResultContext<? extends ColumnInfo> context) {
+            ColumnInfo col = context.getResultObject();
+            if (!col.getTable_nm().equals(currentTable)) {
+                flush();
+                currentTable = col.getTable_nm();
+                currentColumns = new ArrayList<>();
+                columnsByTable.put(currentTable, currentColumns);
+            }
+            currentColumns.add(col);
+        }
+
+        void flush() {
+            if (currentTable != null && tableListener != null) {
+                tableListener.onTableLoaded(currentTable, currentColumns);
+            }
+            currentTable = null;
+        }
+    }
 }
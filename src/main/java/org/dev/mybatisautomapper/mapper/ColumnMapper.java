@@ -1,11 +1,28 @@
 package org.dev.mybatisautomapper.mapper;
 
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.IndexInfo;
+import org.dev.mybatisautomapper.model.TableDdlInfo;
+import org.dev.mybatisautomapper.model.TableDdlSummary;
 
+import java.util.Date;
 import java.util.List;
 
 public interface ColumnMapper {
     List<ColumnInfo> selectColumns(String tableName);
 
+    // tableNames가 null이면 스키마 전체 조회, 결과는 handler로 한 행씩 전달 (TABLE_NM, COLUMN_ID 순)
+    void selectColumnsBulk(@Param("tableNames") List<String> tableNames, ResultHandler<ColumnInfo> handler);
+
     List<ColumnInfo> selectAllTableNames();
+
+    // since가 null이면 전체, 아니면 LAST_DDL_TIME이 since 이후(같은 시각 포함)인 테이블만 조회
+    List<TableDdlInfo> selectTableDdlTimes(@Param("since") Date since);
+
+    TableDdlSummary selectTableDdlSummary();
+
+    // tableNames가 null이면 스키마 전체, 결과는 TABLE_NM, INDEX_NAME, COLUMN_POSITION 순
+    List<IndexInfo> selectIndexes(@Param("tableNames") List<String> tableNames);
 }
@@ -0,0 +1,13 @@
+package org.dev.mybatisautomapper.mapper;
+
+import org.apache.ibatis.annotations.Param;
+import org.dev.mybatisautomapper.model.PlanStep;
+
+import java.util.List;
+
+public interface PlanMapper {
+    // sql의 실행 계획을 PLAN_TABLE에 기록 (sql은 그대로 이어 붙이므로 바인드 변수 없이 실행 가능한 SQL이어야 함)
+    void explainPlan(@Param("statementId") String statementId, @Param("sql") String sql);
+
+    List<PlanStep> selectPlan(@Param("statementId") String statementId);
+}
@@ -0,0 +1,71 @@
+package org.dev.mybatisautomapper.model;
+
+/**
+ * 인덱스 컬럼 정보 (USER_INDEXES + USER_IND_COLUMNS, 인덱스 컬럼 하나당 1행)
+ * - distinct_keys/num_rows는 통계가 수집되지 않았으면 null
+ */
+public class IndexInfo {
+    private String table_nm;
+    private String index_name;
+    private String uniqueness;      // UNIQUE 또는 NONUNIQUE
+    private Long distinct_keys;
+    private Long num_rows;
+    private String column_name;
+    private int column_position;
+
+    public String getTable_nm() {
+        return table_nm;
+    }
+
+    public void setTable_nm(String table_nm) {
+        this.table_nm = table_nm;
+    }
+
+    public String getIndex_name() {
+        return index_name;
+    }
+
+    public void setIndex_name(String index_name) {
+        this.index_name = index_name;
+    }
+
+    public String getUniqueness() {
+        return uniqueness;
+    }
+
+    public void setUniqueness(String uniqueness) {
+        this.uniqueness = uniqueness;
+    }
+
+    public Long getDistinct_keys() {
+        return distinct_keys;
+    }
+
+    public void setDistinct_keys(Long distinct_keys) {
+        this.distinct_keys = distinct_keys;
+    }
+
+    public Long getNum_rows() {
+        return num_rows;
+    }
+
+    public void setNum_rows(Long num_rows) {
+        this.num_rows = num_rows;
+    }
+
+    public String getColumn_name() {
+        return column_name;
+    }
+
+    public void setColumn_name(String column_name) {
+        this.column_name = column_name;
+    }
+
+    public int getColumn_position() {
+        return column_position;
+    }
+
+    public void setColumn_position(int column_position) {
+        this.column_position = column_position;
+    }
+}
@@ -0,0 +1,135 @@
+package org.dev.mybatisautomapper.model;
+
+import org.dev.mybatisautomapper.util.MapperTemplate;
+
+/**
+ * 매퍼 생성 옵션 (화면의 체크박스/라디오 버튼 상태를 한 번에 전달하기 위한 객체)
+ */
+public class MapperOptions {
+    private boolean useIfUpdate = true;          // UPDATE문에 <if> 구문 적용
+    private boolean useIfWhere = false;          // WHERE절에 <if> 구문 적용
+    private boolean parameterTypeModel = true;   // true이면 Model, false이면 HashMap
+    private boolean useJdbcType = true;          // 바인드 변수마다 jdbcType 명시 (예: #{company_cd, jdbcType=VARCHAR})
+    private boolean useResultMap = true;         // SELECT 결과를 자동 매핑(resultType) 대신 명시적 <resultMap>으로 매핑
+    private boolean useSelectByIndex = false;    // 인덱스별 조회(selectBy인덱스명) 구문 추가 (인덱스 정보를 함께 조회해야 함)
+    private boolean useSelectStream = false;     // 스트리밍 전체 조회(selectStream, fetchSize/FORWARD_ONLY) 구문 추가
+    private boolean useSelectPage = false;       // PK 순 keyset 페이지 조회(selectPage) 구문 추가
+    private boolean useInsertBatch = false;      // 다건 INSERT(insertBatch) 구문 추가
+    private boolean useMerge = false;            // MERGE(merge, mergeBatch) 구문 추가
+    private boolean useByPkList = false;         // PK 목록 다건 조회/수정/삭제(selectByPkList, updateByPkList, deleteByPkList) 구문 추가
+    private int batchSize = 500;                 // 다건 구문 한 번에 처리할 최대 건수 (바인드 수 제한으로 더 작아질 수 있음)
+    private MapperTemplate template;             // 사용자 정의 템플릿 (null이면 기본 생성기와 기본 컬럼 규칙 사용)
+
+    public MapperOptions() {
+    }
+
+    public MapperOptions(boolean useIfUpdate, boolean useIfWhere, boolean parameterTypeModel) {
+        this.useIfUpdate = useIfUpdate;
+        this.useIfWhere = useIfWhere;
+        this.parameterTypeModel = parameterTypeModel;
+    }
+
+    public boolean isUseIfUpdate() {
+        return useIfUpdate;
+    }
+
+    public void setUseIfUpdate(boolean useIfUpdate) {
+        this.useIfUpdate = useIfUpdate;
+    }
+
+    public boolean isUseIfWhere() {
+        return useIfWhere;
+    }
+
+    public void setUseIfWhere(boolean useIfWhere) {
+        this.useIfWhere = useIfWhere;
+    }
+
+    public boolean isParameterTypeModel() {
+        return parameterTypeModel;
+    }
+
+    public void setParameterTypeModel(boolean parameterTypeModel) {
+        this.parameterTypeModel = parameterTypeModel;
+    }
+
+    public boolean isUseJdbcType() {
+        return useJdbcType;
+    }
+
+    public void setUseJdbcType(boolean useJdbcType) {
+        this.useJdbcType = useJdbcType;
+    }
+
+    public boolean isUseResultMap() {
+        return useResultMap;
+    }
+
+    public void setUseResultMap(boolean useResultMap) {
+        this.useResultMap = useResultMap;
+    }
+
+    public boolean isUseSelectByIndex() {
+        return useSelectByIndex;
+    }
+
+    public void setUseSelectByIndex(boolean useSelectByIndex) {
+        this.useSelectByIndex = useSelectByIndex;
+    }
+
+    public boolean isUseSelectStream() {
+        return useSelectStream;
+    }
+
+    public void setUseSelectStream(boolean useSelectStream) {
+        this.useSelectStream = useSelectStream;
+    }
+
+    public boolean isUseSelectPage() {
+        return useSelectPage;
+    }
+
+    public void setUseSelectPage(boolean useSelectPage) {
+        this.useSelectPage = useSelectPage;
+    }
+
+    public boolean isUseInsertBatch() {
+        return useInsertBatch;
+    }
+
+    public void setUseInsertBatch(boolean useInsertBatch) {
+        this.useInsertBatch = useInsertBatch;
+    }
+
+    public boolean isUseMerge() {
+        return useMerge;
+    }
+
+    public void setUseMerge(boolean useMerge) {
+        this.useMerge = useMerge;
+    }
+
+    public boolean isUseByPkList() {
+        return useByPkList;
+    }
+
+    public void setUseByPkList(boolean useByPkList) {
+        this.useByPkList = useByPkList;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public MapperTemplate getTemplate() {
+        return template;
+    }
+
+    public void setTemplate(MapperTemplate template) {
+        this.template = template;
+    }
+}
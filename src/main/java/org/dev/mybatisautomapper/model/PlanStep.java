@@ -0,0 +1,119 @@
+package org.dev.mybatisautomapper.model;
+
+/**
+ * 실행 계획 단계 하나 (PLAN_TABLE 1행)
+ * - table_rows는 테이블 접근 단계(TABLE ACCESS)의 테이블 통계 행 수, 통계가 없거나 다른 단계이면 null
+ */
+public class PlanStep {
+    private int id;
+    private Integer parent_id;
+    private int depth;
+    private String operation;       // 예: TABLE ACCESS, INDEX
+    private String options;         // 예: FULL, BY INDEX ROWID, UNIQUE SCAN
+    private String object_name;
+    private String object_type;
+    private Long cost;
+    private Long cardinality;
+    private Long table_rows;
+
+    public PlanStep() {
+    }
+
+    public PlanStep(int id, Integer parent_id, int depth, String operation, String options, String object_name,
+                    Long cost, Long cardinality, Long table_rows) {
+        this.id = id;
+        this.parent_id = parent_id;
+        this.depth = depth;
+        this.operation = operation;
+        this.options = options;
+        this.object_name = object_name;
+        this.cost = cost;
+        this.cardinality = cardinality;
+        this.table_rows = table_rows;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public Integer getParent_id() {
+        return parent_id;
+    }
+
+    public void setParent_id(Integer parent_id) {
+        this.parent_id = parent_id;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public String getOptions() {
+        return options;
+    }
+
+    public void setOptions(String options) {
+        this.options = options;
+    }
+
+    public String getObject_name() {
+        return object_name;
+    }
+
+    public void setObject_name(String object_name) {
+        this.object_name = object_name;
+    }
+
+    public String getObject_type() {
+        return object_type;
+    }
+
+    public void setObject_type(String object_type) {
+        this.object_type = object_type;
+    }
+
+    public Long getCost() {
+        return cost;
+    }
+
+    public void setCost(Long cost) {
+        this.cost = cost;
+    }
+
+    public Long getCardinality() {
+        return cardinality;
+    }
+
+    public void setCardinality(Long cardinality) {
+        this.cardinality = cardinality;
+    }
+
+    public Long getTable_rows() {
+        return table_rows;
+    }
+
+    public void setTable_rows(Long table_rows) {
+        this.table_rows = table_rows;
+    }
+
+    /** 연산 이름 (예: TABLE ACCESS FULL, INDEX UNIQUE SCAN) */
+    public String getOperationName() {
+        return options == null || options.isEmpty() ? operation : operation + " " + options;
+    }
+}
@@ -0,0 +1,36 @@
+package org.dev.mybatisautomapper.model;
+
+import java.util.Date;
+
+/**
+ * 테이블별 마지막 DDL 변경 시각 (USER_OBJECTS.LAST_DDL_TIME)
+ */
+public class TableDdlInfo {
+    private String table_nm;
+    private String table_comments;
+    private Date last_ddl_time;
+
+    public String getTable_nm() {
+        return table_nm;
+    }
+
+    public void setTable_nm(String table_nm) {
+        this.table_nm = table_nm;
+    }
+
+    public String getTable_comments() {
+        return table_comments;
+    }
+
+    public void setTable_comments(String table_comments) {
+        this.table_comments = table_comments;
+    }
+
+    public Date getLast_ddl_time() {
+        return last_ddl_time;
+    }
+
+    public void setLast_ddl_time(Date last_ddl_time) {
+        this.last_ddl_time = last_ddl_time;
+    }
+}
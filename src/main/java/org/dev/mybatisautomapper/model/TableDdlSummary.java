@@ -0,0 +1,47 @@
+package org.dev.mybatisautomapper.model;
+
+import java.util.Date;
+
+/**
+ * 스키마 전체의 DDL 변경 요약 (스키마 변경 감시용, 테이블 수와 무관하게 1행)
+ * - 테이블이 생성/삭제되면 table_count 또는 object_id_sum이 바뀜
+ * - 어느 테이블이든 DDL이 바뀌면 LAST_DDL_TIME이 늘어나므로 ddl_time_sum이 바뀜
+ */
+public class TableDdlSummary {
+    private long table_count;
+    private long object_id_sum;
+    private long ddl_time_sum;      // LAST_DDL_TIME(초 단위) 합계
+    private Date max_ddl_time;
+
+    public long getTable_count() {
+        return table_count;
+    }
+
+    public void setTable_count(long table_count) {
+        this.table_count = table_count;
+    }
+
+    public long getObject_id_sum() {
+        return object_id_sum;
+    }
+
+    public void setObject_id_sum(long object_id_sum) {
+        this.object_id_sum = object_id_sum;
+    }
+
+    public long getDdl_time_sum() {
+        return ddl_time_sum;
+    }
+
+    public void setDdl_time_sum(long ddl_time_sum) {
+        this.ddl_time_sum = ddl_time_sum;
+    }
+
+    public Date getMax_ddl_time() {
+        return max_ddl_time;
+    }
+
+    public void setMax_ddl_time(Date max_ddl_time) {
+        this.max_ddl_time = max_ddl_time;
+    }
+}
@@ -1,5 +1,19 @@
 package org.dev.mybatisautomapper.service;
 
+import java.util.function.Consumer;
+
 public interface AiService {
     String generate(String prompt) throws Exception;
+
+    /**
+     * 응답을 받는 대로 조각(토큰) 단위로 onToken에 넘기며 생성합니다.
+     * 스트리밍을 지원하지 않는 구현은 전체 응답을 한 번에 넘깁니다.
+     * @param onToken 받은 응답 조각 (호출 스레드에서 호출되며, 예외를 던지면 생성을 중단)
+     * @return 전체 응답
+     */
+    default String generate(String prompt, Consumer<String> onToken) throws Exception {
+        String result = generate(prompt);
+        onToken.accept(result);
+        return result;
+    }
 }
@@ -0,0 +1,399 @@
+package org.dev.mybatisautomapper.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.IndexInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
+import org.dev.mybatisautomapper.util.MybatisMapperGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 테이블(스키마 전체 또는 패턴 일치 테이블)의 매퍼를 한 번에 생성합니다.
+ * - 메타데이터 조회는 TableInfoService(ColumnMapper)의 일괄 조회를 사용
+ * - 매퍼 생성은 ForkJoinPool에서 모든 코어를 사용하여 병렬로 수행
+ * - 파일 저장(writeAll)은 전체 결과를 문자열로 합치지 않고 묶음 단위로 바로 출력
+ */
+public class BatchMapperService {
+    private static final Logger logger = LogManager.getLogger(BatchMapperService.class);
+
+    // 모든 코어를 사용하는 생성 전용 풀 (워커 스레드는 데몬이므로 종료 처리 불필요)
+    private static final ForkJoinPool GENERATOR_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    // 스트리밍 저장 시 한 번에 병렬 생성할 테이블 수 (이만큼의 생성 결과만 메모리에 유지)
+    private static final int WRITE_WINDOW = 64;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final TableInfoService tableInfoService;
+
+    /**
+     * 진행 상황 콜백 (여러 워커 스레드에서 호출될 수 있음)
+     */
+    public interface ProgressListener {
+        /**
+         * @param phase 현재 단계 (예: "메타데이터 조회", "매퍼 생성")
+         * @param done 처리 완료된 테이블 수
+         * @param total 전체 테이블 수
+         * @param tablesPerSecond 현재 단계의 처리량 (tables/sec)
+         */
+        void onProgress(String phase, int done, int total, double tablesPerSecond);
+    }
+
+    /**
+     * 일괄 생성 결과
+     */
+    public static class BatchResult {
+        private final Map<String, String> mappers;      // 테이블명 -> 생성된 매퍼 (입력 순서 유지)
+        private final Map<String, String> failures;     // 테이블명 -> 실패 사유
+        private final long fetchMillis;
+        private final long generateMillis;
+
+        public BatchResult(Map<String, String> mappers, Map<String, String> failures, long fetchMillis, long generateMillis) {
+            this.mappers = mappers;
+            this.failures = failures;
+            this.fetchMillis = fetchMillis;
+            this.generateMillis = generateMillis;
+        }
+
+        public Map<String, String> getMappers() {
+            return mappers;
+        }
+
+        public Map<String, String> getFailures() {
+            return failures;
+        }
+
+        public long getFetchMillis() {
+            return fetchMillis;
+        }
+
+        public long getGenerateMillis() {
+            return generateMillis;
+        }
+
+        public long getTotalMillis() {
+            return fetchMillis + generateMillis;
+        }
+
+        /** 전체(조회 + 생성) 기준 처리량 */
+        public double getTablesPerSecond() {
+            return tablesPerSecond(mappers.size(), getTotalMillis());
+        }
+
+        /** 생성된 매퍼 전체를 테이블별 구분 주석과 함께 하나의 문자열로 합칩니다. */
+        public String toCombinedString() {
+            StringBuilder sb = new StringBuilder();
+            try {
+                writeTo(sb);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return sb.toString();
+        }
+
+        /** 생성된 매퍼 전체를 테이블별 구분 주석과 함께 out에 씁니다. */
+        public void writeTo(Appendable out) throws IOException {
+            for (Map.Entry<String, String> entry : mappers.entrySet()) {
+                appendTableHeader(out, entry.getKey());
+                out.append(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 스트리밍 저장 결과 (생성된 매퍼 문자열은 보관하지 않음)
+     */
+    public static class WriteResult {
+        private final int writtenTables;
+        private final Map<String, String> failures;     // 테이블명 -> 실패 사유
+        private final long fetchMillis;
+        private final long generateMillis;
+
+        public WriteResult(int writtenTables, Map<String, String> failures, long fetchMillis, long generateMillis) {
+            this.writtenTables = writtenTables;
+            this.failures = failures;
+            this.fetchMillis = fetchMillis;
+            this.generateMillis = generateMillis;
+        }
+
+        public int getWrittenTables() {
+            return writtenTables;
+        }
+
+        public Map<String, String> getFailures() {
+            return failures;
+        }
+
+        public long getFetchMillis() {
+            return fetchMillis;
+        }
+
+        /** 생성 + 파일 쓰기 시간 */
+        public long getGenerateMillis() {
+            return generateMillis;
+        }
+
+        public long getTotalMillis() {
+            return fetchMillis + generateMillis;
+        }
+
+        public double getTablesPerSecond() {
+            return tablesPerSecond(writtenTables, getTotalMillis());
+        }
+    }
+
+    public BatchMapperService(TableInfoService tableInfoService) {
+        this.tableInfoService = tableInfoService;
+    }
+
+    /**
+     * 테이블 목록에서 패턴과 일치하는 테이블명만 골라냅니다.
+     * - '*' 또는 '%' : 임의의 문자열, '?' : 임의의 한 글자 ('_'는 테이블명에 흔하므로 와일드카드로 쓰지 않음)
+     * - 패턴이 비어 있으면 전체 테이블
+     * @param tables 테이블 목록 (selectAllTableNames 결과)
+     * @param pattern 테이블명 패턴 (대소문자 무시)
+     * @return 일치하는 테이블명 리스트
+     */
+    public static List<String> matchTables(Collection<ColumnInfo> tables, String pattern) {
+        Pattern regex = toRegex(pattern);
+        List<String> matched = new ArrayList<>();
+        for (ColumnInfo table : tables) {
+            String name = table.getTable_nm();
+            if (name != null && regex.matcher(name).matches()) {
+                matched.add(name);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 여러 테이블의 매퍼를 생성합니다.
+     * @param tableNames 대상 테이블명 리스트 (null이면 스키마 전체)
+     * @param options 생성 옵션
+     * @param listener 진행 상황 콜백 (null 허용, 스키마 전체 조회 중에는 total이 0으로 전달됨)
+     * @return 일괄 생성 결과
+     */
+    public BatchResult generateAll(List<String> tableNames, MapperOptions options, ProgressListener listener) throws InterruptedException {
+        Map<String, String> failures = new ConcurrentHashMap<>();
+
+        // --- 1. 메타데이터 일괄 조회 (테이블 1000개당 1회 왕복) ---
+        long fetchStart = System.nanoTime();
+        Map<String, List<ColumnInfo>> columnsByTable = fetchColumns(tableNames, failures, listener);
+        Map<String, List<IndexInfo>> indexesByTable = fetchIndexes(tableNames, options);
+        long fetchMillis = elapsedMillis(fetchStart);
+
+        // --- 2. 매퍼 병렬 생성 ---
+        long generateStart = System.nanoTime();
+        List<String> targets = new ArrayList<>(columnsByTable.keySet());
+        Map<String, String> generated = new ConcurrentHashMap<>();
+        AtomicInteger done = new AtomicInteger();
+        try {
+            GENERATOR_POOL.submit(() -> targets.parallelStream().forEach(tableName -> {
+                try {
+                    generated.put(tableName, MybatisMapperGenerator.generateMapper(tableName, columnsByTable.get(tableName),
+                            indexesByTable.getOrDefault(tableName, Collections.emptyList()), options));
+                } catch (Exception e) {
+                    logger.warn("[BATCH] 매퍼 생성 실패: {}", tableName, e);
+                    failures.put(tableName, String.valueOf(e.getMessage()));
+                }
+                notify(listener, "매퍼 생성", done.incrementAndGet(), targets.size(), generateStart);
+            })).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("매퍼 일괄 생성 중 오류가 발생했습니다.", e.getCause());
+        }
+        long generateMillis = elapsedMillis(generateStart);
+
+        // 입력 순서대로 결과 정렬
+        Map<String, String> mappers = new LinkedHashMap<>();
+        for (String tableName : targets) {
+            String mapper = generated.get(tableName);
+            if (mapper != null) {
+                mappers.put(tableName, mapper);
+            }
+        }
+
+        BatchResult result = new BatchResult(mappers, new LinkedHashMap<>(failures), fetchMillis, generateMillis);
+        logger.info("[BATCH] {}개 테이블 생성 완료 (실패 {}건, 조회 {}ms, 생성 {}ms, {} tables/sec)",
+                mappers.size(), failures.size(), fetchMillis, generateMillis, String.format("%.1f", result.getTablesPerSecond()));
+        return result;
+    }
+
+    /**
+     * 여러 테이블의 매퍼를 하나의 파일로 스트리밍하여 저장합니다. (UTF-8)
+     * @param tableNames 대상 테이블명 리스트 (null이면 스키마 전체)
+     * @param options 생성 옵션
+     * @param file 저장할 파일 (이미 있으면 덮어씀)
+     * @param listener 진행 상황 콜백 (null 허용)
+     * @return 저장 결과
+     */
+    public WriteResult writeAllToFile(List<String> tableNames, MapperOptions options, Path file, ProgressListener listener) throws IOException, InterruptedException {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE)) {
+            return writeAll(tableNames, options, out, listener);
+        }
+    }
+
+    /**
+     * 여러 테이블의 매퍼를 out에 순서대로 씁니다. (toCombinedString과 같은 형식)
+     * 전체 결과를 하나의 문자열로 만들지 않고, WRITE_WINDOW개 테이블씩 병렬로 생성한 뒤 바로 출력합니다.
+     * (메모리에는 한 묶음의 생성 결과만 유지됨)
+     * @param tableNames 대상 테이블명 리스트 (null이면 스키마 전체)
+     * @param options 생성 옵션
+     * @param out 출력 대상 (호출한 쪽에서 닫음)
+     * @param listener 진행 상황 콜백 (null 허용)
+     * @return 저장 결과
+     */
+    public WriteResult writeAll(List<String> tableNames, MapperOptions options, Writer out, ProgressListener listener) throws IOException, InterruptedException {
+        Map<String, String> failures = new ConcurrentHashMap<>();
+
+        // --- 1. 메타데이터 일괄 조회 ---
+        long fetchStart = System.nanoTime();
+        Map<String, List<ColumnInfo>> columnsByTable = fetchColumns(tableNames, failures, listener);
+        Map<String, List<IndexInfo>> indexesByTable = fetchIndexes(tableNames, options);
+        long fetchMillis = elapsedMillis(fetchStart);
+
+        // --- 2. 묶음 단위 병렬 생성 + 순서대로 출력 ---
+        long generateStart = System.nanoTime();
+        List<String> targets = new ArrayList<>(columnsByTable.keySet());
+        // 묶음마다 재사용하는 테이블별 출력 버퍼
+        StringBuilder[] buffers = new StringBuilder[Math.min(WRITE_WINDOW, targets.size())];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new StringBuilder(8192);
+        }
+        int written = 0;
+        for (int from = 0; from < targets.size(); from += WRITE_WINDOW) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("일괄 생성이 취소되었습니다.");
+            }
+            int windowStart = from;
+            int windowSize = Math.min(WRITE_WINDOW, targets.size() - from);
+            try {
+                GENERATOR_POOL.submit(() -> IntStream.range(0, windowSize).parallel().forEach(i -> {
+                    String tableName = targets.get(windowStart + i);
+                    StringBuilder buffer = buffers[i];
+                    buffer.setLength(0);
+                    try {
+                        MybatisMapperGenerator.writeMapper(buffer, tableName, columnsByTable.get(tableName),
+                                indexesByTable.getOrDefault(tableName, Collections.emptyList()), options);
+                    } catch (Exception e) {
+                        logger.warn("[BATCH] 매퍼 생성 실패: {}", tableName, e);
+                        failures.put(tableName, String.valueOf(e.getMessage()));
+                    }
+                })).get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("매퍼 일괄 생성 중 오류가 발생했습니다.", e.getCause());
+            }
+
+            for (int i = 0; i < windowSize; i++) {
+                String tableName = targets.get(windowStart + i);
+                if (failures.containsKey(tableName)) {
+                    continue;
+                }
+                appendTableHeader(out, tableName);
+                out.append(buffers[i]);
+                written++;
+            }
+            notify(listener, "매퍼 생성", windowStart + windowSize, targets.size(), generateStart);
+        }
+        out.flush();
+        long generateMillis = elapsedMillis(generateStart);
+
+        WriteResult result = new WriteResult(written, new LinkedHashMap<>(failures), fetchMillis, generateMillis);
+        logger.info("[BATCH] {}개 테이블 스트리밍 저장 완료 (실패 {}건, 조회 {}ms, 생성/저장 {}ms)",
+                written, failures.size(), fetchMillis, generateMillis);
+        return result;
+    }
+
+    // 컬럼 정보 일괄 조회 (테이블명 목록이 있으면 그 순서를 유지하고, 컬럼이 없는 테이블은 실패로 기록)
+    private Map<String, List<ColumnInfo>> fetchColumns(List<String> tableNames, Map<String, String> failures, ProgressListener listener) throws InterruptedException {
+        int total = tableNames == null ? 0 : tableNames.size();
+        long fetchStart = System.nanoTime();
+        AtomicInteger fetched = new AtomicInteger();
+        Map<String, List<ColumnInfo>> columnsByTable = tableInfoService.fetchColumns(tableNames,
+                (tableName, columns) -> notify(listener, "메타데이터 조회", fetched.incrementAndGet(), total, fetchStart));
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("일괄 생성이 취소되었습니다.");
+        }
+        if (tableNames == null) {
+            return columnsByTable;
+        }
+        // 요청 순서를 유지하고, 컬럼이 조회되지 않은 테이블은 실패로 기록
+        Map<String, List<ColumnInfo>> ordered = new LinkedHashMap<>();
+        for (String tableName : tableNames) {
+            List<ColumnInfo> cols = columnsByTable.get(tableName);
+            if (cols == null || cols.isEmpty()) {
+                failures.put(tableName, "컬럼 정보를 찾을 수 없습니다.");
+            } else {
+                ordered.put(tableName, cols);
+            }
+        }
+        return ordered;
+    }
+
+    // 인덱스 정보 일괄 조회 (인덱스별 조회 구문을 만들 때만, 아니면 빈 맵)
+    private Map<String, List<IndexInfo>> fetchIndexes(List<String> tableNames, MapperOptions options) throws InterruptedException {
+        if (!options.isUseSelectByIndex()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<IndexInfo>> indexesByTable = tableInfoService.fetchIndexes(tableNames);
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("일괄 생성이 취소되었습니다.");
+        }
+        return indexesByTable;
+    }
+
+    // 테이블별 구분 주석
+    private static void appendTableHeader(Appendable out, String tableName) throws IOException {
+        out.append("<!-- ===== ").append(tableName).append(" ===== -->\n");
+    }
+
+    private static void notify(ProgressListener listener, String phase, int done, int total, long startNanos) {
+        if (listener != null) {
+            listener.onProgress(phase, done, total, tablesPerSecond(done, elapsedMillis(startNanos)));
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static double tablesPerSecond(int count, long millis) {
+        return millis <= 0 ? count : count * 1000.0 / millis;
+    }
+
+    // 테이블명 패턴을 정규식으로 변환 (예: ME_*_INFO -> ^ME_.*_INFO$)
+    private static Pattern toRegex(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            return Pattern.compile(".*");
+        }
+        StringBuilder regex = new StringBuilder();
+        for (char c : pattern.trim().toUpperCase().toCharArray()) {
+            if (c == '*' || c == '%') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,178 @@
+package org.dev.mybatisautomapper.service;
+
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.util.QueryCancelledException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 테이블별 컬럼 정보 메모리 캐시
+ * - 최대 테이블 수를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 저장 후 TTL이 지나면 만료되어 다시 조회
+ * - 같은 테이블에 대한 동시 요청은 하나의 조회(in-flight)를 공유 (single-flight)
+ *   (공유하던 조회가 요청자의 취소로 중단되면 기다리던 요청이 다시 조회)
+ */
+public class ColumnCache {
+    public static final int DEFAULT_MAX_TABLES = 200;
+    public static final long DEFAULT_TTL_SECONDS = 600;
+
+    private final long ttlMillis;
+    private final Map<String, CacheEntry> entries;   // accessOrder LinkedHashMap (this로 동기화)
+    // 테이블별 진행 중인 조회. 등록된 future가 그 테이블의 세대(epoch) 역할을 하며,
+    // invalidate가 등록을 제거하면 진행 중이던 조회 결과는 캐시에 넣지 않음 (다른 테이블의 무효화와는 무관)
+    private final ConcurrentHashMap<String, CompletableFuture<List<ColumnInfo>>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong sharedLoadCount = new AtomicLong();
+
+    private static final class CacheEntry {
+        private final List<ColumnInfo> columns;
+        private final long expiresAt;
+
+        private CacheEntry(List<ColumnInfo> columns, long expiresAt) {
+            this.columns = columns;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public ColumnCache(int maxTables, long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxTables;
+            }
+        };
+    }
+
+    /**
+     * 캐시에서 컬럼 정보를 가져오고, 없거나 만료되었으면 loader로 조회하여 저장합니다.
+     * 같은 테이블을 이미 다른 스레드가 조회 중이면 그 결과를 기다려 함께 사용합니다.
+     * @param tableName 테이블 이름
+     * @param loader 캐시 미스 시 실제 조회 함수
+     * @return 컬럼 리스트 (수정 불가)
+     */
+    public List<ColumnInfo> get(String tableName, Function<String, List<ColumnInfo>> loader) {
+        List<ColumnInfo> cached = lookup(tableName);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+        missCount.incrementAndGet();
+
+        CompletableFuture<List<ColumnInfo>> mine = new CompletableFuture<>();
+        CompletableFuture<List<ColumnInfo>> running = inFlight.putIfAbsent(tableName, mine);
+        if (running != null) {
+            // 다른 스레드의 조회 결과를 공유
+            sharedLoadCount.incrementAndGet();
+            try {
+                return await(running);
+            } catch (RuntimeException e) {
+                // 공유하던 조회가 그 요청자의 취소로 중단되었으면 직접 다시 조회
+                if (QueryCancelledException.isCause(e)) {
+                    return get(tableName, loader);
+                }
+                throw e;
+            }
+        }
+
+        try {
+            // 미스 확인 직후 다른 스레드가 조회를 끝냈을 수 있으므로 한 번 더 확인
+            List<ColumnInfo> loadedMeanwhile = lookup(tableName);
+            if (loadedMeanwhile != null) {
+                mine.complete(loadedMeanwhile);
+                return loadedMeanwhile;
+            }
+
+            List<ColumnInfo> loaded = Collections.unmodifiableList(loader.apply(tableName));
+            // 빈 결과(테이블 없음)는 곧 생성될 수 있으므로 캐시하지 않음
+            if (!loaded.isEmpty()) {
+                synchronized (this) {
+                    // 조회 중 이 테이블이 무효화되었으면(등록이 제거되었거나 새 조회로 바뀜) 무효화 이전 결과이므로 저장하지 않음
+                    if (inFlight.get(tableName) == mine) {
+                        entries.put(tableName, new CacheEntry(loaded, System.currentTimeMillis() + ttlMillis));
+                    }
+                }
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            // 기다리던 스레드가 다시 조회할 수 있도록 먼저 제거한 뒤 실패를 알림
+            inFlight.remove(tableName, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(tableName, mine);
+        }
+    }
+
+    /** 테이블 하나의 캐시를 무효화합니다. */
+    public void invalidate(String tableName) {
+        synchronized (this) {
+            inFlight.remove(tableName);
+            entries.remove(tableName);
+        }
+    }
+
+    /** 전체 캐시를 무효화합니다. */
+    public void invalidateAll() {
+        synchronized (this) {
+            inFlight.clear();
+            entries.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /** 진행 중인 조회를 공유하여 DB 조회를 생략한 횟수 */
+    public long getSharedLoadCount() {
+        return sharedLoadCount.get();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ColumnCache[size=%d, hit=%d, miss=%d, shared=%d]", size(), getHitCount(), getMissCount(), getSharedLoadCount());
+    }
+
+    private synchronized List<ColumnInfo> lookup(String tableName) {
+        CacheEntry entry = entries.get(tableName);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(tableName);
+            return null;
+        }
+        return entry.columns;
+    }
+
+    private static List<ColumnInfo> await(CompletableFuture<List<ColumnInfo>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package org.dev.mybatisautomapper.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dev.mybatisautomapper.model.MapperOptions;
+import org.dev.mybatisautomapper.util.MybatisMapperGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 생성된 매퍼를 테이블별 파일(&lt;테이블명&gt;.xml)로 내보냅니다.
+ * - 파일은 XML 선언/DOCTYPE/&lt;mapper namespace="패키지.모델명Mapper"&gt;를 갖춘 매퍼 문서이므로 그대로 MyBatis 매퍼로 사용 가능
+ * - 파일은 임시 파일에 쓴 뒤 이름 변경(move)으로 교체하므로, 중간에 실패해도 반쯤 쓰인 파일이 남지 않음
+ * - 대상 디렉터리의 매니페스트(MANIFEST_FILE)에 파일별 SHA-256을 보관하여, 내용이 같은 파일은 다시 쓰지 않음
+ *   (수정 시각이 바뀌지 않으므로 애플리케이션 빌드가 전체 재컴파일/리소스 재처리를 하지 않음)
+ */
+public class MapperExportService {
+    private static final Logger logger = LogManager.getLogger(MapperExportService.class);
+
+    /** 대상 디렉터리에 저장하는 매니페스트 파일명 (한 줄에 "sha256 크기 수정시각(ms) 파일명") */
+    public static final String MANIFEST_FILE = ".mapper-manifest";
+
+    private final BatchMapperService batchMapperService;
+
+    /**
+     * 내보내기 결과
+     */
+    public static class ExportResult {
+        private final List<String> writtenTables;       // 새로 쓰거나 내용이 바뀐 테이블
+        private final int unchangedTables;              // 내용이 같아 건너뛴 테이블 수
+        private final Map<String, String> failures;     // 테이블명 -> 실패 사유
+        private final long generateMillis;              // 메타데이터 조회 + 매퍼 생성
+        private final long writeMillis;                 // 해시 비교 + 파일 쓰기
+
+        public ExportResult(List<String> writtenTables, int unchangedTables, Map<String, String> failures, long generateMillis, long writeMillis) {
+            this.writtenTables = writtenTables;
+            this.unchangedTables = unchangedTables;
+            this.failures = failures;
+            this.generateMillis = generateMillis;
+            this.writeMillis = writeMillis;
+        }
+
+        public List<String> getWrittenTables() {
+            return writtenTables;
+        }
+
+        public int getUnchangedTables() {
+            return unchangedTables;
+        }
+
+        public Map<String, String> getFailures() {
+            return failures;
+        }
+
+        public long getGenerateMillis() {
+            return generateMillis;
+        }
+
+        public long getWriteMillis() {
+            return writeMillis;
+        }
+    }
+
+    // 매니페스트 한 줄
+    private static final class ManifestEntry {
+        private final String hash;
+        private final long size;
+        private final long modifiedMillis;
+
+        private ManifestEntry(String hash, long size, long modifiedMillis) {
+            this.hash = hash;
+            this.size = size;
+            this.modifiedMillis = modifiedMillis;
+        }
+
+        private static ManifestEntry of(String hash, Path file) throws IOException {
+            return new ManifestEntry(hash, Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        }
+
+        // 기록 이후 파일이 바뀌지 않았는지 (크기와 수정 시각으로 확인, 파일을 읽지 않음)
+        private boolean isUnmodified(Path file) throws IOException {
+            return Files.isRegularFile(file)
+                    && Files.size(file) == size
+                    && Files.getLastModifiedTime(file).toMillis() == modifiedMillis;
+        }
+    }
+
+    public MapperExportService(BatchMapperService batchMapperService) {
+        this.batchMapperService = batchMapperService;
+    }
+
+    /**
+     * 매퍼를 생성하여 테이블별 파일로 내보냅니다. 내용이 바뀐 파일만 씁니다.
+     * @param tableNames 대상 테이블명 리스트 (null이면 스키마 전체)
+     * @param options 생성 옵션
+     * @param targetDir 대상 디렉터리 (없으면 생성)
+     * @param mapperPackage namespace에 사용할 매퍼 인터페이스 패키지 (비어 있으면 패키지 없이 모델명Mapper)
+     * @param listener 진행 상황 콜백 (null 허용)
+     * @return 내보내기 결과
+     */
+    public ExportResult export(List<String> tableNames, MapperOptions options, Path targetDir, String mapperPackage,
+                               BatchMapperService.ProgressListener listener) throws IOException, InterruptedException {
+        long generateStart = System.nanoTime();
+        BatchMapperService.BatchResult generated = batchMapperService.generateAll(tableNames, options, listener);
+        long generateMillis = elapsedMillis(generateStart);
+
+        return write(generated.getMappers(), new LinkedHashMap<>(generated.getFailures()), targetDir, mapperPackage, listener, generateMillis);
+    }
+
+    /**
+     * 이미 생성한 매퍼를 테이블별 파일로 내보냅니다. 내용이 바뀐 파일만 씁니다. (스키마 변경 감시 등에서 다시 조회하지 않도록)
+     * @param mappers 테이블명 -> 매퍼 XML
+     * @param targetDir 대상 디렉터리 (없으면 생성)
+     * @param mapperPackage namespace에 사용할 매퍼 인터페이스 패키지 (비어 있으면 패키지 없이 모델명Mapper)
+     * @param listener 진행 상황 콜백 (null 허용)
+     * @return 내보내기 결과 (생성 시간은 0)
+     */
+    public ExportResult exportGenerated(Map<String, String> mappers, Path targetDir, String mapperPackage,
+                                        BatchMapperService.ProgressListener listener) throws IOException, InterruptedException {
+        return write(mappers, new LinkedHashMap<>(), targetDir, mapperPackage, listener, 0L);
+    }
+
+    private ExportResult write(Map<String, String> mappers, Map<String, String> failures, Path targetDir, String mapperPackage,
+                               BatchMapperService.ProgressListener listener, long generateMillis) throws IOException, InterruptedException {
+        long writeStart = System.nanoTime();
+        Files.createDirectories(targetDir);
+        Path manifestFile = targetDir.resolve(MANIFEST_FILE);
+        Map<String, ManifestEntry> manifest = readManifest(manifestFile);
+        boolean manifestChanged = false;
+
+        MessageDigest digest = newSha256();
+        List<String> written = new ArrayList<>();
+        int unchanged = 0;
+        int done = 0;
+        int total = mappers.size();
+        for (Map.Entry<String, String> mapper : mappers.entrySet()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("내보내기가 취소되었습니다.");
+            }
+            String tableName = mapper.getKey();
+            String fileName = tableName + ".xml";
+            Path file = targetDir.resolve(fileName);
+            try {
+                // 구문만 있는 생성 결과를 매퍼 문서로 감싼 내용으로 비교/저장
+                String document = MybatisMapperGenerator.toMapperDocument(
+                        MybatisMapperGenerator.mapperNamespace(mapperPackage, tableName), mapper.getValue());
+                byte[] content = document.getBytes(StandardCharsets.UTF_8);
+                String hash = HexFormat.of().formatHex(digest.digest(content));
+
+                ManifestEntry previous = manifest.get(fileName);
+                if (previous != null && previous.hash.equals(hash) && previous.isUnmodified(file)) {
+                    unchanged++;
+                } else if (hasSameContent(file, content, hash, digest)) {
+                    // 매니페스트가 없거나 파일 시각만 바뀐 경우: 내용이 같으면 쓰지 않고 매니페스트만 갱신
+                    manifest.put(fileName, ManifestEntry.of(hash, file));
+                    manifestChanged = true;
+                    unchanged++;
+                } else {
+                    writeAtomically(file, content);
+                    manifest.put(fileName, ManifestEntry.of(hash, file));
+                    manifestChanged = true;
+                    written.add(tableName);
+                }
+            } catch (IOException e) {
+                logger.warn("[EXPORT] 파일 저장 실패: {}", file, e);
+                failures.put(tableName, String.valueOf(e.getMessage()));
+            }
+            done++;
+            if (listener != null) {
+                listener.onProgress("파일 저장", done, total, done * 1000.0 / Math.max(1, elapsedMillis(writeStart)));
+            }
+        }
+
+        if (manifestChanged) {
+            writeManifest(manifestFile, manifest);
+        }
+        long writeMillis = elapsedMillis(writeStart);
+
+        logger.info("[EXPORT] {} -> 저장 {}개, 변경 없음 {}개, 실패 {}건 (생성 {}ms, 저장 {}ms)",
+                targetDir, written.size(), unchanged, failures.size(), generateMillis, writeMillis);
+        return new ExportResult(written, unchanged, failures, generateMillis, writeMillis);
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 대상 파일로 교체합니다. (원자적 이동을 지원하지 않는 파일 시스템에서는 일반 교체)
+     */
+    static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path temp = target.resolveSibling("." + target.getFileName() + ".tmp");
+        try {
+            Files.write(temp, content, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static boolean hasSameContent(Path file, byte[] content, String hash, MessageDigest digest) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != content.length) {
+            return false;
+        }
+        return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file))).equals(hash);
+    }
+
+    private static Map<String, ManifestEntry> readManifest(Path manifestFile) {
+        Map<String, ManifestEntry> manifest = new TreeMap<>();
+        if (!Files.isRegularFile(manifestFile)) {
+            return manifest;
+        }
+        try {
+            for (String line : Files.readAllLines(manifestFile, StandardCharsets.UTF_8)) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(" ", 4);
+                if (parts.length == 4) {
+                    manifest.put(parts[3], new ManifestEntry(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 매니페스트가 손상되었으면 무시하고 파일 내용으로 비교 (내용이 같으면 여전히 쓰지 않음)
+            logger.warn("[EXPORT] 매니페스트를 읽지 못해 무시합니다: {}", manifestFile, e);
+            manifest.clear();
+        }
+        return manifest;
+    }
+
+    // 이번에 내보내지 않은 테이블의 항목도 유지 (파일명 순으로 저장하여 diff가 안정적)
+    private static void writeManifest(Path manifestFile, Map<String, ManifestEntry> manifest) throws IOException {
+        StringBuilder sb = new StringBuilder(manifest.size() * 96);
+        sb.append("# MybatisAutoMapper export manifest: sha256 size modifiedMillis file\n");
+        for (Map.Entry<String, ManifestEntry> entry : manifest.entrySet()) {
+            ManifestEntry value = entry.getValue();
+            sb.append(value.hash).append(' ').append(value.size).append(' ').append(value.modifiedMillis)
+              .append(' ').append(entry.getKey()).append('\n');
+        }
+        writeAtomically(manifestFile, sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
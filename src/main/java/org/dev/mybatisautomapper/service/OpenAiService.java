@@ -1,32 +1,204 @@
 package org.dev.mybatisautomapper.service;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import okhttp3.*;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+/**
+ * OpenAI 호환 Chat Completions API 호출
+ * - 연결 풀/TLS 세션/디스패처 스레드를 재사용하도록 모든 인스턴스가 하나의 OkHttpClient를 공유
+ * - 요청/응답 본문은 Gson의 JsonWriter/JsonReader로 직접 쓰고 읽음 (프롬프트의 따옴표/줄바꿈도 올바르게 이스케이프)
+ * - generate(prompt, onToken)은 stream=true로 요청하여 SSE(data: ...) 줄을 받는 대로 토큰을 넘김
+ */
 public class OpenAiService implements AiService{
+    private static final Logger logger = LogManager.getLogger(OpenAiService.class);
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final String SSE_DATA = "data:";
+    private static final String SSE_DONE = "[DONE]";
+
+    // 스트리밍 응답은 전체 시간이 길 수 있으므로 전체 호출 시간 대신 읽기 사이의 대기 시간(readTimeout)만 제한
+    private static final OkHttpClient SHARED_CLIENT = new OkHttpClient.Builder()
+            .connectTimeout(10, TimeUnit.SECONDS)
+            .writeTimeout(30, TimeUnit.SECONDS)
+            .readTimeout(60, TimeUnit.SECONDS)
+            .build();
+
     private final String endpoint, apiKey, model;
+    private final OkHttpClient client;
 
     public OpenAiService(String endpoint, String apiKey, String model) {
+        this(endpoint, apiKey, model, SHARED_CLIENT);
+    }
+
+    /**
+     * @param client 사용할 클라이언트 (프록시/타임아웃을 바꿀 때는 SHARED_CLIENT.newBuilder()로 만든 것을 넘겨 풀을 공유)
+     */
+    public OpenAiService(String endpoint, String apiKey, String model, OkHttpClient client) {
         this.endpoint = endpoint;
         this.apiKey = apiKey;
         this.model = model;
+        this.client = client;
     }
 
     @Override
     public String generate(String prompt) throws Exception {
-        OkHttpClient client = new OkHttpClient();
-        String json = "{"
-                + "\"model\":\""+model+"\","
-                + "\"messages\":[{\"role\":\"user\",\"content\":\""+prompt+"\"}]"
-                + "}";
-        Request req = new Request.Builder()
+        try (Response res = client.newCall(newRequest(prompt, false)).execute()) {
+            ResponseBody body = checkSuccess(res);
+            try (JsonReader reader = new JsonReader(body.charStream())) {
+                return readContent(reader, "message");
+            }
+        }
+    }
+
+    @Override
+    public String generate(String prompt, Consumer<String> onToken) throws Exception {
+        StringBuilder result = new StringBuilder();
+        try (Response res = client.newCall(newRequest(prompt, true)).execute()) {
+            ResponseBody body = checkSuccess(res);
+            // SSE: 이벤트마다 "data: {json}" 줄, 끝은 "data: [DONE]" (빈 줄/주석 줄은 무시)
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(body.byteStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith(SSE_DATA)) {
+                        continue;
+                    }
+                    String data = line.substring(SSE_DATA.length()).trim();
+                    if (SSE_DONE.equals(data)) {
+                        break;
+                    }
+                    String token = readContent(new JsonReader(new StringReader(data)), "delta");
+                    if (token != null && !token.isEmpty()) {
+                        result.append(token);
+                        onToken.accept(token);
+                    }
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    // {"model": ..., "stream": ..., "messages": [{"role": "user", "content": prompt}]}
+    private Request newRequest(String prompt, boolean stream) throws IOException {
+        StringWriter json = new StringWriter(prompt.length() + 128);
+        try (JsonWriter writer = new JsonWriter(json)) {
+            writer.beginObject();
+            writer.name("model").value(model);
+            writer.name("stream").value(stream);
+            writer.name("messages").beginArray();
+            writer.beginObject();
+            writer.name("role").value("user");
+            writer.name("content").value(prompt);
+            writer.endObject();
+            writer.endArray();
+            writer.endObject();
+        }
+        return new Request.Builder()
                 .url(endpoint)
-                .addHeader("Authorization", "Bearer "+apiKey)
-                .post(RequestBody.create(json, MediaType.parse("application/json")))
+                .addHeader("Authorization", "Bearer " + apiKey)
+                .post(RequestBody.create(json.toString(), JSON))
                 .build();
-        try (Response res = client.newCall(req).execute()) {
-            // 간단히 첫 메시지 리턴 (실제 파싱 로직 추가 필요)
-            return res.body().string();
+    }
+
+    // 2xx가 아니면 응답의 error.message(없으면 본문 앞부분)를 담아 예외
+    private static ResponseBody checkSuccess(Response res) throws IOException {
+        ResponseBody body = res.body();
+        if (res.isSuccessful() && body != null) {
+            return body;
+        }
+        String text = body == null ? "" : body.string();
+        String message = null;
+        try (JsonReader reader = new JsonReader(new StringReader(text))) {
+            message = readErrorMessage(reader);
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("[AI] 오류 응답을 JSON으로 읽지 못했습니다.", e);
+        }
+        if (message == null) {
+            message = text.length() > 500 ? text.substring(0, 500) + "..." : text;
+        }
+        throw new IOException("AI 요청 실패 (HTTP " + res.code() + "): " + message);
+    }
+
+    /**
+     * choices[0].{field}.content를 읽습니다. (field: 일반 응답은 message, 스트리밍 조각은 delta)
+     * 나머지 값은 객체로 만들지 않고 건너뜀
+     * @return content, 없으면 null
+     */
+    private static String readContent(JsonReader reader, String field) throws IOException {
+        String content = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!"choices".equals(reader.nextName()) || reader.peek() != JsonToken.BEGIN_ARRAY) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginArray();
+            if (reader.hasNext()) {
+                content = readChoiceContent(reader, field);
+            }
+            while (reader.hasNext()) {
+                reader.skipValue();
+            }
+            reader.endArray();
+        }
+        reader.endObject();
+        return content;
+    }
+
+    private static String readChoiceContent(JsonReader reader, String field) throws IOException {
+        String content = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!field.equals(reader.nextName()) || reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("content".equals(reader.nextName()) && reader.peek() == JsonToken.STRING) {
+                    content = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        reader.endObject();
+        return content;
+    }
+
+    // {"error": {"message": ...}}의 message
+    private static String readErrorMessage(JsonReader reader) throws IOException {
+        String message = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!"error".equals(reader.nextName()) || reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("message".equals(reader.nextName()) && reader.peek() == JsonToken.STRING) {
+                    message = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
         }
+        reader.endObject();
+        return message;
     }
 }
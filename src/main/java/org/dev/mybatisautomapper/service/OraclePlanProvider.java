@@ -0,0 +1,27 @@
+package org.dev.mybatisautomapper.service;
+
+import org.apache.ibatis.session.SqlSession;
+import org.dev.mybatisautomapper.mapper.PlanMapper;
+import org.dev.mybatisautomapper.model.PlanStep;
+import org.dev.mybatisautomapper.util.MyBatisUtil;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EXPLAIN PLAN으로 실행 계획을 가져오는 PlanProvider
+ * - PLAN_TABLE에 기록한 행은 커밋하지 않고 세션을 닫아 롤백되므로 따로 지우지 않음
+ */
+public class OraclePlanProvider implements PlanProvider {
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    @Override
+    public List<PlanStep> explain(String sql) {
+        String statementId = "MAM_" + SEQUENCE.incrementAndGet();
+        try (SqlSession session = MyBatisUtil.getFactory().openSession()) {
+            PlanMapper mapper = session.getMapper(PlanMapper.class);
+            mapper.explainPlan(statementId, sql);
+            return mapper.selectPlan(statementId);
+        }
+    }
+}
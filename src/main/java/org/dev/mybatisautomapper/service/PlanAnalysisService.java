@@ -0,0 +1,260 @@
+package org.dev.mybatisautomapper.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.PlanStep;
+import org.dev.mybatisautomapper.util.StatementSqlRenderer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 생성된 매퍼의 구문마다 실행 계획을 확인하고, 구문 앞에 계획 요약과 경고를 주석으로 달아 줍니다.
+ * - 구문은 StatementSqlRenderer로 대표 값을 넣은 SQL로 만들고, 계획은 PlanProvider에서 가져옴
+ * - 경고: 큰 테이블(또는 통계가 없는 테이블)의 TABLE ACCESS FULL, INDEX FULL/FAST FULL/SKIP SCAN, MERGE JOIN CARTESIAN
+ * - selectStream은 전체 조회가 목적이므로 TABLE ACCESS FULL을 경고하지 않음
+ */
+public class PlanAnalysisService {
+    private static final Logger logger = LogManager.getLogger(PlanAnalysisService.class);
+
+    public static final long DEFAULT_FULL_SCAN_WARN_ROWS = 100_000;
+
+    private static final String FULL_SCAN_EXPECTED_ID = "selectStream";
+    private static final String ANNOTATION_MARK = "<!-- [PLAN";
+    private static final Pattern STATEMENT_TAG = Pattern.compile("<(select|insert|update|delete)\\s+id=\"([^\"]+)\"");
+
+    /**
+     * 구문 하나의 실행 계획 분석 결과
+     */
+    public static class StatementPlan {
+        private final String id;
+        private final String sql;
+        private final List<PlanStep> steps;
+        private final List<String> warnings;
+        private final String error;             // 계획을 가져오지 못한 경우의 오류 메시지 (성공이면 null)
+
+        public StatementPlan(String id, String sql, List<PlanStep> steps, List<String> warnings, String error) {
+            this.id = id;
+            this.sql = sql;
+            this.steps = steps;
+            this.warnings = warnings;
+            this.error = error;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public List<PlanStep> getSteps() {
+            return steps;
+        }
+
+        public List<String> getWarnings() {
+            return warnings;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        /** 최상위 단계의 비용 (없으면 null) */
+        public Long getCost() {
+            return steps.isEmpty() ? null : steps.get(0).getCost();
+        }
+
+        /** 최상위 단계의 예상 행 수 (없으면 null) */
+        public Long getCardinality() {
+            return steps.isEmpty() ? null : steps.get(0).getCardinality();
+        }
+
+        /**
+         * @return 테이블/인덱스 접근 경로 (예: INDEX UNIQUE SCAN PK_TB_X -> TABLE ACCESS BY INDEX ROWID TB_X)
+         */
+        public String getAccessPath() {
+            List<String> path = new ArrayList<>();
+            for (PlanStep step : steps) {
+                if (step.getObject_name() != null && isAccessOperation(step.getOperation())) {
+                    path.add(step.getOperationName() + " " + step.getObject_name());
+                }
+            }
+            // 계획은 부모가 먼저 나오므로, 실제 실행 순서(안쪽 먼저)대로 뒤집음
+            Collections.reverse(path);
+            return path.isEmpty() ? "-" : String.join(" -> ", path);
+        }
+    }
+
+    private final PlanProvider planProvider;
+    private final long fullScanWarnRows;
+
+    public PlanAnalysisService(PlanProvider planProvider, long fullScanWarnRows) {
+        this.planProvider = planProvider;
+        this.fullScanWarnRows = fullScanWarnRows;
+    }
+
+    /**
+     * 매퍼의 구문마다 실행 계획을 가져와 분석합니다.
+     * 한 구문의 계획을 가져오지 못해도 나머지 구문은 계속 진행합니다. (오류는 결과의 error에 기록)
+     * @param mapperXml generateMapper로 만든 구문들
+     * @param columns   테이블 컬럼 정보 리스트 (대표 값의 타입을 정하는 데 사용)
+     * @return 구문별 분석 결과 (XML에 나온 순서)
+     */
+    public List<StatementPlan> analyze(String mapperXml, List<ColumnInfo> columns) {
+        List<StatementPlan> plans = new ArrayList<>();
+        for (Map.Entry<String, String> entry : StatementSqlRenderer.render(mapperXml, columns).entrySet()) {
+            String id = entry.getKey();
+            String sql = entry.getValue();
+            try {
+                List<PlanStep> steps = planProvider.explain(sql);
+                plans.add(new StatementPlan(id, sql, steps, warnings(id, steps), null));
+            } catch (Exception e) {
+                logger.warn("[PLAN] {} 실행 계획 조회 실패: {}", id, e.getMessage());
+                plans.add(new StatementPlan(id, sql, Collections.emptyList(), Collections.emptyList(), rootMessage(e)));
+            }
+        }
+        return plans;
+    }
+
+    /**
+     * 실행 계획에서 주의할 단계를 찾습니다.
+     * @param statementId 구문 id (selectStream은 TABLE ACCESS FULL을 경고하지 않음)
+     * @param steps       실행 계획 단계
+     * @return 경고 메시지 리스트 (없으면 빈 리스트)
+     */
+    public List<String> warnings(String statementId, List<PlanStep> steps) {
+        List<String> warnings = new ArrayList<>();
+        for (PlanStep step : steps) {
+            String operation = step.getOperationName();
+            switch (operation) {
+                case "TABLE ACCESS FULL":
+                    if (FULL_SCAN_EXPECTED_ID.equals(statementId)) {
+                        break;
+                    }
+                    if (step.getTable_rows() == null) {
+                        warnings.add(operation + " " + step.getObject_name() + " (통계 없음, 테이블 크기를 알 수 없음)");
+                    } else if (step.getTable_rows() >= fullScanWarnRows) {
+                        warnings.add(String.format("%s %s (%,d행)", operation, step.getObject_name(), step.getTable_rows()));
+                    }
+                    break;
+                case "INDEX FULL SCAN":
+                case "INDEX FAST FULL SCAN":
+                    warnings.add(operation + " " + step.getObject_name() + " (인덱스 전체를 읽음)");
+                    break;
+                case "INDEX SKIP SCAN":
+                    warnings.add(operation + " " + step.getObject_name() + " (인덱스 선행 컬럼 조건 없음)");
+                    break;
+                case "MERGE JOIN CARTESIAN":
+                    warnings.add(operation + " (조인 조건 없음)");
+                    break;
+                default:
+                    break;
+            }
+        }
+        return warnings;
+    }
+
+    /**
+     * 매퍼의 각 구문 앞에 실행 계획 주석을 답니다. (이전에 단 주석은 지우고 다시 닮)
+     * <pre>
+     *     &lt;!-- [PLAN] cost=3, rows=1: INDEX UNIQUE SCAN PK_TB_X -&gt; TABLE ACCESS BY INDEX ROWID TB_X --&gt;
+     *     &lt;!-- [PLAN 경고] TABLE ACCESS FULL TB_X (40,000,000행) --&gt;
+     * </pre>
+     * @param mapperXml generateMapper로 만든 구문들
+     * @param plans     analyze 결과
+     * @return 주석을 단 매퍼
+     */
+    public static String annotate(String mapperXml, List<StatementPlan> plans) {
+        Map<String, StatementPlan> planById = new HashMap<>();
+        for (StatementPlan plan : plans) {
+            planById.put(plan.getId(), plan);
+        }
+        String source = removeAnnotations(mapperXml);
+        StringBuilder sb = new StringBuilder(source.length() + plans.size() * 120);
+        Matcher matcher = STATEMENT_TAG.matcher(source);
+        int copied = 0;
+        while (matcher.find()) {
+            StatementPlan plan = planById.get(matcher.group(2));
+            if (plan == null) {
+                continue;
+            }
+            // 태그가 있는 줄 바로 앞에, 그 줄과 같은 들여쓰기로 닮
+            int lineStart = source.lastIndexOf('\n', matcher.start()) + 1;
+            sb.append(source, copied, lineStart);
+            appendAnnotation(sb, plan, leadingWhitespace(source, lineStart));
+            copied = lineStart;
+        }
+        sb.append(source, copied, source.length());
+        return sb.toString();
+    }
+
+    private static void appendAnnotation(StringBuilder sb, StatementPlan plan, String indent) {
+        if (plan.getError() != null) {
+            sb.append(indent).append(ANNOTATION_MARK).append(" 오류] ").append(commentText(plan.getError())).append(" -->\n");
+            return;
+        }
+        sb.append(indent).append(ANNOTATION_MARK).append("] cost=").append(format(plan.getCost()))
+          .append(", rows=").append(format(plan.getCardinality()))
+          .append(": ").append(commentText(plan.getAccessPath())).append(" -->\n");
+        for (String warning : plan.getWarnings()) {
+            sb.append(indent).append(ANNOTATION_MARK).append(" 경고] ").append(commentText(warning)).append(" -->\n");
+        }
+    }
+
+    // 이전 annotate로 단 주석 줄을 지움
+    private static String removeAnnotations(String mapperXml) {
+        if (!mapperXml.contains(ANNOTATION_MARK)) {
+            return mapperXml;
+        }
+        StringBuilder sb = new StringBuilder(mapperXml.length());
+        for (String line : mapperXml.split("\n", -1)) {
+            if (line.trim().startsWith(ANNOTATION_MARK)) {
+                continue;
+            }
+            sb.append(line).append('\n');
+        }
+        sb.setLength(sb.length() - 1);
+        return sb.toString();
+    }
+
+    private static String leadingWhitespace(String source, int lineStart) {
+        int i = lineStart;
+        while (i < source.length() && (source.charAt(i) == ' ' || source.charAt(i) == '\t')) {
+            i++;
+        }
+        return source.substring(lineStart, i);
+    }
+
+    private static boolean isAccessOperation(String operation) {
+        return "TABLE ACCESS".equals(operation) || "INDEX".equals(operation) || "MAT_VIEW ACCESS".equals(operation);
+    }
+
+    private static String format(Long value) {
+        return value == null ? "-" : String.format("%,d", value);
+    }
+
+    // XML 주석 안에는 --를 쓸 수 없으므로 띄우고, 여러 줄 메시지는 한 줄로
+    private static String commentText(String text) {
+        String oneLine = text.replace('\r', ' ').replace('\n', ' ').trim();
+        while (oneLine.contains("--")) {
+            oneLine = oneLine.replace("--", "- -");
+        }
+        return oneLine;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() == null ? root.getClass().getSimpleName() : root.getMessage();
+    }
+}
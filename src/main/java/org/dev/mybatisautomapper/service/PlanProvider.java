@@ -0,0 +1,18 @@
+package org.dev.mybatisautomapper.service;
+
+import org.dev.mybatisautomapper.model.PlanStep;
+
+import java.util.List;
+
+/**
+ * SQL 하나의 실행 계획을 가져오는 방법 (PlanAnalysisService에서 사용)
+ * - 기본 구현은 DB의 EXPLAIN PLAN을 사용하는 OraclePlanProvider
+ * - DB 없이 분석 규칙을 확인할 때는 미리 준비한 계획을 반환하는 구현으로 바꿔 끼울 수 있음
+ */
+public interface PlanProvider {
+    /**
+     * @param sql 바인드 변수 없이 실행 가능한 SQL (대표 값이 리터럴로 들어 있음)
+     * @return 실행 계획 단계 (ID 순, 0번이 최상위)
+     */
+    List<PlanStep> explain(String sql) throws Exception;
+}
@@ -0,0 +1,358 @@
+package org.dev.mybatisautomapper.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.TableDdlInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스키마 메타데이터(테이블, 컬럼, 코멘트, PK) 스냅샷을 디스크에 보관합니다.
+ * - 앱 시작 시 파일에서 바로 로드하여 DB 연결 전에도 자동완성을 사용할 수 있게 함
+ * - USER_OBJECTS.LAST_DDL_TIME을 비교하여 DDL이 바뀐 테이블만 다시 조회(증분 갱신)
+ *
+ * 파일 형식 (DataOutputStream, 버전 1)
+ *   MAGIC(int) VERSION(short) dbKey(UTF)
+ *   dataType 사전 [개수(int), UTF...]
+ *   테이블 [개수(int)] -> 이름(UTF) 코멘트(nullable UTF) LAST_DDL_TIME(long) 컬럼 [개수(int)]
+ *       -> 이름(UTF) 코멘트(nullable UTF) dataType 사전 인덱스(int) PK 여부(boolean)
+ */
+public class SchemaSnapshotService {
+    private static final Logger logger = LogManager.getLogger(SchemaSnapshotService.class);
+
+    private static final int MAGIC = 0x4D414D53; // "MAMS"
+    private static final short VERSION = 1;
+
+    /** 기본 스냅샷 파일 (config.json과 같은 위치) */
+    public static final String DEFAULT_PATH = "schema-cache.bin";
+
+    private final Path snapshotPath;
+    private final String dbKey;   // 다른 DB/계정의 스냅샷을 잘못 읽지 않도록 url + user로 구분
+
+    // 갱신 시 통째로 교체 (읽기 쪽은 잠금 없이 사용)
+    private volatile Map<String, TableSnapshot> tables = Collections.emptyMap();
+    // 이번 실행에서 DB와 동기화되었는지 여부 (동기화 전 컬럼 정보는 오래되었을 수 있음)
+    private volatile boolean synced = false;
+
+    // 테이블 하나의 스냅샷
+    private static final class TableSnapshot {
+        private final String tableName;
+        private final String tableComments;
+        private final long lastDdlTime;
+        private final List<ColumnInfo> columns;
+
+        private TableSnapshot(String tableName, String tableComments, long lastDdlTime, List<ColumnInfo> columns) {
+            this.tableName = tableName;
+            this.tableComments = tableComments;
+            this.lastDdlTime = lastDdlTime;
+            this.columns = Collections.unmodifiableList(columns);
+        }
+    }
+
+    /**
+     * 증분 갱신 결과
+     */
+    public static class RefreshResult {
+        private final int totalTables;
+        private final int changedTables;
+        private final int removedTables;
+        private final long elapsedMillis;
+
+        public RefreshResult(int totalTables, int changedTables, int removedTables, long elapsedMillis) {
+            this.totalTables = totalTables;
+            this.changedTables = changedTables;
+            this.removedTables = removedTables;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getTotalTables() {
+            return totalTables;
+        }
+
+        public int getChangedTables() {
+            return changedTables;
+        }
+
+        public int getRemovedTables() {
+            return removedTables;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+
+    public SchemaSnapshotService(String snapshotPath, String dbUrl, String dbUser) {
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.dbKey = dbUrl + "|" + dbUser;
+    }
+
+    /**
+     * 디스크의 스냅샷을 로드합니다. 파일이 없거나 다른 DB의 스냅샷이면 빈 상태로 시작합니다.
+     * @return 로드된 테이블 수
+     */
+    public int load() {
+        long start = System.nanoTime();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath), 64 * 1024))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                logger.warn("[SNAPSHOT] 스냅샷 형식이 맞지 않아 무시합니다: {}", snapshotPath);
+                return 0;
+            }
+            if (!dbKey.equals(in.readUTF())) {
+                logger.info("[SNAPSHOT] 다른 DB의 스냅샷이므로 무시합니다: {}", snapshotPath);
+                return 0;
+            }
+
+            String[] dataTypes = new String[in.readInt()];
+            for (int i = 0; i < dataTypes.length; i++) {
+                dataTypes[i] = in.readUTF();
+            }
+
+            int tableCount = in.readInt();
+            Map<String, TableSnapshot> loaded = new LinkedHashMap<>(tableCount * 2);
+            for (int t = 0; t < tableCount; t++) {
+                String tableName = in.readUTF();
+                String tableComments = readNullableUTF(in);
+                long lastDdlTime = in.readLong();
+
+                int columnCount = in.readInt();
+                List<ColumnInfo> columns = new ArrayList<>(columnCount);
+                for (int c = 0; c < columnCount; c++) {
+                    ColumnInfo col = new ColumnInfo();
+                    col.setTable_nm(tableName);
+                    col.setTable_comments(tableComments);
+                    col.setColumn_name(in.readUTF());
+                    col.setColumn_comments(readNullableUTF(in));
+                    col.setData_type(dataTypes[in.readInt()]);
+                    col.setPrimary_key(in.readBoolean() ? "Y" : "N");
+                    columns.add(col);
+                }
+                loaded.put(tableName, new TableSnapshot(tableName, tableComments, lastDdlTime, columns));
+            }
+            tables = loaded;
+            logger.info("[SNAPSHOT] {}개 테이블 스냅샷 로드 ({}ms)", loaded.size(), (System.nanoTime() - start) / 1_000_000);
+            return loaded.size();
+        } catch (NoSuchFileException e) {
+            logger.info("[SNAPSHOT] 스냅샷 파일이 없습니다. DB 연결 후 생성됩니다: {}", snapshotPath);
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("[SNAPSHOT] 스냅샷 로드 실패, 무시하고 진행합니다: {}", snapshotPath, e);
+            return 0;
+        }
+    }
+
+    /**
+     * LAST_DDL_TIME을 비교하여 변경/추가된 테이블만 다시 조회하고, 삭제된 테이블은 제거한 뒤 디스크에 저장합니다.
+     * @param tableInfoService 메타데이터 조회 서비스
+     * @return 갱신 결과
+     */
+    public RefreshResult refresh(TableInfoService tableInfoService) {
+        // 테이블별 DDL 변경 시각 조회 (1회 왕복)
+        return refresh(tableInfoService, tableInfoService.getTableDdlTimes());
+    }
+
+    /**
+     * 이미 조회한 DDL 변경 시각으로 증분 갱신합니다. (연결 확인과 같은 세션에서 조회한 목록을 그대로 사용)
+     * @param tableInfoService 메타데이터 조회 서비스 (변경된 테이블의 컬럼 조회용)
+     * @param ddlTimes 테이블별 DDL 변경 시각
+     * @return 갱신 결과
+     */
+    public synchronized RefreshResult refresh(TableInfoService tableInfoService, List<TableDdlInfo> ddlTimes) {
+        long start = System.nanoTime();
+        Map<String, TableSnapshot> current = tables;
+
+        // 1. DDL 변경 시각이 스냅샷과 다른(또는 새로 생긴) 테이블 찾기
+
+        List<String> changed = new ArrayList<>();
+        for (TableDdlInfo ddl : ddlTimes) {
+            TableSnapshot old = current.get(ddl.getTable_nm());
+            if (old == null || old.lastDdlTime != toMillis(ddl)) {
+                changed.add(ddl.getTable_nm());
+            }
+        }
+
+        // 2. 변경된 테이블만 일괄 조회 (전부 바뀐 경우에는 스키마 전체 조회)
+        Map<String, List<ColumnInfo>> fetched = Collections.emptyMap();
+        if (!changed.isEmpty()) {
+            fetched = tableInfoService.fetchColumns(changed.size() == ddlTimes.size() ? null : changed, null);
+        }
+
+        // 3. 새 스냅샷 구성
+        Map<String, TableSnapshot> refreshed = new LinkedHashMap<>(ddlTimes.size() * 2);
+        for (TableDdlInfo ddl : ddlTimes) {
+            String tableName = ddl.getTable_nm();
+            List<ColumnInfo> columns = fetched.get(tableName);
+            if (columns == null) {
+                TableSnapshot old = current.get(tableName);
+                columns = old != null ? old.columns : Collections.emptyList();
+            }
+            refreshed.put(tableName, new TableSnapshot(tableName, ddl.getTable_comments(), toMillis(ddl), new ArrayList<>(columns)));
+        }
+        int removed = 0;
+        for (String tableName : current.keySet()) {
+            if (!refreshed.containsKey(tableName)) {
+                removed++;
+            }
+        }
+
+        tables = refreshed;
+        synced = true;
+        save();
+
+        RefreshResult result = new RefreshResult(refreshed.size(), changed.size(), removed, (System.nanoTime() - start) / 1_000_000);
+        logger.info("[SNAPSHOT] 증분 갱신 완료: 전체 {}개, 변경 {}개, 삭제 {}개 ({}ms)",
+                result.getTotalTables(), result.getChangedTables(), result.getRemovedTables(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 일부 테이블의 변경 내용만 반영하고 디스크에 저장합니다. (스키마 변경 감시용, 전체 DDL 목록 없이 갱신)
+     * @param changed DDL이 바뀌었거나 새로 생긴 테이블
+     * @param columns 변경된 테이블의 컬럼 (테이블명 -> 컬럼 리스트)
+     * @param removed 삭제된 테이블명
+     */
+    public synchronized void applyChanges(List<TableDdlInfo> changed, Map<String, List<ColumnInfo>> columns, Collection<String> removed) {
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        Map<String, TableSnapshot> updated = new LinkedHashMap<>(tables);
+        for (String tableName : removed) {
+            updated.remove(tableName);
+        }
+        for (TableDdlInfo ddl : changed) {
+            String tableName = ddl.getTable_nm();
+            List<ColumnInfo> tableColumns = columns.getOrDefault(tableName, Collections.emptyList());
+            updated.put(tableName, new TableSnapshot(tableName, ddl.getTable_comments(), toMillis(ddl), new ArrayList<>(tableColumns)));
+        }
+        tables = updated;
+        save();
+        logger.info("[SNAPSHOT] 부분 갱신 완료: 변경 {}개, 삭제 {}개", changed.size(), removed.size());
+    }
+
+    /**
+     * @return 스냅샷에 기록된 테이블의 마지막 DDL 변경 시각(ms), 스냅샷에 없는 테이블이면 -1
+     */
+    public long getLastDdlTime(String tableName) {
+        TableSnapshot table = tables.get(tableName);
+        return table == null ? -1L : table.lastDdlTime;
+    }
+
+    /**
+     * @return 스냅샷의 테이블명 목록
+     */
+    public Set<String> getTableNames() {
+        return Collections.unmodifiableSet(tables.keySet());
+    }
+
+    /**
+     * 자동완성용 테이블 목록 (table_nm, table_comments만 채워진 ColumnInfo)
+     */
+    public List<ColumnInfo> getTables() {
+        Map<String, TableSnapshot> current = tables;
+        List<ColumnInfo> result = new ArrayList<>(current.size());
+        for (TableSnapshot table : current.values()) {
+            ColumnInfo info = new ColumnInfo();
+            info.setTable_nm(table.tableName);
+            info.setTable_comments(table.tableComments);
+            result.add(info);
+        }
+        return result;
+    }
+
+    /**
+     * DB와 동기화된 스냅샷에서 컬럼 정보를 가져옵니다.
+     * @param tableName 테이블 이름
+     * @return 컬럼 리스트, 아직 동기화되지 않았거나 없는 테이블이면 null
+     */
+    public List<ColumnInfo> getColumns(String tableName) {
+        if (!synced) {
+            return null;
+        }
+        TableSnapshot table = tables.get(tableName);
+        return table == null || table.columns.isEmpty() ? null : table.columns;
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+
+    // 임시 파일에 쓴 뒤 교체하여, 저장 중 종료되어도 기존 스냅샷이 깨지지 않게 함
+    private void save() {
+        Map<String, TableSnapshot> current = tables;
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            // dataType 사전 구성 (VARCHAR2(20) 같은 값이 반복되므로 인덱스로 저장)
+            Map<String, Integer> dataTypeIndex = new HashMap<>();
+            List<String> dataTypes = new ArrayList<>();
+            for (TableSnapshot table : current.values()) {
+                for (ColumnInfo col : table.columns) {
+                    dataTypeIndex.computeIfAbsent(col.getData_type(), k -> {
+                        dataTypes.add(k);
+                        return dataTypes.size() - 1;
+                    });
+                }
+            }
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath), 64 * 1024))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeUTF(dbKey);
+
+                out.writeInt(dataTypes.size());
+                for (String dataType : dataTypes) {
+                    out.writeUTF(dataType);
+                }
+
+                out.writeInt(current.size());
+                for (TableSnapshot table : current.values()) {
+                    out.writeUTF(table.tableName);
+                    writeNullableUTF(out, table.tableComments);
+                    out.writeLong(table.lastDdlTime);
+                    out.writeInt(table.columns.size());
+                    for (ColumnInfo col : table.columns) {
+                        out.writeUTF(col.getColumn_name());
+                        writeNullableUTF(out, col.getColumn_comments());
+                        out.writeInt(dataTypeIndex.get(col.getData_type()));
+                        out.writeBoolean("Y".equals(col.getPrimary_key()));
+                    }
+                }
+            }
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("[SNAPSHOT] 스냅샷 저장 실패: {}", snapshotPath, e);
+        }
+    }
+
+    private static long toMillis(TableDdlInfo ddl) {
+        return ddl.getLast_ddl_time() == null ? 0L : ddl.getLast_ddl_time().getTime();
+    }
+
+    private static String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+}
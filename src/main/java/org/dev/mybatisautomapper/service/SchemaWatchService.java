@@ -0,0 +1,395 @@
+package org.dev.mybatisautomapper.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.IndexInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
+import org.dev.mybatisautomapper.model.TableDdlInfo;
+import org.dev.mybatisautomapper.model.TableDdlSummary;
+import org.dev.mybatisautomapper.util.MybatisMapperGenerator;
+import org.dev.mybatisautomapper.util.QueryCanceller;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 스키마 변경(DDL)을 주기적으로 감시하여, 바뀐 테이블만 다시 조회/생성하고 변경 보고서를 전달합니다.
+ * - 매 주기에는 요약 조회(selectTableDdlSummary) 1회만 실행하고, 변경이 없으면 컬럼/인덱스 조회는 하지 않음
+ *   (요약은 1행이지만 USER_TABLES/USER_OBJECTS 전체를 집계하므로 조회 비용은 테이블 수에 비례함)
+ * - 요약이 바뀌면 직전 최대 DDL 시각 이후에 바뀐 테이블만 조회하고, 그 테이블의 컬럼만 일괄 조회(ColumnMapper)
+ *   (LAST_DDL_TIME은 초 단위이므로 같은 시각도 포함해 조회한 뒤, 스냅샷의 DDL 시각과 같은 테이블은 제외)
+ * - 테이블이 생성/삭제된 경우에만 테이블 목록(이름, DDL 시각) 전체를 조회하여 삭제된 테이블을 찾음
+ * - 이전 컬럼 정보는 스키마 스냅샷(SchemaSnapshotService)을 기준으로 비교하고, 비교 후 스냅샷과 컬럼 캐시를 갱신
+ */
+public class SchemaWatchService {
+    private static final Logger logger = LogManager.getLogger(SchemaWatchService.class);
+
+    private final TableInfoService tableInfoService;
+    private final SchemaSnapshotService snapshotService;
+    private final Supplier<MapperOptions> optionsSupplier;   // 재생성 시점의 옵션 (화면 옵션이 바뀌어도 반영)
+
+    private final Object pollLock = new Object();
+    private TableDdlSummary lastSummary;                     // 마지막으로 반영한 요약 (pollLock으로 보호)
+    private volatile QueryCanceller pollCanceller;           // 진행 중인 주기의 조회 취소용
+
+    private ScheduledExecutorService scheduler;              // this로 동기화
+
+    /**
+     * 감시 결과 콜백 (감시 스레드에서 호출)
+     */
+    public interface DriftListener {
+        void onDrift(DriftReport report);
+
+        default void onError(Exception e) {
+        }
+    }
+
+    /**
+     * 테이블 하나의 변경 내용
+     */
+    public static class TableDrift {
+        public enum Kind { ADDED, CHANGED, REMOVED }
+
+        private final String tableName;
+        private final Kind kind;
+        private final List<String> changes;   // 컬럼 추가/삭제/타입 변경 등 (사람이 읽는 형식)
+        private final String mapper;          // 다시 생성한 매퍼, 삭제된 테이블이면 null
+
+        public TableDrift(String tableName, Kind kind, List<String> changes, String mapper) {
+            this.tableName = tableName;
+            this.kind = kind;
+            this.changes = changes;
+            this.mapper = mapper;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public List<String> getChanges() {
+            return changes;
+        }
+
+        public String getMapper() {
+            return mapper;
+        }
+    }
+
+    /**
+     * 한 주기의 변경 보고서
+     */
+    public static class DriftReport {
+        private final Date detectedAt;
+        private final List<TableDrift> tables;
+        private final int ddlOnlyTables;      // DDL 시각만 바뀌고 매퍼에 영향이 없는 테이블 수 (인덱스, 권한 등)
+        private final long elapsedMillis;
+
+        public DriftReport(Date detectedAt, List<TableDrift> tables, int ddlOnlyTables, long elapsedMillis) {
+            this.detectedAt = detectedAt;
+            this.tables = tables;
+            this.ddlOnlyTables = ddlOnlyTables;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public Date getDetectedAt() {
+            return detectedAt;
+        }
+
+        public List<TableDrift> getTables() {
+            return tables;
+        }
+
+        public int getDdlOnlyTables() {
+            return ddlOnlyTables;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /** 다시 생성한 매퍼 (테이블명 -> 매퍼 XML, 삭제된 테이블 제외) */
+        public Map<String, String> getMappers() {
+            Map<String, String> mappers = new LinkedHashMap<>();
+            for (TableDrift drift : tables) {
+                if (drift.mapper != null) {
+                    mappers.put(drift.tableName, drift.mapper);
+                }
+            }
+            return mappers;
+        }
+
+        /** 테이블 추가 또는 삭제가 있었는지 (테이블 목록 갱신 필요 여부) */
+        public boolean hasTableListChange() {
+            return tables.stream().anyMatch(drift -> drift.kind != TableDrift.Kind.CHANGED);
+        }
+
+        public String getSummary() {
+            int added = 0;
+            int changed = 0;
+            int removed = 0;
+            for (TableDrift drift : tables) {
+                switch (drift.kind) {
+                    case ADDED -> added++;
+                    case CHANGED -> changed++;
+                    case REMOVED -> removed++;
+                }
+            }
+            return String.format("추가 %d개, 변경 %d개, 삭제 %d개 (%dms)", added, changed, removed, elapsedMillis);
+        }
+
+        /** 변경 내용(XML 주석)과 다시 생성한 매퍼를 이어 붙인 문자열 */
+        public String toText() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("<!-- 스키마 변경 감지 (").append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(detectedAt))
+              .append(") : ").append(getSummary()).append(" -->\n");
+            for (TableDrift drift : tables) {
+                sb.append("<!-- [").append(drift.kind).append("] ").append(drift.tableName);
+                if (!drift.changes.isEmpty()) {
+                    sb.append(" : ").append(String.join(", ", drift.changes));
+                }
+                sb.append(" -->\n");
+            }
+            for (TableDrift drift : tables) {
+                if (drift.mapper != null) {
+                    sb.append("\n<!-- ==================== ").append(drift.tableName).append(" ==================== -->\n");
+                    sb.append(drift.mapper);
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    public SchemaWatchService(TableInfoService tableInfoService, SchemaSnapshotService snapshotService,
+                              Supplier<MapperOptions> optionsSupplier) {
+        this.tableInfoService = tableInfoService;
+        this.snapshotService = snapshotService;
+        this.optionsSupplier = optionsSupplier;
+    }
+
+    /**
+     * 백그라운드 감시를 시작합니다. (이미 실행 중이면 무시)
+     * @param intervalSeconds 조회 간격(초), 한 주기가 끝난 뒤부터 계산
+     * @param listener 변경/오류 콜백
+     */
+    public synchronized void start(long intervalSeconds, DriftListener listener) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "schema-watch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 예외가 나도 다음 주기가 계속 실행되도록 주기 안에서 처리
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                DriftReport report = poll();
+                if (report != null) {
+                    listener.onDrift(report);
+                }
+            } catch (Exception e) {
+                if (!Thread.currentThread().isInterrupted()) {
+                    logger.warn("[WATCH] 스키마 변경 확인 실패", e);
+                    listener.onError(e);
+                }
+            }
+        }, 0, Math.max(1, intervalSeconds), TimeUnit.SECONDS);
+        logger.info("[WATCH] 스키마 변경 감시 시작 ({}초 간격)", intervalSeconds);
+    }
+
+    /**
+     * 감시를 중지합니다. 진행 중인 조회는 취소합니다.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        QueryCanceller canceller = pollCanceller;
+        if (canceller != null) {
+            canceller.cancelAsync(); // 화면(FX 스레드)에서 호출되므로 Statement.cancel()을 기다리지 않음
+        }
+        logger.info("[WATCH] 스키마 변경 감시 중지");
+    }
+
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 한 주기를 실행합니다. 첫 호출은 기준만 기록합니다.
+     * @return 변경 보고서, 매퍼에 영향을 주는 변경이 없으면 null
+     */
+    public DriftReport poll() {
+        synchronized (pollLock) {
+            QueryCanceller canceller = new QueryCanceller();
+            pollCanceller = canceller;
+            try (QueryCanceller.Scope ignored = canceller.bind()) {
+                return pollOnce();
+            } finally {
+                pollCanceller = null;
+            }
+        }
+    }
+
+    private DriftReport pollOnce() {
+        long start = System.nanoTime();
+
+        // 1. 요약 1행 조회 (매 주기 실행되는 유일한 조회, 테이블 전체를 집계)
+        TableDdlSummary summary = tableInfoService.getTableDdlSummary();
+        if (lastSummary == null) {
+            // 기준 설정: 스냅샷이 DB와 동기화되지 않았으면 한 번 증분 갱신
+            if (!snapshotService.isSynced()) {
+                snapshotService.refresh(tableInfoService);
+            }
+            lastSummary = summary;
+            return null;
+        }
+        if (isSame(lastSummary, summary)) {
+            return null;
+        }
+
+        // 2. 바뀐 테이블 찾기 (테이블 생성/삭제가 있을 때만 전체 목록 조회)
+        boolean tableSetChanged = lastSummary.getTable_count() != summary.getTable_count()
+                || lastSummary.getObject_id_sum() != summary.getObject_id_sum();
+        List<TableDdlInfo> candidates = tableSetChanged || lastSummary.getMax_ddl_time() == null
+                ? tableInfoService.getTableDdlTimes()
+                : tableInfoService.getTableDdlTimesSince(lastSummary.getMax_ddl_time());
+
+        // 초 단위 시각을 >=로 조회하므로 직전 최대 시각의 테이블(이미 반영됨)도 후보에 포함됨
+        // -> 스냅샷의 DDL 시각과 같으면 제외 (같은 초에 바뀐 다른 테이블은 놓치지 않음)
+        List<TableDdlInfo> changed = new ArrayList<>();
+        List<String> changedNames = new ArrayList<>();
+        for (TableDdlInfo ddl : candidates) {
+            long ddlTime = ddl.getLast_ddl_time() == null ? 0L : ddl.getLast_ddl_time().getTime();
+            if (snapshotService.getLastDdlTime(ddl.getTable_nm()) != ddlTime) {
+                changed.add(ddl);
+                changedNames.add(ddl.getTable_nm());
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        if (tableSetChanged) {
+            Set<String> current = new HashSet<>();
+            for (TableDdlInfo ddl : candidates) {
+                current.add(ddl.getTable_nm());
+            }
+            for (String tableName : snapshotService.getTableNames()) {
+                if (!current.contains(tableName)) {
+                    removed.add(tableName);
+                }
+            }
+        }
+
+        // 3. 바뀐 테이블의 컬럼만 일괄 조회
+        Map<String, List<ColumnInfo>> columns = changedNames.isEmpty()
+                ? Collections.emptyMap()
+                : tableInfoService.fetchColumns(changedNames, null);
+
+        // 4. 스냅샷(이전 컬럼)과 비교하고 매퍼 다시 생성
+        MapperOptions options = optionsSupplier.get();
+        // 인덱스별 조회 구문을 만들 때는 인덱스도 함께 조회 (인덱스 생성/삭제는 컬럼이 같아도 매퍼에 영향)
+        Map<String, List<IndexInfo>> indexes = options.isUseSelectByIndex() && !changedNames.isEmpty()
+                ? tableInfoService.fetchIndexes(changedNames)
+                : Collections.emptyMap();
+        List<TableDrift> drifts = new ArrayList<>();
+        int ddlOnly = 0;
+        for (TableDdlInfo ddl : changed) {
+            String tableName = ddl.getTable_nm();
+            List<ColumnInfo> newColumns = columns.getOrDefault(tableName, Collections.emptyList());
+            boolean added = snapshotService.getLastDdlTime(tableName) < 0;
+            List<ColumnInfo> oldColumns = added ? null : snapshotService.getColumns(tableName);
+
+            List<String> changes = added ? List.of("컬럼 " + newColumns.size() + "개") : compareColumns(oldColumns, newColumns);
+            if (!added && oldColumns != null && changes.isEmpty() && !options.isUseSelectByIndex()) {
+                ddlOnly++;
+            } else {
+                if (changes.isEmpty()) {
+                    changes = List.of("인덱스 등 컬럼 외 DDL 변경");
+                }
+                String mapper = newColumns.isEmpty() ? null : MybatisMapperGenerator.generateMapper(tableName, newColumns,
+                        indexes.getOrDefault(tableName, Collections.emptyList()), options);
+                drifts.add(new TableDrift(tableName, added ? TableDrift.Kind.ADDED : TableDrift.Kind.CHANGED, changes, mapper));
+            }
+            tableInfoService.invalidateColumns(tableName);
+        }
+        for (String tableName : removed) {
+            drifts.add(new TableDrift(tableName, TableDrift.Kind.REMOVED, Collections.emptyList(), null));
+            tableInfoService.invalidateColumns(tableName);
+        }
+
+        // 5. 스냅샷 반영 (다음 주기의 비교 기준)
+        snapshotService.applyChanges(changed, columns, removed);
+        lastSummary = summary;
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("[WATCH] DDL 변경 감지: 후보 {}개, 변경 {}개, 삭제 {}개, 매퍼 영향 없음 {}개 ({}ms)",
+                candidates.size(), changed.size(), removed.size(), ddlOnly, elapsedMillis);
+        if (drifts.isEmpty()) {
+            return null;
+        }
+        return new DriftReport(new Date(), drifts, ddlOnly, elapsedMillis);
+    }
+
+    // 컬럼 추가/삭제, 타입/PK/코멘트 변경 목록
+    static List<String> compareColumns(List<ColumnInfo> oldColumns, List<ColumnInfo> newColumns) {
+        List<String> changes = new ArrayList<>();
+        if (oldColumns == null) {
+            // 스냅샷에 컬럼 정보가 없던 테이블 (비교 불가)
+            changes.add("컬럼 " + newColumns.size() + "개");
+            return changes;
+        }
+        Map<String, ColumnInfo> oldByName = new LinkedHashMap<>();
+        for (ColumnInfo col : oldColumns) {
+            oldByName.put(col.getColumn_name(), col);
+        }
+        if (!oldColumns.isEmpty() && !newColumns.isEmpty()
+                && !Objects.equals(oldColumns.get(0).getTable_comments(), newColumns.get(0).getTable_comments())) {
+            changes.add("테이블 코멘트 변경");
+        }
+        for (ColumnInfo col : newColumns) {
+            ColumnInfo old = oldByName.remove(col.getColumn_name());
+            if (old == null) {
+                changes.add("+" + col.getColumn_name() + " " + col.getData_type());
+                continue;
+            }
+            if (!Objects.equals(old.getData_type(), col.getData_type())) {
+                changes.add(col.getColumn_name() + " " + old.getData_type() + " -> " + col.getData_type());
+            }
+            if (!Objects.equals(old.getPrimary_key(), col.getPrimary_key())) {
+                changes.add(col.getColumn_name() + ("Y".equals(col.getPrimary_key()) ? " PK 추가" : " PK 제외"));
+            }
+            if (!Objects.equals(old.getColumn_comments(), col.getColumn_comments())) {
+                changes.add(col.getColumn_name() + " 코멘트 변경");
+            }
+        }
+        for (String removedColumn : oldByName.keySet()) {
+            changes.add("-" + removedColumn);
+        }
+        return changes;
+    }
+
+    private static boolean isSame(TableDdlSummary a, TableDdlSummary b) {
+        return a.getTable_count() == b.getTable_count()
+                && a.getObject_id_sum() == b.getObject_id_sum()
+                && a.getDdl_time_sum() == b.getDdl_time_sum()
+                && Objects.equals(a.getMax_ddl_time(), b.getMax_ddl_time());
+    }
+}
@@ -4,19 +4,35 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.dev.mybatisautomapper.dao.ColumnDao;
 import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.IndexInfo;
+import org.dev.mybatisautomapper.model.TableDdlInfo;
+import org.dev.mybatisautomapper.model.TableDdlSummary;
+import org.dev.mybatisautomapper.util.Config;
 import org.dev.mybatisautomapper.util.MyBatisUtil;
 
 import java.sql.*;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 public class TableInfoService {
     private static final Logger logger = LogManager.getLogger(TableInfoService.class);
 
     // DAO 인스턴스
     private final ColumnDao columnDao; // final로 선언하고 생성자 주입을 고려
+    // 테이블별 컬럼 정보 캐시 (같은 테이블 재선택/옵션 변경 후 재생성 시 DB 조회 생략)
+    private final ColumnCache columnCache;
 
     public TableInfoService() {
+        this(null);
+    }
+
+    public TableInfoService(Config.Cache cacheConfig) {
         this.columnDao = new ColumnDao(); // 간단하게 인스턴스 생성. (Spring 등에서는 DI로 주입)
+        this.columnCache = cacheConfig == null
+                ? new ColumnCache(ColumnCache.DEFAULT_MAX_TABLES, ColumnCache.DEFAULT_TTL_SECONDS)
+                : new ColumnCache(cacheConfig.maxTables, cacheConfig.ttlSeconds);
     }
 
     /**
@@ -28,16 +44,75 @@ public class TableInfoService {
         return MyBatisUtil.testConnection(); // MyBatisUtil의 testConnection() 호출
     }
 
-    /** 2) 컬럼 정보 조회 - DAO를 사용하여 데이터 접근 */
+    /**
+     * DB 연결 확인과 테이블 목록(DDL 변경 시각 포함) 조회를 한 세션에서 처리합니다. (앱 시작 시 사용)
+     * @return 연결 정보와 테이블별 DDL 변경 시각, 실패 시 예외 발생
+     */
+    public ColumnDao.ConnectionCheck connect() throws Exception {
+        return columnDao.checkConnectionAndSelectTableDdlTimes();
+    }
+
+    /** 2) 컬럼 정보 조회 - 캐시에 없을 때만 DAO를 사용하여 데이터 접근 */
     public List<ColumnInfo> fetchColumns(String tableName) {
-        logger.debug("[DB] Fetching columns for table: {}", tableName);
-        // DAO의 메서드를 호출하여 데이터 접근 로직 위임
-        List<ColumnInfo> columns = columnDao.selectColumnsByTableName(tableName);
+        List<ColumnInfo> columns = columnCache.get(tableName, name -> {
+            logger.debug("[DB] Fetching columns for table: {}", name);
+            // DAO의 메서드를 호출하여 데이터 접근 로직 위임
+            return columnDao.selectColumnsByTableName(name);
+        });
 
-        logger.debug("[DB] Fetched {} columns for table {}", columns.size(), tableName);
+        logger.debug("[DB] Fetched {} columns for table {} ({})", columns.size(), tableName, columnCache);
         return columns;
     }
 
+    /** 테이블 하나의 컬럼 캐시를 무효화합니다. (DDL 변경 시) */
+    public void invalidateColumns(String tableName) {
+        columnCache.invalidate(tableName);
+    }
+
+    /** 전체 컬럼 캐시를 무효화합니다. */
+    public void invalidateAllColumns() {
+        columnCache.invalidateAll();
+    }
+
+    public ColumnCache getColumnCache() {
+        return columnCache;
+    }
+
+    /**
+     * 여러 테이블의 컬럼 정보를 한 번의 조회(테이블 1000개당 1회)로 가져옵니다.
+     * @param tableNames 조회할 테이블명 리스트 (null이면 스키마 전체)
+     * @param tableListener 테이블 하나의 조회가 끝날 때마다 호출 (null 허용)
+     * @return 테이블명 -> 컬럼 리스트
+     */
+    public Map<String, List<ColumnInfo>> fetchColumns(List<String> tableNames, ColumnDao.TableColumnsListener tableListener) {
+        logger.debug("[DB] Bulk fetching columns for {} tables", tableNames == null ? "all" : tableNames.size());
+        Map<String, List<ColumnInfo>> columnsByTable = columnDao.selectColumnsByTableNames(tableNames, tableListener);
+
+        logger.debug("[DB] Bulk fetched columns for {} tables", columnsByTable.size());
+        return columnsByTable;
+    }
+
+    /**
+     * 테이블 하나의 인덱스 컬럼 정보를 가져옵니다. (PK 인덱스 제외)
+     * @param tableName 테이블명
+     * @return 인덱스 컬럼 리스트 (INDEX_NAME, COLUMN_POSITION 순, 없으면 빈 리스트)
+     */
+    public List<IndexInfo> fetchIndexes(String tableName) {
+        return columnDao.selectIndexesByTableNames(Collections.singletonList(tableName))
+                .getOrDefault(tableName, Collections.emptyList());
+    }
+
+    /**
+     * 여러 테이블의 인덱스 컬럼 정보를 한 번의 조회(테이블 1000개당 1회)로 가져옵니다. (PK 인덱스 제외)
+     * @param tableNames 조회할 테이블명 리스트 (null이면 스키마 전체)
+     * @return 테이블명 -> 인덱스 컬럼 리스트 (인덱스가 없는 테이블은 키 없음)
+     */
+    public Map<String, List<IndexInfo>> fetchIndexes(List<String> tableNames) {
+        Map<String, List<IndexInfo>> indexesByTable = columnDao.selectIndexesByTableNames(tableNames);
+        logger.debug("[DB] Fetched indexes for {} tables", indexesByTable.size());
+        return indexesByTable;
+    }
+
     /**
      * DB에서 모든 테이블 이름 목록을 가져옵니다.
      * @return 테이블 이름 리스트
@@ -45,4 +120,29 @@ public class TableInfoService {
     public List<ColumnInfo> getAllTableNames() throws Exception {
         return columnDao.selectAllTableNames();
     }
+
+    /**
+     * 모든 테이블의 마지막 DDL 변경 시각을 가져옵니다. (테이블 목록과 코멘트 포함)
+     * @return 테이블별 DDL 변경 시각 리스트
+     */
+    public List<TableDdlInfo> getTableDdlTimes() {
+        return columnDao.selectTableDdlTimes();
+    }
+
+    /**
+     * 마지막 DDL 변경 시각이 since 이후(같은 시각 포함)인 테이블만 가져옵니다.
+     * @param since 기준 시각
+     * @return 테이블별 DDL 변경 시각 리스트
+     */
+    public List<TableDdlInfo> getTableDdlTimesSince(Date since) {
+        return columnDao.selectTableDdlTimesSince(since);
+    }
+
+    /**
+     * 스키마 전체의 DDL 변경 요약을 가져옵니다. (결과는 1행, 테이블 전체를 집계)
+     * @return DDL 변경 요약
+     */
+    public TableDdlSummary getTableDdlSummary() {
+        return columnDao.selectTableDdlSummary();
+    }
 }
@@ -0,0 +1,228 @@
+package org.dev.mybatisautomapper.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 감사(audit) 컬럼 등 특정 컬럼에 대한 생성 규칙
+ * - insert.exclude : INSERT 대상에서 제외할 컬럼
+ * - insert.value   : INSERT VALUES에 #{param} 대신 사용할 값 (먼저 선언된 규칙 우선)
+ * - update.exclude : UPDATE SET 절에서 제외할 컬럼 (PK는 항상 제외)
+ * - update.append  : UPDATE SET 절 끝에 항상 추가할 "컬럼 = 값"
+ * 컬럼 패턴은 정확한 이름, '*'로 시작(접미어 일치), '*'로 끝(접두어 일치)을 지원합니다. (예: *INSERT_DTS)
+ * 생성 후 변경 불가이므로 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public class ColumnRules {
+
+    /** 기존 생성기에 고정되어 있던 규칙 (규칙 파일이 없을 때 사용) */
+    public static final ColumnRules DEFAULT = createDefault();
+
+    private final List<String> insertExcludes;
+    private final Map<String, String> insertValues;
+    private final List<String> updateExcludes;
+    private final Map<String, String> updateAppends;
+
+    // 매칭용으로 미리 변환한 형태
+    private final PatternSet insertExcludeSet;
+    private final ColumnPattern[] insertValuePatterns;
+    private final String[] insertValueExprs;
+    private final PatternSet updateExcludeSet;
+    private final List<Map.Entry<String, String>> updateAppendList;
+    private volatile ColumnRules withJdbcTypes;     // 규칙 값의 바인드에 jdbcType을 붙인 규칙 (처음 필요할 때 생성)
+
+    /**
+     * @param insertExcludes INSERT 제외 컬럼 패턴
+     * @param insertValues INSERT 값 규칙 (컬럼 패턴 -> 값, 순서 유지)
+     * @param updateExcludes UPDATE SET 제외 컬럼 패턴
+     * @param updateAppends UPDATE SET 끝에 추가할 컬럼 -> 값 (순서 유지)
+     */
+    public ColumnRules(List<String> insertExcludes, Map<String, String> insertValues,
+                       List<String> updateExcludes, Map<String, String> updateAppends) {
+        this.insertExcludes = List.copyOf(insertExcludes);
+        this.insertValues = Collections.unmodifiableMap(new LinkedHashMap<>(insertValues));
+        this.updateExcludes = List.copyOf(updateExcludes);
+        this.updateAppends = Collections.unmodifiableMap(new LinkedHashMap<>(updateAppends));
+
+        this.insertExcludeSet = new PatternSet(this.insertExcludes);
+        this.insertValuePatterns = new ColumnPattern[this.insertValues.size()];
+        this.insertValueExprs = new String[this.insertValues.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : this.insertValues.entrySet()) {
+            insertValuePatterns[i] = ColumnPattern.of(entry.getKey());
+            insertValueExprs[i] = entry.getValue();
+            i++;
+        }
+        this.updateExcludeSet = new PatternSet(this.updateExcludes);
+        this.updateAppendList = List.copyOf(this.updateAppends.entrySet());
+    }
+
+    public boolean isInsertExcluded(String columnName) {
+        return insertExcludeSet.matches(columnName);
+    }
+
+    /**
+     * @return INSERT VALUES에 사용할 값, 규칙이 없으면 null
+     */
+    public String insertValue(String columnName) {
+        for (int i = 0; i < insertValuePatterns.length; i++) {
+            if (insertValuePatterns[i].matches(columnName)) {
+                return insertValueExprs[i];
+            }
+        }
+        return null;
+    }
+
+    public boolean isUpdateExcluded(String columnName) {
+        return updateExcludeSet.matches(columnName);
+    }
+
+    /** UPDATE SET 절 끝에 추가할 컬럼 -> 값 목록 (선언 순서) */
+    public List<Map.Entry<String, String>> getUpdateAppendList() {
+        return updateAppendList;
+    }
+
+    /**
+     * 규칙 값의 바인드 중 jdbcType이 없는 것에 jdbcType=VARCHAR를 붙인 규칙을 반환합니다. (jdbcType 옵션용)
+     * 규칙 값의 바인드(예: #{P_INSERT_ID}, FN_TODATE(#{P_CM_SYSDATE}))는 컬럼이 아닌 공통 파라미터(사용자 ID, 시각 문자열)이므로 VARCHAR로 둠
+     */
+    public ColumnRules withJdbcTypes() {
+        ColumnRules typed = withJdbcTypes;
+        if (typed == null) {
+            Map<String, String> typedInsertValues = new LinkedHashMap<>();
+            insertValues.forEach((column, value) -> typedInsertValues.put(column, withJdbcType(value)));
+            Map<String, String> typedUpdateAppends = new LinkedHashMap<>();
+            updateAppends.forEach((column, value) -> typedUpdateAppends.put(column, withJdbcType(value)));
+            typed = new ColumnRules(insertExcludes, typedInsertValues, updateExcludes, typedUpdateAppends);
+            typed.withJdbcTypes = typed;
+            withJdbcTypes = typed;
+        }
+        return typed;
+    }
+
+    // 값 안의 #{...} 중 jdbcType이 없는 것에 ", jdbcType=VARCHAR"를 붙임
+    static String withJdbcType(String value) {
+        if (!value.contains("#{")) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 32);
+        int copied = 0;
+        for (int start = value.indexOf("#{"); start >= 0; start = value.indexOf("#{", copied)) {
+            int end = value.indexOf('}', start);
+            if (end < 0) {
+                break;
+            }
+            sb.append(value, copied, end);
+            if (!value.substring(start, end).contains("jdbcType")) {
+                sb.append(", jdbcType=VARCHAR");
+            }
+            copied = end;
+        }
+        sb.append(value, copied, value.length());
+        return sb.toString();
+    }
+
+    public List<String> getInsertExcludes() {
+        return insertExcludes;
+    }
+
+    public Map<String, String> getInsertValues() {
+        return insertValues;
+    }
+
+    public List<String> getUpdateExcludes() {
+        return updateExcludes;
+    }
+
+    public Map<String, String> getUpdateAppends() {
+        return updateAppends;
+    }
+
+    private static ColumnRules createDefault() {
+        Map<String, String> insertValues = new LinkedHashMap<>();
+        insertValues.put("*INSERT_DTS", "FN_TODATE(#{P_CM_SYSDATE})");
+        insertValues.put("INSERT_ID", "#{P_INSERT_ID}");
+        insertValues.put("UPDATE_ID", "#{P_UPDATE_ID}");
+        insertValues.put("UPDATE_DTS", "FN_TODATE(#{P_CM_SYSDATE})");
+
+        Map<String, String> updateAppends = new LinkedHashMap<>();
+        updateAppends.put("UPDATE_ID", "#{P_UPDATE_ID}");
+        updateAppends.put("UPDATE_DTS", "FN_TODATE(#{P_CM_SYSDATE})");
+
+        return new ColumnRules(
+                List.of("INSERT_IP", "INSERT_MCADDR_NM", "UPDATE_IP", "UPDATE_MCADDR_NM"),
+                insertValues,
+                List.of("INSERT_ID", "INSERT_IP", "INSERT_MCADDR_NM", "INSERT_DTS",
+                        "UPDATE_ID", "UPDATE_IP", "UPDATE_MCADDR_NM", "UPDATE_DTS"),
+                updateAppends);
+    }
+
+    // 정확한 이름은 HashSet으로, 와일드카드 패턴은 순서대로 확인
+    private static final class PatternSet {
+        private final Set<String> exact = new HashSet<>();
+        private final List<ColumnPattern> wildcards = new ArrayList<>();
+
+        private PatternSet(List<String> patterns) {
+            for (String pattern : patterns) {
+                ColumnPattern compiled = ColumnPattern.of(pattern);
+                if (compiled.kind == ColumnPattern.EXACT) {
+                    exact.add(compiled.text);
+                } else {
+                    wildcards.add(compiled);
+                }
+            }
+        }
+
+        private boolean matches(String columnName) {
+            if (exact.contains(columnName)) {
+                return true;
+            }
+            for (ColumnPattern pattern : wildcards) {
+                if (pattern.matches(columnName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class ColumnPattern {
+        private static final int EXACT = 0;
+        private static final int SUFFIX = 1;   // *XXX
+        private static final int PREFIX = 2;   // XXX*
+
+        private final int kind;
+        private final String text;
+
+        private ColumnPattern(int kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+
+        private static ColumnPattern of(String pattern) {
+            String p = pattern.trim().toUpperCase();
+            if (p.length() > 1 && p.startsWith("*")) {
+                return new ColumnPattern(SUFFIX, p.substring(1));
+            }
+            if (p.length() > 1 && p.endsWith("*")) {
+                return new ColumnPattern(PREFIX, p.substring(0, p.length() - 1));
+            }
+            return new ColumnPattern(EXACT, p);
+        }
+
+        private boolean matches(String columnName) {
+            switch (kind) {
+                case SUFFIX:
+                    return columnName.endsWith(text);
+                case PREFIX:
+                    return columnName.startsWith(text);
+                default:
+                    return columnName.equals(text);
+            }
+        }
+    }
+}
@@ -8,6 +8,19 @@ public class Config {
         public String url;
         public String user;
         public String password;
+        public int fetchSize = 500;   // 일괄 메타데이터 조회 시 한 번에 가져올 행 수
+
+        // 연결 풀 (MyBatis POOLED)
+        public int poolMaxActive = 10;                  // 최대 활성 연결 수
+        public int poolMaxIdle = 5;                     // 최대 유휴 연결 수
+        public int poolRetryIntervalMillis = 20000;     // 연결이 모두 사용 중일 때 다시 시도하기 전 대기 시간 (제한 시간이 아니며 얻을 때까지 반복)
+        public int poolMaxCheckoutMillis = 60000;       // 이 시간 이상 점유한 연결은 다른 요청이 회수 가능
+        public boolean poolPingEnabled = true;          // 오래 쉰 연결을 사용 전에 검증
+        public String poolPingQuery = "SELECT 1 FROM DUAL";
+        public int poolPingIdleMillis = 60000;          // 이 시간 이상 쓰지 않은 연결만 검증
+        public int prewarmConnections = 2;              // 시작 시 미리 만들어 둘 연결 수 (0이면 사용 안 함)
+        @Deprecated
+        public Integer poolCheckoutTimeoutMillis;       // 이전 이름 (poolRetryIntervalMillis와 같은 값, 기존 config.json 호환용)
     }
     public static class AiProvider {
         public String apiKey;
@@ -23,9 +36,33 @@ public class Config {
         public String theme;
     }
 
+    public static class Cache {
+        public int maxTables = 200;        // 메모리에 보관할 최대 테이블 수 (LRU)
+        public long ttlSeconds = 600;      // 컬럼 정보 캐시 유효 시간(초)
+    }
+
+    public static class Template {
+        public String path;                // 구문 템플릿/컬럼 규칙 파일 경로 (없으면 기본 생성기 사용)
+    }
+    public static class Generator {
+        public int batchSize = 500;        // 다건 구문(insertBatch, mergeBatch 등) 한 번에 처리할 최대 건수
+        public String mapperPackage;       // 내보낸 매퍼 파일 namespace의 패키지 (예: com.example.mapper -> com.example.mapper.모델명Mapper)
+    }
+    public static class Watch {
+        public int intervalSeconds = 30;   // 스키마 변경 감시 주기(초)
+    }
+    public static class Plan {
+        public long fullScanWarnRows = 100_000; // 이 행 수 이상인 테이블의 TABLE ACCESS FULL을 실행 계획 경고로 표시
+    }
+
     private Db db;
     private Ai ai;
     private Ui ui;
+    private Cache cache;
+    private Template template;
+    private Generator generator;
+    private Watch watch;
+    private Plan plan;
 
     public Db getDb() {
         return db;
@@ -50,4 +87,44 @@ public class Config {
     public void setUi(Ui ui) {
         this.ui = ui;
     }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public Template getTemplate() {
+        return template;
+    }
+
+    public void setTemplate(Template template) {
+        this.template = template;
+    }
+
+    public Generator getGenerator() {
+        return generator;
+    }
+
+    public void setGenerator(Generator generator) {
+        this.generator = generator;
+    }
+
+    public Watch getWatch() {
+        return watch;
+    }
+
+    public void setWatch(Watch watch) {
+        this.watch = watch;
+    }
+
+    public Plan getPlan() {
+        return plan;
+    }
+
+    public void setPlan(Plan plan) {
+        this.plan = plan;
+    }
 }
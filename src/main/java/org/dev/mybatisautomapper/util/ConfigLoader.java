@@ -12,7 +12,8 @@ public class ConfigLoader {
     private static Config config;
     private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
 
-    public static Config load(String path) {
+    // 시작 시 화면(컨트롤러)과 백그라운드 팩토리 생성이 동시에 호출하므로 한 번만 로드되도록 동기화
+    public static synchronized Config load(String path) {
         if (config == null) {
             try (Reader reader = new FileReader(path)) {
                 config = gson.fromJson(reader, Config.class);
@@ -0,0 +1,111 @@
+package org.dev.mybatisautomapper.util;
+
+import org.dev.mybatisautomapper.model.ColumnInfo;
+
+import java.util.List;
+
+/**
+ * 컬럼 정보(ColumnInfo.data_type)로 한 행의 크기를 추정하여 스트리밍 조회의 fetchSize를 정합니다.
+ * - Oracle JDBC 드라이버는 fetchSize 건만큼의 버퍼를 컬럼의 최대 길이 기준으로 미리 잡으므로,
+ *   넓은 테이블에 큰 fetchSize를 주면 메모리를, 좁은 테이블에 작은 fetchSize(기본 10)를 주면 왕복 횟수를 낭비함
+ * - 한 번에 가져오는 양이 TARGET_FETCH_BYTES 정도가 되도록 fetchSize를 계산 (MIN_FETCH_SIZE ~ MAX_FETCH_SIZE)
+ */
+public final class FetchSizeEstimator {
+
+    public static final int TARGET_FETCH_BYTES = 1024 * 1024; // 한 번에 가져올 목표 크기 (1MB)
+    public static final int MIN_FETCH_SIZE = 10;               // Oracle 드라이버 기본값
+    public static final int MAX_FETCH_SIZE = 5000;
+
+    private static final int CHAR_BYTES = 2;       // 드라이버는 문자 데이터를 Java char(2바이트)로 담음
+    private static final int LOB_BYTES = 4000;     // LOB은 로케이터 + 미리 가져오는(prefetch) 데이터 정도로 추정
+    private static final int UNKNOWN_BYTES = 100;  // 길이를 알 수 없는 타입
+
+    private FetchSizeEstimator() {
+    }
+
+    /**
+     * @param columns 테이블 컬럼 정보 리스트
+     * @return TARGET_FETCH_BYTES / 예상 행 크기 (MIN_FETCH_SIZE ~ MAX_FETCH_SIZE)
+     */
+    public static int fetchSize(List<ColumnInfo> columns) {
+        long rowBytes = Math.max(1, estimateRowBytes(columns));
+        return (int) Math.max(MIN_FETCH_SIZE, Math.min(MAX_FETCH_SIZE, TARGET_FETCH_BYTES / rowBytes));
+    }
+
+    /**
+     * @return 한 행의 예상 크기 (바이트, 컬럼별 추정치의 합)
+     */
+    public static long estimateRowBytes(List<ColumnInfo> columns) {
+        long sum = 0;
+        for (ColumnInfo col : columns) {
+            sum += estimateColumnBytes(col.getData_type());
+        }
+        return sum;
+    }
+
+    /**
+     * @param dataType ColumnInfo.data_type (예: VARCHAR2(20), NUMBER, TIMESTAMP(6))
+     * @return 컬럼 값 하나의 예상 최대 크기 (바이트)
+     */
+    public static int estimateColumnBytes(String dataType) {
+        if (dataType == null) {
+            return UNKNOWN_BYTES;
+        }
+        String typeName = JdbcTypeRegistry.typeName(dataType);
+        int length = length(dataType);
+        switch (typeName) {
+            case "VARCHAR2":
+            case "VARCHAR":
+            case "NVARCHAR2":
+            case "CHAR":
+            case "NCHAR":
+                return (length > 0 ? length : 4000) * CHAR_BYTES;
+            case "RAW":
+                return length > 0 ? length : 2000;
+            case "NUMBER":
+            case "FLOAT":
+            case "DECIMAL":
+            case "INTEGER":
+                return 22;
+            case "BINARY_FLOAT":
+                return 4;
+            case "BINARY_DOUBLE":
+                return 8;
+            case "DATE":
+                return 7;
+            case "TIMESTAMP":
+            case "TIMESTAMP WITH LOCAL TIME ZONE":
+                return 11;
+            case "TIMESTAMP WITH TIME ZONE":
+                return 13;
+            case "ROWID":
+            case "UROWID":
+                return 18 * CHAR_BYTES;
+            case "CLOB":
+            case "NCLOB":
+            case "BLOB":
+            case "LONG":
+            case "LONG RAW":
+                return LOB_BYTES;
+            default:
+                return UNKNOWN_BYTES;
+        }
+    }
+
+    // 첫 괄호 안의 길이 (예: VARCHAR2(20) -> 20, 없으면 0)
+    private static int length(String dataType) {
+        int open = dataType.indexOf('(');
+        if (open < 0) {
+            return 0;
+        }
+        int value = 0;
+        for (int i = open + 1; i < dataType.length(); i++) {
+            char c = dataType.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
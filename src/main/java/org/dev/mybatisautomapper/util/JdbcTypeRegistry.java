@@ -0,0 +1,104 @@
+package org.dev.mybatisautomapper.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Oracle 컬럼 타입(ColumnInfo.data_type) -> MyBatis javaType/jdbcType 매핑
+ * - data_type은 "VARCHAR2(20)", "TIMESTAMP(6)"처럼 길이가 붙어 있으므로 괄호를 뺀 이름으로 판단
+ * - 같은 data_type은 한 번만 계산하여 재사용 (테이블이 많아도 data_type 종류는 많지 않음)
+ */
+public final class JdbcTypeRegistry {
+
+    /**
+     * 타입 매핑 결과 (javaType은 MyBatis 별칭 또는 클래스명, 알 수 없는 타입이면 둘 다 null)
+     */
+    public static final class TypeMapping {
+        private final String javaType;
+        private final String jdbcType;
+
+        private TypeMapping(String javaType, String jdbcType) {
+            this.javaType = javaType;
+            this.jdbcType = jdbcType;
+        }
+
+        public String getJavaType() {
+            return javaType;
+        }
+
+        public String getJdbcType() {
+            return jdbcType;
+        }
+
+        public boolean isKnown() {
+            return jdbcType != null;
+        }
+    }
+
+    private static final TypeMapping UNKNOWN = new TypeMapping(null, null);
+
+    // 괄호를 뺀 Oracle 타입명 -> 매핑
+    private static final Map<String, TypeMapping> BY_TYPE_NAME = new HashMap<>();
+    // data_type 원문 -> 매핑 (계산 결과 캐시)
+    private static final Map<String, TypeMapping> CACHE = new ConcurrentHashMap<>();
+
+    static {
+        register("String", "VARCHAR", "VARCHAR2", "VARCHAR", "ROWID", "UROWID");
+        register("String", "NVARCHAR", "NVARCHAR2");
+        register("String", "CHAR", "CHAR");
+        register("String", "NCHAR", "NCHAR");
+        register("String", "CLOB", "CLOB");
+        register("String", "NCLOB", "NCLOB");
+        register("String", "LONGVARCHAR", "LONG");
+        register("BigDecimal", "NUMERIC", "NUMBER", "FLOAT", "DECIMAL", "INTEGER");
+        register("Float", "FLOAT", "BINARY_FLOAT");
+        register("Double", "DOUBLE", "BINARY_DOUBLE");
+        // DATE 컬럼을 TIMESTAMP로 바인드하면 Oracle이 컬럼 쪽을 INTERNAL_FUNCTION으로 변환하여 인덱스를 쓰지 못하므로 DATE로 바인드
+        // (MyBatis 기본 핸들러는 jdbcType=DATE에서 시분초를 버림, 시분초가 필요하면 OracleDateTypeHandler 등록)
+        register("Date", "DATE", "DATE");
+        register("Date", "TIMESTAMP", "TIMESTAMP", "TIMESTAMP WITH LOCAL TIME ZONE");
+        register("java.time.OffsetDateTime", "TIMESTAMP_WITH_TIMEZONE", "TIMESTAMP WITH TIME ZONE");
+        register("_byte[]", "BLOB", "BLOB");
+        register("_byte[]", "VARBINARY", "RAW");
+        register("_byte[]", "LONGVARBINARY", "LONG RAW");
+    }
+
+    private JdbcTypeRegistry() {
+    }
+
+    /**
+     * @param dataType ColumnInfo.data_type (예: VARCHAR2(20), NUMBER, TIMESTAMP(6))
+     * @return 타입 매핑, 알 수 없는 타입이면 isKnown()이 false인 매핑
+     */
+    public static TypeMapping of(String dataType) {
+        if (dataType == null) {
+            return UNKNOWN;
+        }
+        return CACHE.computeIfAbsent(dataType, type -> BY_TYPE_NAME.getOrDefault(typeName(type), UNKNOWN));
+    }
+
+    // 괄호 부분을 뺀 타입명 (예: TIMESTAMP(6) WITH TIME ZONE -> TIMESTAMP WITH TIME ZONE)
+    static String typeName(String dataType) {
+        StringBuilder sb = new StringBuilder(dataType.length());
+        int depth = 0;
+        for (int i = 0; i < dataType.length(); i++) {
+            char c = dataType.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0) {
+                sb.append(Character.toUpperCase(c));
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    private static void register(String javaType, String jdbcType, String... oracleTypes) {
+        TypeMapping mapping = new TypeMapping(javaType, jdbcType);
+        for (String oracleType : oracleTypes) {
+            BY_TYPE_NAME.put(oracleType, mapping);
+        }
+    }
+}
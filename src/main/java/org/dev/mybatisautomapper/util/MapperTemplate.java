@@ -0,0 +1,517 @@
+package org.dev.mybatisautomapper.util;
+
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 정의 매퍼 템플릿 (팀별 구문 형태와 컬럼 규칙)
+ * 템플릿 파일은 한 번만 파싱되어 명령(instruction) 배열로 컴파일되고, 렌더링 시에는 배열을 순서대로 실행만 합니다.
+ * (블록은 점프 명령으로 펼쳐 두므로 렌더링 중 재귀 호출이나 컬럼별 객체 생성이 없음)
+ * 파일 문법은 TemplateParser 참고. 생성 후 변경 불가이므로 여러 스레드에서 동시에 렌더링할 수 있습니다.
+ */
+public class MapperTemplate {
+
+    /** 템플릿으로 정의할 수 있는 구문 */
+    public enum Statement {
+        SELECT, INSERT, UPDATE, DELETE
+    }
+
+    // 파일 경로 -> 컴파일된 템플릿 (수정 시각/크기가 바뀌면 다시 컴파일)
+    private static final Map<Path, CachedTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final EnumMap<Statement, Instruction[]> statements;
+    private final ColumnRules columnRules;
+
+    MapperTemplate(String name, EnumMap<Statement, Instruction[]> statements, ColumnRules columnRules) {
+        this.name = name;
+        this.statements = statements;
+        this.columnRules = columnRules;
+    }
+
+    /**
+     * 템플릿 파일을 컴파일된 형태로 가져옵니다. 파일이 바뀌지 않았으면 캐시된 템플릿을 그대로 반환합니다.
+     * @param path 템플릿 파일 경로 (UTF-8)
+     * @return 컴파일된 템플릿
+     * @throws IllegalArgumentException 템플릿 문법 오류 (파일명과 줄 번호 포함)
+     */
+    public static MapperTemplate load(Path path) throws IOException {
+        Path key = path.toAbsolutePath().normalize();
+        FileTime modified = Files.getLastModifiedTime(key);
+        long size = Files.size(key);
+
+        CachedTemplate cached = CACHE.get(key);
+        if (cached != null && cached.modified.equals(modified) && cached.size == size) {
+            return cached.template;
+        }
+        MapperTemplate template = parse(Files.readString(key, StandardCharsets.UTF_8), key.getFileName().toString());
+        CACHE.put(key, new CachedTemplate(modified, size, template));
+        return template;
+    }
+
+    /**
+     * 템플릿 문자열을 컴파일합니다. (캐시하지 않음)
+     * @param source 템플릿 내용
+     * @param name 오류 메시지에 표시할 이름
+     */
+    public static MapperTemplate parse(String source, String name) {
+        return TemplateParser.parse(source, name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** 컬럼 규칙 (템플릿에 @rule이 없는 항목은 기본 규칙) */
+    public ColumnRules getColumnRules() {
+        return columnRules;
+    }
+
+    /** 템플릿이 해당 구문을 정의했는지 여부 (정의하지 않은 구문은 기본 생성기 사용) */
+    public boolean defines(Statement statement) {
+        return statements.containsKey(statement);
+    }
+
+    /**
+     * 템플릿으로 구문 하나를 out에 씁니다.
+     * @throws IllegalStateException 템플릿이 구문을 정의하지 않은 경우
+     */
+    public void write(Statement statement, Appendable out, String tableName, List<ColumnInfo> columns, MapperOptions options) throws IOException {
+        Instruction[] code = statements.get(statement);
+        if (code == null) {
+            throw new IllegalStateException("템플릿 '" + name + "'에 " + statement + " 구문이 없습니다.");
+        }
+        execute(code, out, new RenderContext(tableName, columns, options,
+                options.isUseJdbcType() ? columnRules.withJdbcTypes() : columnRules));
+    }
+
+    // 명령 배열을 프로그램 카운터(pc)로 순서대로 실행 (블록은 점프로 처리하므로 재귀 호출 없음)
+    private static void execute(Instruction[] code, Appendable out, RenderContext ctx) throws IOException {
+        int pc = 0;
+        while (pc < code.length) {
+            Instruction in = code[pc];
+            switch (in.op) {
+                case Instruction.LITERAL:
+                    out.append(in.text);
+                    pc++;
+                    break;
+                case Instruction.VAR:
+                    int written = ctx.write(out, in.var);
+                    if (in.width > written) {
+                        MybatisMapperGenerator.appendSpaces(out, in.width - written);
+                    }
+                    pc++;
+                    break;
+                case Instruction.IF:
+                    pc = ctx.test(in.condition) != in.negate ? pc + 1 : in.jump;
+                    break;
+                case Instruction.EACH:
+                    pc = ctx.beginLoop(in.set) ? pc + 1 : in.jump;
+                    break;
+                case Instruction.END_EACH:
+                    if (ctx.nextInLoop()) {
+                        pc = in.jump;
+                    } else {
+                        ctx.endLoop();
+                        pc++;
+                    }
+                    break;
+                case Instruction.LIST:
+                    ctx.writeList(out, in.set, in.var);
+                    pc++;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown template instruction: " + in.op);
+            }
+        }
+    }
+
+    private static final class CachedTemplate {
+        private final FileTime modified;
+        private final long size;
+        private final MapperTemplate template;
+
+        private CachedTemplate(FileTime modified, long size, MapperTemplate template) {
+            this.modified = modified;
+            this.size = size;
+            this.template = template;
+        }
+    }
+
+    // ===================== 컴파일된 명령 =====================
+
+    /** 템플릿 변수 (${name} 또는 ${name:너비}) */
+    enum Var {
+        TABLE("table", false),              // 테이블명
+        MODEL("model", false),              // 모델명 (CamelCase)
+        PARAMETER_TYPE("parameterType", false), // Model 또는 HashMap
+        RESULT("result", false),            // resultMap="resultMap" 또는 resultType="Model" (resultMap 옵션에 따라)
+        COLUMN("column", true),             // 컬럼명
+        PARAM("param", true),               // 파라미터명 (소문자컬럼명 또는 P_컬럼명)
+        BIND("bind", true),                 // insert.value 규칙 값 또는 #{param} (jdbcType 옵션이면 #{param, jdbcType=...}, updateAppend에서는 규칙 값)
+        JDBC_TYPE("jdbcType", true),        // 바인드 변수 뒤에 붙일 ", jdbcType=..." (옵션이 꺼져 있거나 알 수 없는 타입이면 빈 값)
+        COMMENT("comment", true),           // 컬럼 코멘트
+        DATA_TYPE("dataType", true),        // 데이터 타입
+        TEST("test", true),                 // <if test="">에 넣을 조건식
+        INDEX("index", true);               // 반복 순번 (0부터)
+
+        final String key;
+        final boolean columnScoped;         // #each 안에서만 사용 가능
+
+        Var(String key, boolean columnScoped) {
+            this.key = key;
+            this.columnScoped = columnScoped;
+        }
+    }
+
+    /** 반복 대상 컬럼 집합 (${#each 집합}) */
+    enum ColumnSet {
+        COLUMNS("columns"),                 // 전체 컬럼
+        PK("pk"),                           // PK 컬럼
+        INSERT("insert"),                   // INSERT 대상 (insert.exclude 제외)
+        UPDATE("update"),                   // UPDATE SET 대상 (PK, update.exclude 제외)
+        UPDATE_APPEND("updateAppend");      // update.append 규칙 (column, bind만 사용)
+
+        final String key;
+
+        ColumnSet(String key) {
+            this.key = key;
+        }
+
+        boolean includes(ColumnInfo col, ColumnRules rules) {
+            switch (this) {
+                case PK:
+                    return MybatisMapperGenerator.isPrimaryKey(col);
+                case INSERT:
+                    return !rules.isInsertExcluded(col.getColumn_name());
+                case UPDATE:
+                    return MybatisMapperGenerator.isUpdateSetColumn(col, rules);
+                default:
+                    return true;
+            }
+        }
+    }
+
+    /** 조건 (${#if 조건} 또는 ${#if !조건}) */
+    enum Condition {
+        FIRST("first", true),
+        LAST("last", true),
+        COMMENT("comment", true),           // 코멘트가 있음
+        STRING("string", true),             // 문자열 타입 컬럼
+        USE_IF_WHERE("useIfWhere", false),
+        USE_IF_UPDATE("useIfUpdate", false),
+        MODEL("model", false);              // 파라미터 타입이 Model
+
+        final String key;
+        final boolean columnScoped;
+
+        Condition(String key, boolean columnScoped) {
+            this.key = key;
+            this.columnScoped = columnScoped;
+        }
+    }
+
+    /**
+     * 컴파일된 명령 하나
+     * - LITERAL : text 출력
+     * - VAR : 변수 출력 (width가 있으면 오른쪽을 공백으로 채움)
+     * - IF : 조건이 맞지 않으면 jump(대응하는 /if 다음)로 이동
+     * - EACH : 대상이 없으면 jump(대응하는 END_EACH 다음)로 이동
+     * - END_EACH : 다음 대상이 있으면 jump(대응하는 EACH 다음)로 이동
+     * - LIST : 집합을 한 줄에 5개씩 나열
+     */
+    static final class Instruction {
+        static final int LITERAL = 0;
+        static final int VAR = 1;
+        static final int IF = 2;
+        static final int EACH = 3;
+        static final int END_EACH = 4;
+        static final int LIST = 5;
+
+        final int op;
+        String text;
+        Var var;
+        int width;
+        Condition condition;
+        boolean negate;
+        ColumnSet set;
+        int jump;
+
+        private Instruction(int op) {
+            this.op = op;
+        }
+
+        static Instruction literal(String text) {
+            Instruction in = new Instruction(LITERAL);
+            in.text = text;
+            return in;
+        }
+
+        static Instruction var(Var var, int width) {
+            Instruction in = new Instruction(VAR);
+            in.var = var;
+            in.width = width;
+            return in;
+        }
+
+        static Instruction ifBlock(Condition condition, boolean negate) {
+            Instruction in = new Instruction(IF);
+            in.condition = condition;
+            in.negate = negate;
+            return in;
+        }
+
+        static Instruction each(ColumnSet set) {
+            Instruction in = new Instruction(EACH);
+            in.set = set;
+            return in;
+        }
+
+        static Instruction endEach(int eachIndex) {
+            Instruction in = new Instruction(END_EACH);
+            in.jump = eachIndex + 1;
+            return in;
+        }
+
+        static Instruction list(ColumnSet set, Var item) {
+            Instruction in = new Instruction(LIST);
+            in.set = set;
+            in.var = item;
+            return in;
+        }
+    }
+
+    /** 렌더링 중 상태 (구문 하나를 렌더링하는 동안 한 스레드에서만 사용) */
+    static final class RenderContext {
+        private final String tableName;
+        private final List<ColumnInfo> columns;
+        private final MapperOptions options;
+        private final ColumnRules rules;
+        private String modelName;           // 필요할 때 한 번만 변환
+
+        private ColumnInfo column;                  // 현재 컬럼 (#each 안)
+        private Map.Entry<String, String> append;   // 현재 update.append 규칙 (#each updateAppend 안)
+        private int index;
+        private int count;
+
+        // 중첩 #each 상태 (바깥 반복의 값을 보관)
+        private ColumnSet set;
+        private int cursor;                 // columns(또는 update.append 목록)에서의 현재 위치
+        private int depth;
+        private Object[] savedItems = new Object[8];    // ColumnInfo 또는 Map.Entry
+        private ColumnSet[] savedSets = new ColumnSet[4];
+        private int[] savedInts = new int[12];          // index, count, cursor
+
+        RenderContext(String tableName, List<ColumnInfo> columns, MapperOptions options, ColumnRules rules) {
+            this.tableName = tableName;
+            this.columns = columns;
+            this.options = options;
+            this.rules = rules;
+        }
+
+        // 반복 시작: 대상이 있으면 첫 번째 대상으로 이동하고 true, 없으면 상태를 되돌리고 false
+        boolean beginLoop(ColumnSet loopSet) {
+            push();
+            set = loopSet;
+            index = 0;
+            if (loopSet == ColumnSet.UPDATE_APPEND) {
+                List<Map.Entry<String, String>> appends = rules.getUpdateAppendList();
+                count = appends.size();
+                column = null;
+                cursor = 0;
+                if (count == 0) {
+                    pop();
+                    return false;
+                }
+                append = appends.get(0);
+                return true;
+            }
+
+            // last 판단을 위해 대상 수를 먼저 셈 (필터링된 리스트를 만들지 않음)
+            int total = 0;
+            int first = -1;
+            for (int i = 0; i < columns.size(); i++) {
+                if (loopSet.includes(columns.get(i), rules)) {
+                    if (first < 0) {
+                        first = i;
+                    }
+                    total++;
+                }
+            }
+            if (total == 0) {
+                pop();
+                return false;
+            }
+            count = total;
+            append = null;
+            cursor = first;
+            column = columns.get(first);
+            return true;
+        }
+
+        // 다음 대상으로 이동, 없으면 false
+        boolean nextInLoop() {
+            if (index + 1 >= count) {
+                return false;
+            }
+            index++;
+            if (set == ColumnSet.UPDATE_APPEND) {
+                cursor++;
+                append = rules.getUpdateAppendList().get(cursor);
+                return true;
+            }
+            int i = cursor + 1;
+            while (!set.includes(columns.get(i), rules)) {
+                i++;
+            }
+            cursor = i;
+            column = columns.get(i);
+            return true;
+        }
+
+        void endLoop() {
+            pop();
+        }
+
+        void writeList(Appendable out, ColumnSet listSet, Var item) throws IOException {
+            push();
+            append = null;
+            MybatisMapperGenerator.writeLineByLine(out, columns, col -> listSet.includes(col, rules), (o, col) -> {
+                column = col;
+                write(o, item);
+            }, MybatisMapperGenerator.COLUMNS_PER_LINE, ",", MybatisMapperGenerator.DEFAULT_PADDING);
+            pop();
+        }
+
+        private void push() {
+            if (depth == savedSets.length) {
+                savedItems = Arrays.copyOf(savedItems, depth * 4);
+                savedSets = Arrays.copyOf(savedSets, depth * 2);
+                savedInts = Arrays.copyOf(savedInts, depth * 6);
+            }
+            savedItems[depth * 2] = column;
+            savedItems[depth * 2 + 1] = append;
+            savedSets[depth] = set;
+            savedInts[depth * 3] = index;
+            savedInts[depth * 3 + 1] = count;
+            savedInts[depth * 3 + 2] = cursor;
+            depth++;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void pop() {
+            depth--;
+            column = (ColumnInfo) savedItems[depth * 2];
+            append = (Map.Entry<String, String>) savedItems[depth * 2 + 1];
+            set = savedSets[depth];
+            index = savedInts[depth * 3];
+            count = savedInts[depth * 3 + 1];
+            cursor = savedInts[depth * 3 + 2];
+        }
+
+        // 변수 값을 out에 쓰고 쓴 글자 수를 반환 (패딩 계산용)
+        int write(Appendable out, Var var) throws IOException {
+            boolean model = options.isParameterTypeModel();
+            switch (var) {
+                case TABLE:
+                    return appendText(out, tableName);
+                case MODEL:
+                    if (modelName == null) {
+                        modelName = MybatisMapperGenerator.convertToCamelCase(tableName);
+                    }
+                    return appendText(out, modelName);
+                case PARAMETER_TYPE:
+                    return appendText(out, MybatisMapperGenerator.parameterType(model));
+                case RESULT:
+                    return appendText(out, options.isUseResultMap()
+                            ? "resultMap=\"" + MybatisMapperGenerator.RESULT_MAP_ID + "\""
+                            : "resultType=\"Model\"");
+                case COLUMN:
+                    return appendText(out, columnName());
+                case PARAM:
+                    MybatisMapperGenerator.appendParamName(out, columnName(), model);
+                    return paramLength(columnName(), model);
+                case BIND:
+                    if (append != null) {
+                        return appendText(out, append.getValue());
+                    }
+                    String value = rules.insertValue(column.getColumn_name());
+                    if (value != null) {
+                        return appendText(out, value);
+                    }
+                    out.append("#{");
+                    MybatisMapperGenerator.appendParamName(out, column.getColumn_name(), model);
+                    int typeLength = options.isUseJdbcType() ? MybatisMapperGenerator.appendJdbcType(out, column) : 0;
+                    out.append('}');
+                    return paramLength(column.getColumn_name(), model) + typeLength + 3;
+                case JDBC_TYPE:
+                    return column == null || !options.isUseJdbcType() ? 0 : MybatisMapperGenerator.appendJdbcType(out, column);
+                case COMMENT:
+                    return column == null ? 0 : appendText(out, column.getColumn_comments());
+                case DATA_TYPE:
+                    return column == null ? 0 : appendText(out, column.getData_type());
+                case TEST:
+                    if (column == null) {
+                        return 0;
+                    }
+                    MybatisMapperGenerator.appendIfTestCondition(out, column, model);
+                    int paramLength = paramLength(column.getColumn_name(), model);
+                    return MybatisMapperGenerator.isStringType(column.getData_type())
+                            ? paramLength * 2 + " != null and ".length() + " != ''".length()
+                            : paramLength + " != null".length();
+                case INDEX:
+                    return appendText(out, Integer.toString(index));
+                default:
+                    throw new IllegalStateException("Unknown template variable: " + var);
+            }
+        }
+
+        boolean test(Condition condition) {
+            switch (condition) {
+                case FIRST:
+                    return index == 0;
+                case LAST:
+                    return index == count - 1;
+                case COMMENT:
+                    return column != null && column.getColumn_comments() != null && !column.getColumn_comments().isEmpty();
+                case STRING:
+                    return column != null && MybatisMapperGenerator.isStringType(column.getData_type());
+                case USE_IF_WHERE:
+                    return options.isUseIfWhere();
+                case USE_IF_UPDATE:
+                    return options.isUseIfUpdate();
+                case MODEL:
+                    return options.isParameterTypeModel();
+                default:
+                    throw new IllegalStateException("Unknown template condition: " + condition);
+            }
+        }
+
+        private String columnName() {
+            return append != null ? append.getKey() : column.getColumn_name();
+        }
+
+        private static int paramLength(String columnName, boolean model) {
+            return model ? columnName.length() : columnName.length() + 2;
+        }
+
+        private static int appendText(Appendable out, String text) throws IOException {
+            if (text == null) {
+                return 0;
+            }
+            out.append(text);
+            return text.length();
+        }
+    }
+}
@@ -7,8 +7,14 @@ import java.net.URL;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.pooled.PoolState;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.session.*;
 import org.apache.logging.log4j.LogManager;
@@ -17,11 +23,90 @@ import org.apache.logging.log4j.Logger;
 public class MyBatisUtil {
     private static final Logger logger = LogManager.getLogger(MyBatisUtil.class);
 
-    private static SqlSessionFactory factory;
+    private static volatile SqlSessionFactory factory;
+    private static volatile boolean prewarmed;  // 예열에 한 번 성공하면 이후 요청은 생략
+
+    /**
+     * 연결 풀 통계 (PooledDataSource의 PoolState 요약)
+     */
+    public static class PoolStats {
+        private final int activeConnections;
+        private final int idleConnections;
+        private final long requestCount;
+        private final long averageRequestMillis;    // 연결 요청 1건당 평균 소요 시간
+        private final long hadToWaitCount;          // 연결이 모두 사용 중이라 기다린 횟수
+        private final long averageWaitMillis;
+        private final long badConnectionCount;      // 검증에 실패해 버린 연결 수
+
+        public PoolStats(int activeConnections, int idleConnections, long requestCount, long averageRequestMillis,
+                         long hadToWaitCount, long averageWaitMillis, long badConnectionCount) {
+            this.activeConnections = activeConnections;
+            this.idleConnections = idleConnections;
+            this.requestCount = requestCount;
+            this.averageRequestMillis = averageRequestMillis;
+            this.hadToWaitCount = hadToWaitCount;
+            this.averageWaitMillis = averageWaitMillis;
+            this.badConnectionCount = badConnectionCount;
+        }
+
+        public int getActiveConnections() {
+            return activeConnections;
+        }
+
+        public int getIdleConnections() {
+            return idleConnections;
+        }
 
-    public static SqlSessionFactory getFactory() {
+        public long getRequestCount() {
+            return requestCount;
+        }
+
+        public long getAverageRequestMillis() {
+            return averageRequestMillis;
+        }
+
+        public long getHadToWaitCount() {
+            return hadToWaitCount;
+        }
+
+        public long getAverageWaitMillis() {
+            return averageWaitMillis;
+        }
+
+        public long getBadConnectionCount() {
+            return badConnectionCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("활성 %d, 유휴 %d, 요청 %d건(평균 %dms), 대기 %d건(평균 %dms), 불량 %d건",
+                    activeConnections, idleConnections, requestCount, averageRequestMillis,
+                    hadToWaitCount, averageWaitMillis, badConnectionCount);
+        }
+    }
+
+    /**
+     * 팩토리 생성과 DB 유형 검증을 백그라운드 데몬 스레드에서 미리 시작합니다. (앱 시작 시 화면 구성과 겹쳐 실행)
+     * 이후의 getFactory() 호출은 진행 중인 생성이 끝나기를 기다렸다가 그 결과를 사용합니다.
+     * 실패하면 팩토리는 null로 남으므로, 다음 getFactory() 호출에서 다시 시도하며 오류를 보고합니다.
+     */
+    public static void buildFactoryAsync() {
+        Thread thread = new Thread(() -> {
+            try {
+                getFactory();
+            } catch (RuntimeException e) {
+                logger.debug("[DB] 백그라운드 팩토리 생성 실패: {}", e.getMessage());
+            }
+        }, "db-factory-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 여러 작업 스레드에서 동시에 처음 호출해도 팩토리는 한 번만 생성
+    public static synchronized SqlSessionFactory getFactory() {
 
         if (factory == null) {
+            long start = System.nanoTime();
             try (Reader reader = Resources.getResourceAsReader("mybatis-config.xml")) {
                 logger.info("[DB] mybatis-config.xml: {}", reader);
 
@@ -32,13 +117,18 @@ public class MyBatisUtil {
                 props.setProperty("db.url",      cfg.getDb().url);
                 props.setProperty("db.user",     cfg.getDb().user);
                 props.setProperty("db.password", cfg.getDb().password);
+                props.setProperty("db.fetchSize", String.valueOf(cfg.getDb().fetchSize > 0 ? cfg.getDb().fetchSize : 500));
+                setPoolProperties(props, cfg.getDb());
 
                 // 2) MyBatis 빌드 시에 props 전달
                 factory = new SqlSessionFactoryBuilder().build(reader, props);
+                // 화면에서 더 이상 필요 없어진 조회를 Statement.cancel()로 중단할 수 있도록 플러그인 등록
+                factory.getConfiguration().addInterceptor(new StatementCancelInterceptor());
 
                 // 3) 연결이 성공했을 때, DB가 Oracle인지 확인
                 // (이 메서드 내부에서 session.getConnection()을 호출하며, 이 때 "No suitable driver" 에러가 발생할 수 있음)
                 validateDatabaseType(factory);
+                logger.info("[DB] 팩토리 생성 및 DB 검증 완료 ({}ms)", (System.nanoTime() - start) / 1_000_000);
 
             } catch (Exception e) {
                 // 팩토리 생성 실패 시, 다음 호출을 위해 null로 유지
@@ -68,6 +158,118 @@ public class MyBatisUtil {
         return factory;
     }
 
+    // 연결 풀 설정 (mybatis-config.xml의 ${db.pool*} 값)
+    private static void setPoolProperties(Properties props, Config.Db db) {
+        props.setProperty("db.poolMaxActive", String.valueOf(Math.max(1, db.poolMaxActive)));
+        props.setProperty("db.poolMaxIdle", String.valueOf(Math.max(0, db.poolMaxIdle)));
+        // poolTimeToWait는 점유 제한 시간이 아니라 재시도 간격 (풀이 가득 차면 연결을 얻을 때까지 이 간격으로 계속 대기)
+        props.setProperty("db.poolRetryIntervalMillis", String.valueOf(retryIntervalMillis(db)));
+        props.setProperty("db.poolMaxCheckoutMillis", String.valueOf(db.poolMaxCheckoutMillis));
+        props.setProperty("db.poolPingEnabled", String.valueOf(db.poolPingEnabled));
+        props.setProperty("db.poolPingQuery", db.poolPingQuery == null ? "SELECT 1 FROM DUAL" : db.poolPingQuery);
+        props.setProperty("db.poolPingIdleMillis", String.valueOf(db.poolPingIdleMillis));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static int retryIntervalMillis(Config.Db db) {
+        return db.poolCheckoutTimeoutMillis != null ? db.poolCheckoutTimeoutMillis : db.poolRetryIntervalMillis;
+    }
+
+    /**
+     * config.json에 접속 정보(url, user)가 이미 있으면 연결 풀 예열을 시작합니다. (앱 시작 시 buildFactoryAsync() 직후 호출)
+     * 예열은 getFactory()에서 진행 중인 팩토리 생성이 끝나기를 기다렸다가 실행됩니다.
+     */
+    public static void prewarmAsyncIfConfigured() {
+        Thread thread = new Thread(() -> {
+            try {
+                Config.Db db = ConfigLoader.load("config.json").getDb();
+                if (db == null || isBlank(db.url) || isBlank(db.user)) {
+                    logger.debug("[DB] 접속 정보가 없어 시작 시 연결 풀 예열을 생략합니다.");
+                    return;
+                }
+            } catch (RuntimeException e) {
+                logger.debug("[DB] 시작 시 연결 풀 예열 생략 (설정 로드 실패): {}", e.getMessage());
+                return;
+            }
+            prewarm();
+        }, "db-pool-prewarm");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 연결 풀에 config.json의 prewarmConnections만큼 연결을 미리 만들어 둡니다. (백그라운드 데몬 스레드)
+     * 첫 조회가 드라이버 로딩/접속/인증 없이 일반 왕복 한 번으로 끝나도록 합니다.
+     * 팩토리 생성에 실패하면 아무것도 하지 않습니다. (오류는 실제 조회에서 보고)
+     */
+    public static void prewarmAsync() {
+        Thread thread = new Thread(MyBatisUtil::prewarm, "db-pool-prewarm");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void prewarm() {
+        if (prewarmed) {
+            return; // 시작 시 예열이 이미 끝났으면 연결 테스트 후 다시 하지 않음
+        }
+        long start = System.nanoTime();
+        PooledDataSource dataSource;
+        try {
+            dataSource = getPooledDataSource();
+        } catch (RuntimeException e) {
+            logger.debug("[DB] 연결 풀 예열 생략 (팩토리 생성 실패): {}", e.getMessage());
+            return;
+        }
+        if (dataSource == null) {
+            return;
+        }
+        // 유휴 연결 최대 수를 넘는 연결은 반납 시 닫히므로 그만큼만 생성
+        int target = Math.min(ConfigLoader.load("config.json").getDb().prewarmConnections, dataSource.getPoolMaximumIdleConnections());
+        List<Connection> opened = new ArrayList<>();
+        try {
+            // 이미 있는 유휴 연결을 포함해 target개를 동시에 점유해야 부족한 만큼 새로 만들어짐
+            for (int i = 0; i < target; i++) {
+                opened.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            logger.warn("[DB] 연결 풀 예열 중 오류가 발생했습니다.", e);
+        } finally {
+            for (Connection conn : opened) {
+                try {
+                    conn.close(); // 풀로 반납
+                } catch (SQLException e) {
+                    logger.debug("[DB] 예열 연결 반납 실패", e);
+                }
+            }
+        }
+        prewarmed = !opened.isEmpty();
+        logger.info("[DB] 연결 풀 예열 완료: {}개 ({}ms) - {}", opened.size(), (System.nanoTime() - start) / 1_000_000, getPoolStats());
+    }
+
+    /**
+     * 연결 풀 통계를 가져옵니다.
+     * @return 통계, 팩토리가 아직 없거나 풀을 사용하지 않으면 null
+     */
+    public static PoolStats getPoolStats() {
+        SqlSessionFactory current = factory;
+        if (current == null || !(current.getConfiguration().getEnvironment().getDataSource() instanceof PooledDataSource)) {
+            return null;
+        }
+        PoolState state = ((PooledDataSource) current.getConfiguration().getEnvironment().getDataSource()).getPoolState();
+        return new PoolStats(state.getActiveConnectionCount(), state.getIdleConnectionCount(),
+                state.getRequestCount(), state.getAverageRequestTime(),
+                state.getHadToWaitCount(), state.getAverageWaitTime(), state.getBadConnectionCount());
+    }
+
+    private static PooledDataSource getPooledDataSource() {
+        DataSource dataSource = getFactory().getConfiguration().getEnvironment().getDataSource();
+        return dataSource instanceof PooledDataSource ? (PooledDataSource) dataSource : null;
+    }
+
     /**
      * 생성된 SqlSessionFactory를 사용해 DB 연결을 테스트하고 Oracle DB인지 검증합니다.
      */
@@ -107,29 +309,36 @@ public class MyBatisUtil {
     public static String testConnection() throws Exception {
         try (SqlSession session = MyBatisUtil.getFactory().openSession()) {
             logger.info("session 연결 시작 : {}", session);
-            Connection conn = session.getConnection();
-
-            // 메타데이터 가져오기(이 과정 자체가 연결 테스트임)
-            DatabaseMetaData metaData = conn.getMetaData();
-
-            // 상세 정보 문자열을 생성하여 반환합니다.
-            String successInfo = String.format(
-                "데이터베이스 연결에 성공했습니다.\n\n" +
-                "DB 유형  : %s\n" +
-                "DB 버전 : %s\n" +
-                "연결 URL : %s\n" +
-                "사용자    : %s",
-                metaData.getDatabaseProductName(),
-                metaData.getDatabaseProductVersion(),
-                metaData.getURL(),
-                metaData.getUserName()
-            );
-
-            logger.info("[DB] Connection Succeeded: {}", metaData.getURL());
-            return successInfo;
+            return describeConnection(session.getConnection());
         } catch (Exception e) {
            logger.error("[DB] Connection test failed", e);
             throw e;
         }
     }
+
+    /**
+     * 연결의 메타데이터로 연결 정보 문자열을 만듭니다. (이 과정 자체가 연결 테스트임)
+     * 다른 조회와 같은 세션에서 호출할 수 있도록 세션을 직접 열지 않습니다.
+     * @param conn 세션의 연결
+     * @return 연결 성공 정보 String
+     */
+    public static String describeConnection(Connection conn) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+
+        // 상세 정보 문자열을 생성하여 반환합니다.
+        String successInfo = String.format(
+            "데이터베이스 연결에 성공했습니다.\n\n" +
+            "DB 유형  : %s\n" +
+            "DB 버전 : %s\n" +
+            "연결 URL : %s\n" +
+            "사용자    : %s",
+            metaData.getDatabaseProductName(),
+            metaData.getDatabaseProductVersion(),
+            metaData.getURL(),
+            metaData.getUserName()
+        );
+
+        logger.info("[DB] Connection Succeeded: {}", metaData.getURL());
+        return successInfo;
+    }
 }
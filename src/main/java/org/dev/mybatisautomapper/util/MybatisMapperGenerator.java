@@ -1,16 +1,155 @@
 package org.dev.mybatisautomapper.util;
 
 import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.IndexInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Predicate;
 
 public class MybatisMapperGenerator {
 
-    private static final int COLUMNS_PER_LINE = 5; // 한 줄에 표시할 컬럼 수
+    static final int COLUMNS_PER_LINE = 5; // 한 줄에 표시할 컬럼 수
     private static final String INDENT = "           "; // 기본 들여쓰기
-    private static final int DEFAULT_PADDING = 4; // 각 컬럼 사이에 추가할 기본 공백 수
+    static final int DEFAULT_PADDING = 4; // 각 컬럼 사이에 추가할 기본 공백 수
+    private static final String SPACES = " ".repeat(64); // 패딩용 공백 (잘라서 사용)
+    static final String RESULT_MAP_ID = "resultMap"; // writeResultMap으로 생성하는 resultMap의 id
+    static final String ITEM_PREFIX = "item."; // <foreach item="item"> 안의 바인드 변수 접두어
+    /** Oracle 구문 하나에 사용할 수 있는 최대 바인드 변수 수 */
+    public static final int MAX_BIND_VARIABLES = 65535;
+    /** Oracle IN 목록 하나에 넣을 수 있는 최대 항목 수 (넘으면 ORA-01795) */
+    public static final int IN_LIST_LIMIT = 1000;
+
+    // INSERT 절 컬럼명 출력 (컬럼마다 람다를 만들지 않도록 상수로 보관)
+    static final ItemWriter<ColumnInfo> COLUMN_NAME_WRITER = (out, col) -> out.append(col.getColumn_name());
+
+    /**
+     * 테이블 하나에 대한 SELECT/INSERT/UPDATE/DELETE 구문을 모두 생성하여 하나의 문자열로 합칩니다.
+     * @param tableName 테이블 이름
+     * @param columns 테이블 컬럼 정보 리스트
+     * @param options 생성 옵션
+     * @return 생성된 매퍼 XML 구문 전체
+     */
+    public static String generateMapper(String tableName, List<ColumnInfo> columns, MapperOptions options) {
+        return render(estimateCapacity(columns, 4), out -> writeMapper(out, tableName, columns, options));
+    }
+
+    /**
+     * 테이블 하나의 매퍼를 생성합니다. (인덱스 정보 포함)
+     * @param indexes 테이블의 인덱스 컬럼 정보 (selectBy 인덱스 구문용, 옵션을 사용하지 않으면 빈 리스트)
+     */
+    public static String generateMapper(String tableName, List<ColumnInfo> columns, List<IndexInfo> indexes, MapperOptions options) {
+        return render(estimateCapacity(columns, 4), out -> writeMapper(out, tableName, columns, indexes, options));
+    }
+
+    /**
+     * 테이블 하나에 대한 SELECT/INSERT/UPDATE/DELETE 구문을 out에 바로 씁니다.
+     * (generateMapper와 같은 결과, 중간 문자열을 만들지 않음)
+     * @param out 출력 대상 (StringBuilder, BufferedWriter 등)
+     * @param tableName 테이블 이름
+     * @param columns 테이블 컬럼 정보 리스트
+     * @param options 생성 옵션
+     */
+    public static void writeMapper(Appendable out, String tableName, List<ColumnInfo> columns, MapperOptions options) throws IOException {
+        writeMapper(out, tableName, columns, Collections.emptyList(), options);
+    }
+
+    /**
+     * 테이블의 매퍼 전체(구문 목록)를 out에 씁니다.
+     * @param indexes 테이블의 인덱스 컬럼 정보 (selectBy 인덱스 구문용, 옵션을 사용하지 않으면 빈 리스트)
+     */
+    public static void writeMapper(Appendable out, String tableName, List<ColumnInfo> columns, List<IndexInfo> indexes,
+                                   MapperOptions options) throws IOException {
+        out.append('\n');
+        if (options.isUseResultMap()) {
+            writeResultMap(out, columns);
+            out.append("\n\n");
+        }
+        writeStatement(out, MapperTemplate.Statement.SELECT, tableName, columns, options);
+        out.append("\n\n");
+        if (options.isUseSelectByIndex()) {
+            writeSelectByIndexStatements(out, tableName, columns, indexes, options.isParameterTypeModel(), options.isUseResultMap(),
+                    options.isUseJdbcType());
+            out.append("\n\n");
+        }
+        if (options.isUseSelectStream()) {
+            writeSelectStreamStatement(out, tableName, columns, options.isUseResultMap());
+            out.append("\n\n");
+        }
+        if (options.isUseSelectPage()) {
+            writeSelectPageStatement(out, tableName, columns, options.isParameterTypeModel(), options.isUseResultMap(), options.isUseJdbcType());
+            out.append("\n\n");
+        }
+        if (options.isUseByPkList()) {
+            writeSelectByPkListStatement(out, tableName, columns, options.isParameterTypeModel(), options.isUseResultMap(),
+                    options.getBatchSize(), options.isUseJdbcType());
+            out.append("\n\n");
+        }
+        writeStatement(out, MapperTemplate.Statement.INSERT, tableName, columns, options);
+        out.append("\n\n");
+        if (options.isUseInsertBatch()) {
+            writeInsertBatchStatement(out, tableName, columns, options.isParameterTypeModel(), columnRules(options), options.getBatchSize(),
+                    options.isUseJdbcType());
+            out.append("\n\n");
+        }
+        writeStatement(out, MapperTemplate.Statement.UPDATE, tableName, columns, options);
+        out.append("\n\n");
+        if (options.isUseMerge()) {
+            writeMergeStatements(out, tableName, columns, options.isUseIfUpdate(), options.isParameterTypeModel(), columnRules(options),
+                    options.getBatchSize(), options.isUseJdbcType());
+            out.append("\n\n");
+        }
+        if (options.isUseByPkList()) {
+            writeUpdateByPkListStatement(out, tableName, columns, options.isUseIfUpdate(), options.isParameterTypeModel(), columnRules(options),
+                    options.getBatchSize(), options.isUseJdbcType());
+            out.append("\n\n");
+        }
+        writeStatement(out, MapperTemplate.Statement.DELETE, tableName, columns, options);
+        out.append("\n\n");
+        if (options.isUseByPkList()) {
+            writeDeleteByPkListStatement(out, tableName, columns, options.isParameterTypeModel(), options.getBatchSize(), options.isUseJdbcType());
+            out.append("\n\n");
+        }
+    }
+
+    /**
+     * 구문 하나를 out에 씁니다.
+     * 옵션에 템플릿이 지정되어 있고 템플릿이 해당 구문을 정의했으면 템플릿으로, 아니면 기본 생성기로 생성합니다.
+     * (기본 생성기로 생성할 때도 템플릿의 컬럼 규칙을 사용)
+     */
+    public static void writeStatement(Appendable out, MapperTemplate.Statement statement, String tableName,
+                                      List<ColumnInfo> columns, MapperOptions options) throws IOException {
+        MapperTemplate template = options.getTemplate();
+        if (template != null && template.defines(statement)) {
+            template.write(statement, out, tableName, columns, options);
+            return;
+        }
+        ColumnRules rules = columnRules(options);
+        switch (statement) {
+            case SELECT:
+                writeSelectStatement(out, tableName, columns, options.isUseIfWhere(), options.isParameterTypeModel(), options.isUseResultMap(),
+                        options.isUseJdbcType());
+                break;
+            case INSERT:
+                writeInsertStatement(out, tableName, columns, options.isParameterTypeModel(), rules, options.isUseJdbcType());
+                break;
+            case UPDATE:
+                writeUpdateStatement(out, tableName, columns, options.isUseIfUpdate(), options.isUseIfWhere(), options.isParameterTypeModel(), rules,
+                        options.isUseJdbcType());
+                break;
+            case DELETE:
+                writeDeleteStatement(out, tableName, columns, options.isUseIfWhere(), options.isParameterTypeModel(), options.isUseJdbcType());
+                break;
+        }
+    }
 
     /**
      * MyBatis SELECT 구문을 생성합니다. (PK 컬럼을 WHERE 절에 사용)
@@ -19,85 +158,339 @@ public class MybatisMapperGenerator {
      * @return 생성된 SELECT XML 구문
      */
     public static String generateSelectStatement(String tableName, List<ColumnInfo> columns, boolean useIfWhere, boolean isParameterTypeModel) {
-        StringBuilder sqlBuilder = new StringBuilder();
-        StringBuilder selectClauseBuilder = new StringBuilder();
-        StringBuilder whereBuilder = new StringBuilder();
+        return render(estimateCapacity(columns, 1), out -> writeSelectStatement(out, tableName, columns, useIfWhere, isParameterTypeModel));
+    }
+
+    /**
+     * MyBatis SELECT 구문을 out에 씁니다. (PK 컬럼을 WHERE 절에 사용)
+     * @param out 출력 대상
+     * @param tableName 테이블 이름
+     * @param columns 테이블 컬럼 정보 리스트
+     */
+    public static void writeSelectStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean useIfWhere, boolean isParameterTypeModel) throws IOException {
+        writeSelectStatement(out, tableName, columns, useIfWhere, isParameterTypeModel, false, false);
+    }
+
+    /**
+     * MyBatis SELECT 구문을 out에 씁니다.
+     * @param useResultMap true이면 resultType 대신 writeResultMap으로 만든 resultMap을 사용
+     * @param useJdbcType true이면 바인드 변수마다 컬럼 타입의 jdbcType을 명시
+     */
+    public static void writeSelectStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean useIfWhere, boolean isParameterTypeModel,
+                                            boolean useResultMap, boolean useJdbcType) throws IOException {
         final String INDENT = "        "; // 들여쓰기용
 
-        // WHERE 절에 사용할 PK 컬럼 필터링
-        List<ColumnInfo> pkColumns = columns.stream()
-                                            .filter(col -> "Y".equals(col.getPrimary_key()))
-                                            .toList();
+        // <select> 태그를 사용하고, id와 resultType(또는 resultMap)을 설정
+        out.append("    <select id=\"select")
+           .append("\" parameterType=\"").append(parameterType(isParameterTypeModel));
+        appendResultAttribute(out, useResultMap);
+        out.append(">\n");
+        out.append("        \n");
 
-        for (int i = 0; i < columns.size(); i++) {
-            ColumnInfo col = columns.get(i);
-            // 컬럼 이름을 25자 너비로 왼쪽 정렬하여 포맷팅
-            String columnNameFormatted = String.format("%-25s", col.getColumn_name());
-            String comment = (col.getColumn_comments() != null && !col.getColumn_comments().isEmpty()) ? col.getColumn_comments() : "";
+        // --- SELECT 절 ---
+        writeSelectColumns(out, columns, INDENT);
 
-            if (i == 0) {
-                selectClauseBuilder.append(INDENT).append("SELECT ").append(columnNameFormatted);
-            } else {
-                selectClauseBuilder.append(INDENT).append("     , ").append(columnNameFormatted);
+        out.append(INDENT).append("  FROM ").append(tableName).append('\n');
+        writeWhereClause(out, columns, INDENT, useIfWhere, isParameterTypeModel, useJdbcType); // WHERE 절 추가
+        out.append("        \n");
+        out.append("    </select>");
+    }
+
+    /**
+     * PK 순서로 한 페이지씩 조회하는 keyset(seek) 방식 SELECT 구문(selectPage)을 out에 씁니다.
+     * - OFFSET/ROWNUM 방식은 앞 페이지의 행을 모두 읽고 버리므로 뒤 페이지일수록 느려지지만,
+     *   이 방식은 이전 페이지 마지막 행(last)의 PK 다음부터 PK 인덱스를 범위 탐색하므로 몇 번째 페이지든 limit 건만 읽음
+     * - Oracle은 (A, B) &gt; (:a, :b) 형태의 행 비교를 지원하지 않으므로 복합 PK는
+     *   A &gt;= :a AND (A &gt; :a OR (A = :a AND B &gt; :b)) 형태로 풀어서 씀 (앞의 A &gt;= :a 는 인덱스 범위 시작점)
+     * - FETCH FIRST는 Oracle 12c 이상
+     * - PK가 없는 테이블은 순서를 보장할 키가 없으므로 구문 대신 주석만 씀
+     * @param useResultMap true이면 resultType 대신 writeResultMap으로 만든 resultMap을 사용
+     */
+    public static void writeSelectPageStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean isParameterTypeModel,
+                                                boolean useResultMap, boolean useJdbcType) throws IOException {
+        final String INDENT = "        "; // 들여쓰기용
+        List<ColumnInfo> keys = primaryKeys(columns);
+        out.append("    \n");
+        if (keys.isEmpty()) {
+            out.append("    <!-- ").append(tableName).append(": PK가 없어 페이지 조회(selectPage) 구문을 생성하지 않았습니다. -->");
+            return;
+        }
+
+        out.append("    <!-- 페이지 조회 (PK 순, last: 이전 페이지 마지막 행 - 첫 페이지는 null, limit: 페이지 크기) -->\n");
+        out.append("    <select id=\"selectPage");
+        appendResultAttribute(out, useResultMap);
+        out.append(">\n");
+        out.append("        \n");
+        writeSelectColumns(out, columns, INDENT);
+        out.append(INDENT).append("  FROM ").append(tableName).append('\n');
+
+        // --- 이전 페이지 마지막 행 다음부터 ---
+        out.append(INDENT).append("<if test=\"last != null\">\n");
+        out.append(INDENT).append(" WHERE ");
+        if (keys.size() == 1) {
+            appendKeyBind(out, keys.get(0), " > ", isParameterTypeModel, useJdbcType);
+            out.append('\n');
+        } else {
+            writeCompositeKeyAfter(out, keys, INDENT, isParameterTypeModel, useJdbcType);
+        }
+        out.append(INDENT).append("</if>\n");
+        out.append(INDENT).append(" ORDER BY ");
+        for (int i = 0; i < keys.size(); i++) {
+            out.append(i == 0 ? "" : ", ").append(keys.get(i).getColumn_name());
+        }
+        out.append('\n');
+        out.append(INDENT).append(useJdbcType ? " FETCH FIRST #{limit, jdbcType=NUMERIC} ROWS ONLY\n" : " FETCH FIRST #{limit} ROWS ONLY\n");
+        out.append("        \n");
+        out.append("    </select>");
+    }
+
+    /**
+     * PK 목록으로 여러 행을 한 번에 조회하는 구문(selectByPkList)을 out에 씁니다. (PK 하나씩 select를 반복 호출하는 대신)
+     * - list: PK 값을 담은 항목 목록, 단일 PK는 K IN (...), 복합 PK는 (K1, K2) IN ((...), (...)) 조건을 만듦
+     * - IN 목록은 IN_LIST_LIMIT건마다 OR로 나누어 Oracle의 IN 목록 제한(ORA-01795)을 넘지 않음
+     * - 바인드 수 제한 안에서 한 번에 넘길 최대 건수를 주석으로 표시 (그보다 많으면 나누어 호출)
+     * - PK가 없는 테이블은 구문 대신 주석만 씀
+     */
+    public static void writeSelectByPkListStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean isParameterTypeModel,
+                                                    boolean useResultMap, int batchSize, boolean useJdbcType) throws IOException {
+        final String INDENT = "        "; // 들여쓰기용
+        List<ColumnInfo> keys = primaryKeys(columns);
+        out.append("    \n");
+        if (keys.isEmpty()) {
+            out.append("    <!-- ").append(tableName).append(": PK가 없어 PK 목록 조회(selectByPkList) 구문을 생성하지 않았습니다. -->");
+            return;
+        }
+
+        appendByPkListComment(out, "PK 목록으로 다건 조회", keys.size(), maxRowsPerStatement(keys.size(), batchSize));
+        out.append("    <select id=\"selectByPkList");
+        appendResultAttribute(out, useResultMap);
+        out.append(">\n");
+        out.append("        \n");
+        writeSelectColumns(out, columns, INDENT);
+        out.append(INDENT).append("  FROM ").append(tableName).append('\n');
+        writeKeyListWhere(out, keys, INDENT, isParameterTypeModel, useJdbcType);
+        out.append("        \n");
+        out.append("    </select>");
+    }
+
+    /**
+     * 결과를 한 번에 메모리에 담지 않고 읽는 전체 조회 구문(selectStream)을 out에 씁니다. (대용량 내보내기/배치용)
+     * - fetchSize는 컬럼 타입 길이로 추정한 행 크기로 계산 (FetchSizeEstimator)
+     * - resultSetType="FORWARD_ONLY": 앞으로만 읽으므로 드라이버가 지난 행을 보관하지 않음
+     * - 매퍼 메서드가 Cursor를 반환하거나 ResultHandler를 받아야 MyBatis가 결과를 List로 모으지 않으므로 메서드 선언을 주석으로 함께 씀
+     * @param useResultMap true이면 resultType 대신 writeResultMap으로 만든 resultMap을 사용
+     */
+    public static void writeSelectStreamStatement(Appendable out, String tableName, List<ColumnInfo> columns,
+                                                  boolean useResultMap) throws IOException {
+        final String INDENT = "        "; // 들여쓰기용
+        out.append("    \n");
+        out.append("    <!-- 전체 조회 (스트리밍, 예상 행 크기 ").append(Long.toString(FetchSizeEstimator.estimateRowBytes(columns)))
+           .append("바이트)\n");
+        out.append("         매퍼 메서드: Cursor<Model> selectStream();                  세션이 열려 있는 동안 try-with-resources로 사용\n");
+        out.append("                     void selectStream(ResultHandler<Model> handler); -->\n");
+        out.append("    <select id=\"selectStream");
+        appendResultAttribute(out, useResultMap);
+        out.append(" fetchSize=\"").append(Integer.toString(FetchSizeEstimator.fetchSize(columns)))
+           .append("\" resultSetType=\"FORWARD_ONLY\">\n");
+        out.append("        \n");
+        writeSelectColumns(out, columns, INDENT);
+        out.append(INDENT).append("  FROM ").append(tableName).append('\n');
+        out.append("        \n");
+        out.append("    </select>");
+    }
+
+    /**
+     * 인덱스마다 인덱스 컬럼으로 조회하는 SELECT 구문(selectBy인덱스명, 예: IDX_CUST_NO -> selectByIdxCustNo)을 out에 씁니다.
+     * - 조건은 인덱스 컬럼 순서대로 모두 사용하고 &lt;if&gt;를 적용하지 않으므로 생성된 조회는 항상 인덱스를 탈 수 있음
+     * - 선택도가 높은(한 값에 해당하는 행이 적은) 인덱스부터 씀: UNIQUE, 통계의 DISTINCT_KEYS/NUM_ROWS 큰 순, 통계 없음 순
+     * - 테이블에 없는 컬럼(함수 기반 인덱스의 숨은 컬럼 등)을 포함한 인덱스는 건너뜀
+     * @param indexes 테이블의 인덱스 컬럼 정보 (TableInfoService.fetchIndexes, PK 인덱스 제외)
+     * @param useResultMap true이면 resultType 대신 writeResultMap으로 만든 resultMap을 사용
+     */
+    public static void writeSelectByIndexStatements(Appendable out, String tableName, List<ColumnInfo> columns, List<IndexInfo> indexes,
+                                                    boolean isParameterTypeModel, boolean useResultMap, boolean useJdbcType) throws IOException {
+        final String INDENT = "        "; // 들여쓰기용
+        Map<String, ColumnInfo> columnByName = new HashMap<>();
+        for (ColumnInfo col : columns) {
+            columnByName.put(col.getColumn_name(), col);
+        }
+        Map<String, List<IndexInfo>> byIndex = new LinkedHashMap<>();
+        for (IndexInfo index : indexes) {
+            byIndex.computeIfAbsent(index.getIndex_name(), name -> new ArrayList<>()).add(index);
+        }
+        List<List<IndexInfo>> ordered = new ArrayList<>();
+        for (List<IndexInfo> indexColumns : byIndex.values()) {
+            if (indexColumns.stream().allMatch(ic -> columnByName.containsKey(ic.getColumn_name()))) {
+                indexColumns.sort(Comparator.comparingInt(IndexInfo::getColumn_position));
+                ordered.add(indexColumns);
             }
+        }
+        ordered.sort(Comparator.comparingDouble((List<IndexInfo> indexColumns) -> -selectivity(indexColumns.get(0)))
+                .thenComparing(indexColumns -> indexColumns.get(0).getIndex_name()));
 
-            // 코멘트가 있는 경우에만 '--코멘트' 형태로 추가
-            if (!comment.isEmpty()) {
-                selectClauseBuilder.append(" --").append(comment);
+        out.append("    \n");
+        if (ordered.isEmpty()) {
+            out.append("    <!-- ").append(tableName).append(": PK 외에 조회에 사용할 인덱스가 없어 selectBy 구문을 생성하지 않았습니다. -->");
+            return;
+        }
+        for (int i = 0; i < ordered.size(); i++) {
+            List<IndexInfo> indexColumns = ordered.get(i);
+            IndexInfo index = indexColumns.get(0);
+            if (i > 0) {
+                out.append("\n\n    \n");
             }
-            selectClauseBuilder.append("\n");
+            out.append("    <!-- ").append(index.getIndex_name()).append(" (").append(index.getUniqueness()).append(": ");
+            for (int j = 0; j < indexColumns.size(); j++) {
+                out.append(j == 0 ? "" : ", ").append(indexColumns.get(j).getColumn_name());
+            }
+            appendSelectivityNote(out, index);
+            out.append(") -->\n");
+            out.append("    <select id=\"selectBy").append(convertToCamelCase(index.getIndex_name().replaceAll("[^A-Za-z0-9_]", "")))
+               .append("\" parameterType=\"").append(parameterType(isParameterTypeModel));
+            appendResultAttribute(out, useResultMap);
+            out.append(">\n");
+            out.append("        \n");
+            writeSelectColumns(out, columns, INDENT);
+            out.append(INDENT).append("  FROM ").append(tableName).append('\n');
+            out.append(INDENT).append("<where>\n");
+            for (IndexInfo indexColumn : indexColumns) {
+                appendWherePredicate(out, columnByName.get(indexColumn.getColumn_name()), INDENT, false, isParameterTypeModel, useJdbcType);
+            }
+            out.append(INDENT).append("</where>\n");
+            out.append("        \n");
+            out.append("    </select>");
         }
+    }
 
-        // --- WHERE 절 포매팅 ---
-        whereBuilder.append(INDENT).append("<where>\n");
-        for (ColumnInfo pkCol : pkColumns) {
-            String columnName = pkCol.getColumn_name();
-            String columnNameFormatted = String.format("%-" + 20 + "s", columnName);
-            String finalParamName;
+    // 인덱스 선택도 (UNIQUE는 1, 통계가 있으면 DISTINCT_KEYS/NUM_ROWS, 없으면 -1)
+    static double selectivity(IndexInfo index) {
+        if ("UNIQUE".equals(index.getUniqueness())) {
+            return 1;
+        }
+        Long distinctKeys = index.getDistinct_keys();
+        Long numRows = index.getNum_rows();
+        if (distinctKeys == null || numRows == null || numRows <= 0) {
+            return -1;
+        }
+        return Math.min(1, (double) distinctKeys / numRows);
+    }
 
-            // paramStyle 값에 따라 파라미터 형식을 분기 처리합니다.
-            if (isParameterTypeModel) {
-                // Model 스타일 (기본값): #{소문자컬럼명}
-                finalParamName = lowerCaseSnakeCase(columnName);
-            } else {
-                // HashMap 스타일: #{P_대문자컬럼명}
-                finalParamName = "P_" + columnName;
+    // 인덱스 주석의 선택도 부분 (예: , 선택도 0.0123 - 값 하나당 약 81행)
+    private static void appendSelectivityNote(Appendable out, IndexInfo index) throws IOException {
+        if ("UNIQUE".equals(index.getUniqueness())) {
+            out.append(", 1건 조회");
+            return;
+        }
+        double selectivity = selectivity(index);
+        if (selectivity < 0) {
+            out.append(", 통계 없음");
+            return;
+        }
+        out.append(", 선택도 ").append(String.format("%.4f", selectivity));
+        if (selectivity > 0) {
+            out.append(" - 값 하나당 약 ").append(Long.toString(Math.round(1 / selectivity))).append("행");
+        }
+    }
+
+    // 복합 PK의 (K1, K2, ...) > (last.K1, last.K2, ...) 조건을 풀어 쓴 부분 (WHERE 다음부터)
+    private static void writeCompositeKeyAfter(Appendable out, List<ColumnInfo> keys, String indent, boolean isParameterTypeModel,
+                                               boolean useJdbcType) throws IOException {
+        appendKeyBind(out, keys.get(0), " >= ", isParameterTypeModel, useJdbcType);
+        out.append('\n');
+        out.append(indent).append("   AND (");
+        appendKeyBind(out, keys.get(0), " > ", isParameterTypeModel, useJdbcType);
+        for (int i = 1; i < keys.size(); i++) {
+            // 앞의 i개 컬럼은 같고 i번째 컬럼이 더 큰 행
+            out.append('\n').append(indent).append("        OR (");
+            for (int j = 0; j < i; j++) {
+                appendKeyBind(out, keys.get(j), " = ", isParameterTypeModel, useJdbcType);
+                out.append(" AND ");
+            }
+            appendKeyBind(out, keys.get(i), " > ", isParameterTypeModel, useJdbcType);
+            out.append(')');
+        }
+        out.append(")\n");
+    }
+
+    // keyset 조건 하나 (예: COMPANY_CD > #{last.company_cd})
+    private static void appendKeyBind(Appendable out, ColumnInfo key, String operator, boolean isParameterTypeModel,
+                                      boolean useJdbcType) throws IOException {
+        out.append(key.getColumn_name()).append(operator);
+        appendBind(out, key, "last.", isParameterTypeModel, useJdbcType);
+    }
+
+    // SELECT 컬럼 목록 (한 줄에 한 컬럼, 코멘트가 있으면 '--코멘트')
+    private static void writeSelectColumns(Appendable out, List<ColumnInfo> columns, String indent) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnInfo col = columns.get(i);
+            out.append(indent).append(i == 0 ? "SELECT " : "     , ");
+            // 컬럼 이름을 25자 너비로 왼쪽 정렬
+            appendPadded(out, col.getColumn_name(), 25);
+
+            // 코멘트가 있는 경우에만 '--코멘트' 형태로 추가
+            String comment = col.getColumn_comments();
+            if (comment != null && !comment.isEmpty()) {
+                out.append(" --").append(comment);
             }
+            out.append('\n');
+        }
+    }
 
-            if(useIfWhere){
-                whereBuilder.append(INDENT);
-                String dataType = pkCol.getData_type();
-                // 데이터 타입이 문자열(VARCHAR, CHAR) 계열인지 확인
-                if (dataType.startsWith("VARCHAR") || dataType.startsWith("CHAR") || dataType.startsWith("NVARCHAR")) {
-                    // 문자열 타입일 경우: null 체크 AND 빈 문자열 체크
-                    whereBuilder.append("<if test=\"").append(finalParamName).append(" != null and ").append(finalParamName).append(" != ''\">\n");
-                } else {
-                    // NUMBER, DATE 등 그 외 모든 타입일 경우: null 체크만
-                    whereBuilder.append("<if test=\"").append(finalParamName).append(" != null\">\n");
-                }
+    /**
+     * SELECT 결과 매핑용 &lt;resultMap&gt;을 생성합니다.
+     * (컬럼마다 column/property/javaType/jdbcType을 명시하여 MyBatis가 실행 중에 리플렉션으로 컬럼-속성을 찾지 않도록 함, PK는 &lt;id&gt;)
+     * @param columns 테이블 컬럼 정보 리스트
+     * @return 생성된 resultMap XML
+     */
+    public static String generateResultMap(List<ColumnInfo> columns) {
+        return render(estimateCapacity(columns, 1), out -> writeResultMap(out, columns));
+    }
+
+    /**
+     * SELECT 결과 매핑용 &lt;resultMap&gt;을 out에 씁니다.
+     * @param out 출력 대상
+     * @param columns 테이블 컬럼 정보 리스트
+     */
+    public static void writeResultMap(Appendable out, List<ColumnInfo> columns) throws IOException {
+        out.append("    <resultMap id=\"").append(RESULT_MAP_ID).append("\" type=\"Model\">\n");
+        // <id>가 <result>보다 먼저 와야 하므로 PK 컬럼을 먼저 출력
+        for (ColumnInfo col : columns) {
+            if (isPrimaryKey(col)) {
+                appendResultMapping(out, "id    ", col);
             }
-            whereBuilder.append(INDENT);
-            whereBuilder.append("AND ").append(columnNameFormatted).append("= #{").append(finalParamName).append("}\n");
-            if(useIfWhere){
-                whereBuilder.append(INDENT);
-                whereBuilder.append("</if>\n");
+        }
+        for (ColumnInfo col : columns) {
+            if (!isPrimaryKey(col)) {
+                appendResultMapping(out, "result", col);
             }
         }
-        whereBuilder.append(INDENT).append("</where>\n");
+        out.append("    </resultMap>");
+    }
 
-        // --- 최종 쿼리 조립 ---
-        // <select> 태그를 사용하고, id와 resultType을 설정
-        String parameterType = isParameterTypeModel ? "Model" : "HashMap";
-        sqlBuilder.append("    <select id=\"select")
-                  .append("\" parameterType=\"").append(parameterType).append("\" resultType=\"").append("Model").append("\">\n");
-        sqlBuilder.append("        \n");
-        sqlBuilder.append(selectClauseBuilder); // SELECT 절 추가
-        sqlBuilder.append(INDENT).append("  FROM ").append(tableName).append("\n");
-        sqlBuilder.append(whereBuilder);      // WHERE 절 추가
-        sqlBuilder.append("        \n");
-        sqlBuilder.append("    </select>");
+    // <id>/<result> 한 줄 (알 수 없는 타입은 javaType/jdbcType을 생략하여 MyBatis가 판단)
+    private static void appendResultMapping(Appendable out, String tag, ColumnInfo col) throws IOException {
+        out.append("        <").append(tag).append(" column=\"");
+        appendPadded(out, col.getColumn_name() + "\"", 26);
+        out.append(" property=\"");
+        appendLowerCase(out, col.getColumn_name());
+        out.append('"');
+        appendSpaces(out, 25 - col.getColumn_name().length());
+        JdbcTypeRegistry.TypeMapping type = JdbcTypeRegistry.of(col.getData_type());
+        if (type.isKnown()) {
+            out.append(" javaType=\"");
+            appendPadded(out, type.getJavaType() + "\"", 12);
+            out.append(" jdbcType=\"").append(type.getJdbcType()).append('"');
+        }
+        out.append("/>\n");
+    }
 
-        return sqlBuilder.toString();
+    // <select>의 결과 속성 (resultMap 사용 여부에 따라)
+    static void appendResultAttribute(Appendable out, boolean useResultMap) throws IOException {
+        if (useResultMap) {
+            out.append("\" resultMap=\"").append(RESULT_MAP_ID).append('"');
+        } else {
+            out.append("\" resultType=\"").append("Model").append('"');
+        }
     }
 
     /**
@@ -107,71 +500,103 @@ public class MybatisMapperGenerator {
      * @return 생성된 INSERT XML 구문
      */
     public static String generateInsertStatement(String tableName, List<ColumnInfo> columns, boolean isParameterTypeModel) {
-        StringBuilder sqlBuilder = new StringBuilder();
-        List<String> columnNames = new ArrayList<>();
-        List<String> bindVariables = new ArrayList<>();
+        return render(estimateCapacity(columns, 1), out -> writeInsertStatement(out, tableName, columns, isParameterTypeModel));
+    }
 
-        // INSERT 문에 포함될 모든 컬럼을 대상으로 합니다.
+    /**
+     * MyBatis INSERT 구문을 out에 씁니다.
+     * @param out 출력 대상
+     * @param tableName 테이블 이름
+     * @param columns 테이블 컬럼 정보 리스트
+     */
+    public static void writeInsertStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean isParameterTypeModel) throws IOException {
+        writeInsertStatement(out, tableName, columns, isParameterTypeModel, ColumnRules.DEFAULT, false);
+    }
+
+    /**
+     * MyBatis INSERT 구문을 컬럼 규칙에 따라 out에 씁니다.
+     * @param rules 제외할 컬럼과 고정 값 규칙
+     * @param useJdbcType true이면 바인드 변수마다 컬럼 타입의 jdbcType을 명시
+     */
+    public static void writeInsertStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean isParameterTypeModel,
+                                            ColumnRules rules, boolean useJdbcType) throws IOException {
+        // INSERT 문에 포함될 모든 컬럼을 대상으로 합니다. (감사 컬럼 INSERT_IP 등은 제외)
         // 특정 규칙에 따라 자동 생성되는 컬럼 (INSERT_DTS 등)은 value 부분에서 특별 처리합니다.
+        out.append("    \n");
+        out.append("    <insert id=\"insert")
+           .append("\" parameterType=\"").append(parameterType(isParameterTypeModel)).append("\">\n");
+        out.append("        \n");
+        out.append("        INSERT INTO ").append(tableName).append('\n');
+        // 컬럼명과 바인드 변수 라인별로 포매팅 (들여쓰기 포함)
+        writeInsertColumnsAndValues(out, columns, rules, (o, col) -> appendInsertBind(o, col, isParameterTypeModel, rules, "", useJdbcType));
+        out.append("        \n");
+        out.append("    </insert>");
+    }
 
+    /**
+     * 여러 행을 한 번에 등록하는 INSERT 구문을 out에 씁니다. (INSERT INTO ... SELECT ... FROM DUAL UNION ALL ...)
+     * - 파라미터 list의 항목마다 SELECT 한 줄을 만들며, 컬럼/값 규칙은 writeInsertStatement와 같음
+     * - 규칙 값(예: FN_TODATE(#{P_CM_SYSDATE}))의 바인드는 항목이 아닌 공통 파라미터이므로, list와 함께 한 맵으로 넘겨 호출
+     * - 구문 하나의 바인드 변수 수 제한(MAX_BIND_VARIABLES) 안에서 한 번에 넘길 최대 건수를 주석으로 표시
+     * @param rules 제외할 컬럼과 고정 값 규칙
+     * @param batchSize 한 번에 등록할 최대 건수 (바인드 수 제한으로 더 작아질 수 있음)
+     */
+    public static void writeInsertBatchStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean isParameterTypeModel,
+                                                 ColumnRules rules, int batchSize, boolean useJdbcType) throws IOException {
+        Predicate<ColumnInfo> insertColumn = col -> !rules.isInsertExcluded(col.getColumn_name());
+        int bindsPerRow = 0;
         for (ColumnInfo col : columns) {
-            String columnName = col.getColumn_name();
-            if ("INSERT_IP".equals(columnName) ||
-                "INSERT_MCADDR_NM".equals(columnName) ||
-                "UPDATE_IP".equals(columnName) ||
-                "UPDATE_MCADDR_NM".equals(columnName)) {
-                continue; // 감사 컬럼은 건너뛰기
-            }
-
-            columnNames.add(columnName);
-
-            String paramName; // 컬럼명 소문자로 변환
-            if (isParameterTypeModel) {
-                // Model 스타일 (기본값): #{소문자컬럼명}
-                paramName = lowerCaseSnakeCase(columnName);
-            } else {
-                // HashMap 스타일: #{P_대문자컬럼명}
-                paramName = "P_" + columnName;
+            if (insertColumn.test(col)) {
+                String value = rules.insertValue(col.getColumn_name());
+                bindsPerRow += value == null ? 1 : countBinds(value);
             }
-
-            String bindVar;
-
-            if (col.getColumn_name().endsWith("INSERT_DTS")) {
-                bindVar = "FN_TODATE(#{P_CM_SYSDATE})";
-            } else if (col.getColumn_name().equals("INSERT_ID")) {
-                bindVar = "#{P_INSERT_ID}";
-            } else if (col.getColumn_name().equals("UPDATE_ID")) {
-                bindVar = "#{P_UPDATE_ID}";
-            } else if (col.getColumn_name().equals("UPDATE_DTS")) {
-                bindVar = "FN_TODATE(#{P_CM_SYSDATE})";
-            } else {
-                bindVar = "#{" + paramName + "}";
-            }
-            bindVariables.add(bindVar);
         }
 
-        // 컬럼명과 바인드 변수 라인별로 포매팅
-        String formattedColumns = simplifiedFormatLineByLine(columnNames, COLUMNS_PER_LINE, ",", DEFAULT_PADDING);
-        String formattedValues = simplifiedFormatLineByLine(bindVariables, COLUMNS_PER_LINE, ",", DEFAULT_PADDING);
+        out.append("    \n");
+        out.append("    <!-- 다건 INSERT (list: 등록할 행 목록, 행당 바인드 ").append(Integer.toString(bindsPerRow))
+           .append("개, 한 번에 최대 ").append(Integer.toString(maxRowsPerStatement(bindsPerRow, batchSize))).append("건씩 나누어 호출) -->\n");
+        out.append("    <insert id=\"insertBatch\">\n");
+        out.append("        \n");
+        out.append("        INSERT INTO ").append(tableName).append('\n');
+        out.append("        ( ").append('\n');
+        writeLineByLine(out, columns, insertColumn, COLUMN_NAME_WRITER, COLUMNS_PER_LINE, ",", DEFAULT_PADDING);
+        out.append('\n');
+        out.append("        )\n");
+        out.append("        <foreach collection=\"list\" item=\"item\" separator=\"UNION ALL\">\n");
+        out.append("        SELECT\n");
+        writeLineByLine(out, columns, insertColumn,
+                (o, col) -> appendInsertBind(o, col, isParameterTypeModel, rules, ITEM_PREFIX, useJdbcType), COLUMNS_PER_LINE, ",", DEFAULT_PADDING);
+        out.append('\n');
+        out.append("          FROM DUAL\n");
+        out.append("        </foreach>\n");
+        out.append("        \n");
+        out.append("    </insert>");
+    }
 
-        String parameterType = isParameterTypeModel ? "Model" : "HashMap";
+    /**
+     * 행당 바인드 변수 수로 구문 하나에 넘길 수 있는 최대 건수를 계산합니다.
+     * @param bindsPerRow 행 하나에 사용하는 바인드 변수 수
+     * @param batchSize 설정된 최대 건수
+     * @return min(batchSize, MAX_BIND_VARIABLES / bindsPerRow), 최소 1
+     */
+    public static int maxRowsPerStatement(int bindsPerRow, int batchSize) {
+        return maxRowsPerStatement(bindsPerRow, 0, batchSize);
+    }
 
-        sqlBuilder.append("    \n");
-        sqlBuilder.append("    <insert id=\"insert")
-                  .append("\" parameterType=\"").append(parameterType).append("\">\n");
-        sqlBuilder.append("        \n");
-        sqlBuilder.append("        INSERT INTO ").append(tableName).append("\n");
-        sqlBuilder.append("        ( ").append("\n");
-        sqlBuilder.append(formattedColumns).append("\n"); // simplifiedFormatLineByLine 이미 들여쓰기 처리됨
-        sqlBuilder.append("        )\n");
-        sqlBuilder.append("        VALUES\n");
-        sqlBuilder.append("        (\n");
-        sqlBuilder.append(formattedValues).append("\n"); // simplifiedFormatLineByLine 이미 들여쓰기 처리됨
-        sqlBuilder.append("        )\n");
-        sqlBuilder.append("        \n");
-        sqlBuilder.append("    </insert>");
+    /**
+     * @param fixedBinds 건수와 무관하게 구문에 한 번만 들어가는 바인드 변수 수
+     */
+    public static int maxRowsPerStatement(int bindsPerRow, int fixedBinds, int batchSize) {
+        return Math.max(1, Math.min(batchSize, (MAX_BIND_VARIABLES - fixedBinds) / Math.max(1, bindsPerRow)));
+    }
 
-        return sqlBuilder.toString();
+    // 규칙 값에 들어 있는 바인드 변수(#{...}) 수
+    private static int countBinds(String value) {
+        int count = 0;
+        for (int i = value.indexOf("#{"); i >= 0; i = value.indexOf("#{", i + 2)) {
+            count++;
+        }
+        return count;
     }
 
     /**
@@ -181,129 +606,275 @@ public class MybatisMapperGenerator {
      * @return 생성된 UPDATE XML 구문
      */
     public static String generateUpdateStatement(String tableName, List<ColumnInfo> columns, boolean useIfUpadate, boolean useIfWhere, boolean isParameterTypeModel) {
-        StringBuilder sqlBuilder = new StringBuilder();
-        StringBuilder setBuilder = new StringBuilder();
-        StringBuilder whereBuilder = new StringBuilder();
-
-        List<ColumnInfo> pkColumns = columns.stream()
-                .filter(col -> "Y".equals(col.getPrimary_key()))
-                .toList();
+        return render(estimateCapacity(columns, 1), out -> writeUpdateStatement(out, tableName, columns, useIfUpadate, useIfWhere, isParameterTypeModel));
+    }
 
+    /**
+     * MyBatis UPDATE 구문을 out에 씁니다. (PK 컬럼을 WHERE 절에 사용)
+     * @param out 출력 대상
+     * @param tableName 테이블 이름
+     * @param columns 테이블 컬럼 정보 리스트
+     */
+    public static void writeUpdateStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean useIfUpadate, boolean useIfWhere, boolean isParameterTypeModel) throws IOException {
+        writeUpdateStatement(out, tableName, columns, useIfUpadate, useIfWhere, isParameterTypeModel, ColumnRules.DEFAULT, false);
+    }
 
+    /**
+     * MyBatis UPDATE 구문을 컬럼 규칙에 따라 out에 씁니다.
+     * @param rules SET 절에서 제외할 컬럼과 끝에 추가할 고정 값 규칙
+     * @param useJdbcType true이면 바인드 변수마다 컬럼 타입의 jdbcType을 명시
+     */
+    public static void writeUpdateStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean useIfUpadate, boolean useIfWhere,
+                                            boolean isParameterTypeModel, ColumnRules rules, boolean useJdbcType) throws IOException {
+        out.append("\n    \n");
+        out.append("    <update id=\"update")
+           .append("\" parameterType=\"").append(parameterType(isParameterTypeModel)).append("\">\n");
+        out.append("        \n");
+        out.append("        UPDATE ").append(tableName).append('\n');
+        out.append("        \n");
 
-        List<ColumnInfo> updateableColumns = columns.stream()
-                .filter(col -> !"Y".equals(col.getPrimary_key()) &&
-                        !col.getColumn_name().equals("INSERT_ID") &&
-                        !col.getColumn_name().equals("INSERT_IP") &&
-                        !col.getColumn_name().equals("INSERT_MCADDR_NM") &&
-                        !col.getColumn_name().equals("INSERT_DTS")
-                )
-                .toList();
+        writeSetClause(out, columns, useIfUpadate, isParameterTypeModel, rules, useJdbcType);
 
-        // SET 절 포매팅
-        // <set> 태그 사용
-        setBuilder.append(INDENT).append("<set>\n");
+        out.append("        \n");
+        writeWhereClause(out, columns, INDENT, useIfWhere, isParameterTypeModel, useJdbcType);
+        out.append("        \n");
+        out.append("    </update>");
+    }
 
-        for (ColumnInfo col : updateableColumns) {
-            String paramName; // 컬럼명 소문자로 변환
-            if (isParameterTypeModel) {
-                // Model 스타일 (기본값): #{소문자컬럼명}
-                paramName = lowerCaseSnakeCase(col.getColumn_name());
-            } else {
-                // HashMap 스타일: #{P_대문자컬럼명}
-                paramName = "P_" + col.getColumn_name();
+    /**
+     * PK 목록의 행들을 같은 값으로 한 번에 수정하는 구문(updateByPkList)을 out에 씁니다.
+     * - SET 절은 writeUpdateStatement와 같은 규칙 (값은 공통 파라미터이므로 list와 함께 한 맵으로 넘겨 호출)
+     * - WHERE 절과 나누어 호출할 건수는 selectByPkList와 같음 (SET 절의 바인드는 구문 전체에서 한 번씩만 사용)
+     * - PK가 없는 테이블은 구문 대신 주석만 씀
+     */
+    public static void writeUpdateByPkListStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean useIfUpdate,
+                                                    boolean isParameterTypeModel, ColumnRules rules, int batchSize, boolean useJdbcType) throws IOException {
+        List<ColumnInfo> keys = primaryKeys(columns);
+        out.append("    \n");
+        if (keys.isEmpty()) {
+            out.append("    <!-- ").append(tableName).append(": PK가 없어 PK 목록 수정(updateByPkList) 구문을 생성하지 않았습니다. -->");
+            return;
+        }
+        int fixedBinds = 0;
+        for (ColumnInfo col : columns) {
+            if (isUpdateSetColumn(col, rules)) {
+                fixedBinds++;
             }
+        }
+        for (Map.Entry<String, String> append : rules.getUpdateAppendList()) {
+            fixedBinds += countBinds(append.getValue());
+        }
 
+        appendByPkListComment(out, "PK 목록의 행을 같은 값으로 다건 수정", keys.size(), maxRowsPerStatement(keys.size(), fixedBinds, batchSize));
+        out.append("    <update id=\"updateByPkList\">\n");
+        out.append("        \n");
+        out.append("        UPDATE ").append(tableName).append('\n');
+        out.append("        \n");
+        writeSetClause(out, columns, useIfUpdate, isParameterTypeModel, rules, useJdbcType);
+        out.append("        \n");
+        writeKeyListWhere(out, keys, INDENT, isParameterTypeModel, useJdbcType);
+        out.append("        \n");
+        out.append("    </update>");
+    }
 
-            String columnNameFormatted = String.format("%-" + 20 + "s", col.getColumn_name());
+    /**
+     * PK로 존재 여부를 판단하여 수정 또는 등록하는 MERGE 구문(merge, mergeBatch)을 out에 씁니다.
+     * - 수정 부분은 writeUpdateStatement, 등록 부분은 writeInsertStatement와 같은 규칙을 사용
+     * - PK가 없는 테이블은 대상 행을 특정할 수 없으므로 구문 대신 주석만 씀
+     * @param batchSize mergeBatch 한 번에 처리할 최대 건수 (바인드 수 제한으로 더 작아질 수 있음)
+     */
+    public static void writeMergeStatements(Appendable out, String tableName, List<ColumnInfo> columns, boolean useIfUpdate,
+                                            boolean isParameterTypeModel, ColumnRules rules, int batchSize, boolean useJdbcType) throws IOException {
+        if (columns.stream().noneMatch(MybatisMapperGenerator::isPrimaryKey)) {
+            out.append("    \n");
+            out.append("    <!-- ").append(tableName).append(": PK가 없어 MERGE(merge, mergeBatch) 구문을 생성하지 않았습니다. -->");
+            return;
+        }
+        writeMergeStatement(out, tableName, columns, useIfUpdate, isParameterTypeModel, rules, useJdbcType);
+        out.append("\n\n");
+        writeMergeBatchStatement(out, tableName, columns, useIfUpdate, isParameterTypeModel, rules, batchSize, useJdbcType);
+    }
 
-            String columnName = col.getColumn_name();
-            if ("UPDATE_ID".equals(columnName) ||
-                "UPDATE_IP".equals(columnName) ||
-                "UPDATE_MCADDR_NM".equals(columnName) ||
-                "UPDATE_DTS".equals(columnName)) {
-                continue; // 감사 컬럼은 건너뛰기
+    /**
+     * MERGE 구문 (행 하나, USING DUAL)을 out에 씁니다. PK가 있는 테이블에만 사용하세요.
+     */
+    public static void writeMergeStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean useIfUpdate,
+                                           boolean isParameterTypeModel, ColumnRules rules, boolean useJdbcType) throws IOException {
+        out.append("    \n");
+        out.append("    <!-- 등록 또는 수정 (PK로 존재 여부를 판단하여 한 번의 호출로 처리) -->\n");
+        out.append("    <update id=\"merge")
+           .append("\" parameterType=\"").append(parameterType(isParameterTypeModel)).append("\">\n");
+        out.append("        \n");
+        out.append("        MERGE INTO ").append(tableName).append(" T\n");
+        out.append("        USING DUAL\n");
+        out.append("           ON (");
+        boolean first = true;
+        for (ColumnInfo col : columns) {
+            if (isPrimaryKey(col)) {
+                out.append(first ? "" : " AND ").append("T.").append(col.getColumn_name()).append(" = ");
+                appendBind(out, col, "", isParameterTypeModel, useJdbcType);
+                first = false;
             }
+        }
+        out.append(")\n");
+        if (hasUpdateSet(columns, rules)) {
+            out.append("        WHEN MATCHED THEN\n");
+            out.append("        UPDATE\n");
+            writeSetClause(out, columns, useIfUpdate, isParameterTypeModel, rules, useJdbcType);
+        }
+        out.append("        WHEN NOT MATCHED THEN\n");
+        out.append("        INSERT\n");
+        writeInsertColumnsAndValues(out, columns, rules, (o, col) -> appendInsertBind(o, col, isParameterTypeModel, rules, "", useJdbcType));
+        out.append("        \n");
+        out.append("    </update>");
+    }
 
-            // <if> 태그로 각 일반 컬럼을 감싸줍니다.
-            setBuilder.append(INDENT);
-            if(useIfUpadate){
-                String dataType = col.getData_type();
-                // 데이터 타입이 문자열(VARCHAR, CHAR) 계열인지 확인
-                if (dataType.startsWith("VARCHAR") || dataType.startsWith("CHAR") || dataType.startsWith("NVARCHAR")) {
-                    // 문자열 타입일 경우: null 체크 AND 빈 문자열 체크
-                    setBuilder.append("<if test=\"").append(paramName).append(" != null and ").append(paramName).append(" != ''\">");
-                } else {
-                    // NUMBER, DATE 등 그 외 모든 타입일 경우: null 체크만
-                    setBuilder.append("<if test=\"").append(paramName).append(" != null\">");
-                }
+    /**
+     * 여러 행을 한 번에 처리하는 MERGE 구문 (USING 절에 list 항목을 UNION ALL로 나열)을 out에 씁니다. PK가 있는 테이블에만 사용하세요.
+     * - useIfUpdate이면 값이 없는(null) 항목은 기존 값을 유지 (T.컬럼 = NVL(S.컬럼, T.컬럼), 단건의 &lt;if&gt;와 같은 효과)
+     * - 규칙 값의 바인드는 공통 파라미터이므로 list와 함께 한 맵으로 넘겨 호출
+     * - 같은 PK가 list에 두 번 이상 있으면 Oracle이 오류(ORA-30926)를 내므로 호출 전에 중복을 제거해야 함
+     */
+    public static void writeMergeBatchStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean useIfUpdate,
+                                                boolean isParameterTypeModel, ColumnRules rules, int batchSize, boolean useJdbcType) throws IOException {
+        // USING 절에 필요한 컬럼: PK, SET 대상, 규칙 값이 없는 INSERT 대상
+        Predicate<ColumnInfo> sourceColumn = col -> isPrimaryKey(col) || isUpdateSetColumn(col, rules)
+                || (!rules.isInsertExcluded(col.getColumn_name()) && rules.insertValue(col.getColumn_name()) == null);
+        int bindsPerRow = 0;
+        for (ColumnInfo col : columns) {
+            if (sourceColumn.test(col)) {
+                bindsPerRow++;
             }
-            setBuilder.append(columnNameFormatted).append("= #{").append(paramName).append("},");
-            if(useIfUpadate){
-                setBuilder.append(" </if>");
+        }
+        // 규칙 값의 바인드는 구문 전체에서 한 번씩만 사용
+        int fixedBinds = 0;
+        for (ColumnInfo col : columns) {
+            String value = rules.isInsertExcluded(col.getColumn_name()) ? null : rules.insertValue(col.getColumn_name());
+            if (value != null) {
+                fixedBinds += countBinds(value);
             }
-            setBuilder.append("\n");
         }
-        setBuilder.append(INDENT).append(String.format("%-" + 20 + "s", "UPDATE_ID"))
-                  .append("= #{P_UPDATE_ID},\n");
-        setBuilder.append(INDENT).append(String.format("%-" + 20 + "s", "UPDATE_DTS"))
-                  .append("= FN_TODATE(#{P_CM_SYSDATE}),\n");
+        for (Map.Entry<String, String> append : rules.getUpdateAppendList()) {
+            fixedBinds += countBinds(append.getValue());
+        }
 
-        // <set> 태그 닫기
-        setBuilder.append(INDENT).append("</set>\n");
-
-        // --- WHERE 절 포매팅 ---
-        whereBuilder.append(INDENT).append("<where>\n");
-        for (ColumnInfo pkCol : pkColumns) {
-            String columnName = pkCol.getColumn_name();
-            String columnNameFormatted = String.format("%-" + 20 + "s", columnName);
-            String finalParamName;
-
-            // paramStyle 값에 따라 파라미터 형식을 분기 처리합니다.
-            if (isParameterTypeModel) {
-                // Model 스타일 (기본값): #{소문자컬럼명}
-                finalParamName = lowerCaseSnakeCase(columnName);
-            } else {
-                // HashMap 스타일: #{P_대문자컬럼명}
-                finalParamName = "P_" + columnName;
+        out.append("    \n");
+        out.append("    <!-- 다건 등록 또는 수정 (list: 행 목록, 행당 바인드 ").append(Integer.toString(bindsPerRow))
+           .append("개, 한 번에 최대 ").append(Integer.toString(maxRowsPerStatement(bindsPerRow, fixedBinds, batchSize)))
+           .append("건씩 나누어 호출, 같은 PK 중복 불가) -->\n");
+        out.append("    <update id=\"mergeBatch\">\n");
+        out.append("        \n");
+        out.append("        MERGE INTO ").append(tableName).append(" T\n");
+        out.append("        USING (\n");
+        out.append("        <foreach collection=\"list\" item=\"item\" separator=\"UNION ALL\">\n");
+        out.append("        SELECT\n");
+        writeLineByLine(out, columns, sourceColumn, (o, col) -> {
+            appendBind(o, col, ITEM_PREFIX, isParameterTypeModel, useJdbcType);
+            o.append(" AS ").append(col.getColumn_name());
+        }, COLUMNS_PER_LINE, ",", DEFAULT_PADDING);
+        out.append('\n');
+        out.append("          FROM DUAL\n");
+        out.append("        </foreach>\n");
+        out.append("        ) S\n");
+        out.append("           ON (");
+        boolean first = true;
+        for (ColumnInfo col : columns) {
+            if (isPrimaryKey(col)) {
+                out.append(first ? "" : " AND ").append("T.").append(col.getColumn_name()).append(" = S.").append(col.getColumn_name());
+                first = false;
             }
-
-            if(useIfWhere){
-                whereBuilder.append(INDENT);
-                String dataType = pkCol.getData_type();
-                // 데이터 타입이 문자열(VARCHAR, CHAR) 계열인지 확인
-                if (dataType.startsWith("VARCHAR") || dataType.startsWith("CHAR") || dataType.startsWith("NVARCHAR")) {
-                    // 문자열 타입일 경우: null 체크 AND 빈 문자열 체크
-                    whereBuilder.append("<if test=\"").append(finalParamName).append(" != null and ").append(finalParamName).append(" != ''\">\n");
+        }
+        out.append(")\n");
+        if (hasUpdateSet(columns, rules)) {
+            out.append("        WHEN MATCHED THEN\n");
+            out.append("        UPDATE SET\n");
+            first = true;
+            for (ColumnInfo col : columns) {
+                if (!isUpdateSetColumn(col, rules)) {
+                    continue;
+                }
+                out.append(first ? "" : ",\n").append(INDENT).append("T.");
+                appendPadded(out, col.getColumn_name(), 20);
+                out.append("= ");
+                if (useIfUpdate) {
+                    out.append("NVL(S.").append(col.getColumn_name()).append(", T.").append(col.getColumn_name()).append(')');
                 } else {
-                    // NUMBER, DATE 등 그 외 모든 타입일 경우: null 체크만
-                    whereBuilder.append("<if test=\"").append(finalParamName).append(" != null\">\n");
+                    out.append("S.").append(col.getColumn_name());
                 }
+                first = false;
             }
-            whereBuilder.append(INDENT);
-            whereBuilder.append("AND ").append(columnNameFormatted).append("= #{").append(finalParamName).append("}\n");
-            if(useIfWhere){
-                whereBuilder.append(INDENT);
-                whereBuilder.append("</if>\n");
+            for (Map.Entry<String, String> append : rules.getUpdateAppendList()) {
+                out.append(first ? "" : ",\n").append(INDENT).append("T.");
+                appendPadded(out, append.getKey(), 20);
+                out.append("= ").append(append.getValue());
+                first = false;
             }
+            out.append('\n');
         }
-        whereBuilder.append(INDENT).append("</where>\n");
+        out.append("        WHEN NOT MATCHED THEN\n");
+        out.append("        INSERT\n");
+        writeInsertColumnsAndValues(out, columns, rules, (o, col) -> {
+            String value = rules.insertValue(col.getColumn_name());
+            o.append(value != null ? value : "S." + col.getColumn_name());
+        });
+        out.append("        \n");
+        out.append("    </update>");
+    }
 
-        String parameterType = isParameterTypeModel ? "Model" : "HashMap";
+    // UPDATE SET 절에 들어갈 항목이 있는지 (없으면 MERGE의 WHEN MATCHED 절을 생략)
+    private static boolean hasUpdateSet(List<ColumnInfo> columns, ColumnRules rules) {
+        return !rules.getUpdateAppendList().isEmpty() || columns.stream().anyMatch(col -> isUpdateSetColumn(col, rules));
+    }
 
-        sqlBuilder.append("\n    \n");
-        sqlBuilder.append("    <update id=\"update")
-                  .append("\" parameterType=\"").append(parameterType).append("\">\n");
-        sqlBuilder.append("        \n");
-        sqlBuilder.append("        UPDATE ").append(tableName).append("\n");
-        sqlBuilder.append("        \n");
-        sqlBuilder.append(setBuilder);
-        sqlBuilder.append("        \n");
-        sqlBuilder.append(whereBuilder);
-        sqlBuilder.append("        \n");
-        sqlBuilder.append("    </update>");
+    // UPDATE SET 절 (<set> 태그, PK와 규칙에서 제외한 컬럼은 빼고 update.append 규칙 값을 끝에 추가)
+    private static void writeSetClause(Appendable out, List<ColumnInfo> columns, boolean useIfUpdate, boolean isParameterTypeModel,
+                                       ColumnRules rules, boolean useJdbcType) throws IOException {
+        // SET 절 포매팅
+        // <set> 태그 사용
+        out.append(INDENT).append("<set>\n");
+        for (ColumnInfo col : columns) {
+            if (!isUpdateSetColumn(col, rules)) {
+                continue; // PK, 등록 감사 컬럼, 수정 감사 컬럼(아래에서 고정 값으로 추가)은 건너뛰기
+            }
+
+            // <if> 태그로 각 일반 컬럼을 감싸줍니다.
+            out.append(INDENT);
+            if (useIfUpdate) {
+                appendIfTestOpen(out, col, isParameterTypeModel);
+                out.append('>');
+            }
+            appendPadded(out, col.getColumn_name(), 20);
+            out.append("= ");
+            appendBind(out, col, "", isParameterTypeModel, useJdbcType);
+            out.append(',');
+            if (useIfUpdate) {
+                out.append(" </if>");
+            }
+            out.append('\n');
+        }
+        for (Map.Entry<String, String> append : rules.getUpdateAppendList()) {
+            out.append(INDENT);
+            appendPadded(out, append.getKey(), 20);
+            out.append("= ").append(append.getValue()).append(",\n");
+        }
+
+        // <set> 태그 닫기
+        out.append(INDENT).append("</set>\n");
+    }
 
-        return sqlBuilder.toString();
+    // INSERT의 ( 컬럼 목록 ) VALUES ( 값 목록 ) 부분 (insert.exclude 규칙의 컬럼은 제외)
+    private static void writeInsertColumnsAndValues(Appendable out, List<ColumnInfo> columns, ColumnRules rules,
+                                                    ItemWriter<ColumnInfo> valueWriter) throws IOException {
+        Predicate<ColumnInfo> insertColumn = col -> !rules.isInsertExcluded(col.getColumn_name());
+        out.append("        ( ").append('\n');
+        writeLineByLine(out, columns, insertColumn, COLUMN_NAME_WRITER, COLUMNS_PER_LINE, ",", DEFAULT_PADDING);
+        out.append('\n');
+        out.append("        )\n");
+        out.append("        VALUES\n");
+        out.append("        (\n");
+        writeLineByLine(out, columns, insertColumn, valueWriter, COLUMNS_PER_LINE, ",", DEFAULT_PADDING);
+        out.append('\n');
+        out.append("        )\n");
     }
 
     /**
@@ -313,72 +884,309 @@ public class MybatisMapperGenerator {
      * @return 생성된 DELETE XML 구문
      */
     public static String generateDeleteStatement(String tableName, List<ColumnInfo> columns, boolean useIfWhere, boolean isParameterTypeModel) {
-        StringBuilder sqlBuilder = new StringBuilder();
-        StringBuilder whereBuilder = new StringBuilder();
-
-        List<ColumnInfo> pkColumns = columns.stream()
-                .filter(col -> "Y".equals(col.getPrimary_key()))
-                .toList();
-
-        // --- WHERE 절 포매팅 ---
-        whereBuilder.append(INDENT).append("<where>\n");
-        for (ColumnInfo pkCol : pkColumns) {
-            String columnName = pkCol.getColumn_name();
-            String columnNameFormatted = String.format("%-" + 20 + "s", columnName);
-            String finalParamName;
-
-            // paramStyle 값에 따라 파라미터 형식을 분기 처리합니다.
-            if (isParameterTypeModel) {
-                // Model 스타일 (기본값): #{소문자컬럼명}
-                finalParamName = lowerCaseSnakeCase(columnName);
-            } else {
-                // HashMap 스타일: #{P_대문자컬럼명}
-                finalParamName = "P_" + columnName;
-            }
+        return render(estimateCapacity(columns, 1), out -> writeDeleteStatement(out, tableName, columns, useIfWhere, isParameterTypeModel));
+    }
 
-            if(useIfWhere){
-                whereBuilder.append(INDENT);
+    /**
+     * MyBatis DELETE 구문을 out에 씁니다. (PK 컬럼을 WHERE 절에 사용)
+     * @param out 출력 대상
+     * @param tableName 테이블 이름
+     * @param columns 테이블 컬럼 정보 리스트
+     */
+    public static void writeDeleteStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean useIfWhere, boolean isParameterTypeModel) throws IOException {
+        writeDeleteStatement(out, tableName, columns, useIfWhere, isParameterTypeModel, false);
+    }
 
-                String dataType = pkCol.getData_type();
-                // 데이터 타입이 문자열(VARCHAR, CHAR) 계열인지 확인
-                if (dataType.startsWith("VARCHAR") || dataType.startsWith("CHAR") || dataType.startsWith("NVARCHAR")) {
-                    // 문자열 타입일 경우: null 체크 AND 빈 문자열 체크
-                    whereBuilder.append("<if test=\"").append(finalParamName).append(" != null and ").append(finalParamName).append(" != ''\">\n");
-                } else {
-                    // NUMBER, DATE 등 그 외 모든 타입일 경우: null 체크만
-                    whereBuilder.append("<if test=\"").append(finalParamName).append(" != null\">\n");
-                }
+    /**
+     * MyBatis DELETE 구문을 out에 씁니다.
+     * @param useJdbcType true이면 바인드 변수마다 컬럼 타입의 jdbcType을 명시
+     */
+    public static void writeDeleteStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean useIfWhere, boolean isParameterTypeModel,
+                                            boolean useJdbcType) throws IOException {
+        out.append("\n    \n");
+        out.append("    <delete id=\"delete")
+           .append("\" parameterType=\"").append(parameterType(isParameterTypeModel)).append("\">\n");
+        out.append("        \n");
+        out.append("        DELETE FROM ").append(tableName).append('\n');
+        writeWhereClause(out, columns, INDENT, useIfWhere, isParameterTypeModel, useJdbcType);
+        out.append("        \n");
+        out.append("    </delete>");
+    }
+
+    /**
+     * PK 목록의 행들을 한 번에 삭제하는 구문(deleteByPkList)을 out에 씁니다.
+     * - WHERE 절과 나누어 호출할 건수는 selectByPkList와 같음
+     * - PK가 없는 테이블은 구문 대신 주석만 씀
+     */
+    public static void writeDeleteByPkListStatement(Appendable out, String tableName, List<ColumnInfo> columns, boolean isParameterTypeModel,
+                                                    int batchSize, boolean useJdbcType) throws IOException {
+        List<ColumnInfo> keys = primaryKeys(columns);
+        out.append("    \n");
+        if (keys.isEmpty()) {
+            out.append("    <!-- ").append(tableName).append(": PK가 없어 PK 목록 삭제(deleteByPkList) 구문을 생성하지 않았습니다. -->");
+            return;
+        }
+
+        appendByPkListComment(out, "PK 목록으로 다건 삭제", keys.size(), maxRowsPerStatement(keys.size(), batchSize));
+        out.append("    <delete id=\"deleteByPkList\">\n");
+        out.append("        \n");
+        out.append("        DELETE FROM ").append(tableName).append('\n');
+        writeKeyListWhere(out, keys, INDENT, isParameterTypeModel, useJdbcType);
+        out.append("        \n");
+        out.append("    </delete>");
+    }
+
+    // PK 목록 구문의 설명 주석
+    private static void appendByPkListComment(Appendable out, String description, int bindsPerRow, int maxRows) throws IOException {
+        out.append("    <!-- ").append(description).append(" (list: PK 항목 목록, 행당 바인드 ").append(Integer.toString(bindsPerRow))
+           .append("개, 한 번에 최대 ").append(Integer.toString(maxRows)).append("건씩 나누어 호출, 빈 list는 대상 없음) -->\n");
+    }
+
+    /**
+     * PK 목록 조건 (WHERE (K IN (...) OR K IN (...)), 복합 PK는 (K1, K2) IN ((...), ...))
+     * - &lt;foreach&gt;의 index로 IN_LIST_LIMIT건마다 IN 목록을 닫고 OR로 새 IN 목록을 엶 (한 구문 안에서 OR로 연결)
+     * - 빈 list는 WHERE 1 = 0 (빈 괄호로 인한 문법 오류 대신 대상 없음)
+     */
+    private static void writeKeyListWhere(Appendable out, List<ColumnInfo> keys, String indent, boolean isParameterTypeModel,
+                                          boolean useJdbcType) throws IOException {
+        StringBuilder keyColumns = new StringBuilder();
+        for (int i = 0; i < keys.size(); i++) {
+            keyColumns.append(i == 0 ? "" : ", ").append(keys.get(i).getColumn_name());
+        }
+        String inList = keys.size() == 1 ? keyColumns + " IN (" : "(" + keyColumns + ") IN (";
+
+        String inner = indent + "    ";
+        out.append(indent).append(" WHERE\n");
+        out.append(indent).append("<choose>\n");
+        out.append(inner).append("<when test=\"list == null or list.isEmpty()\">1 = 0</when>\n");
+        out.append(inner).append("<otherwise>\n");
+        out.append(inner).append("(\n");
+        out.append(inner).append("<foreach collection=\"list\" item=\"item\" index=\"index\">\n");
+        out.append(inner).append("    <choose>\n");
+        out.append(inner).append("    <when test=\"index == 0\">").append(inList).append("</when>\n");
+        out.append(inner).append("    <when test=\"index % ").append(Integer.toString(IN_LIST_LIMIT)).append(" == 0\">) OR ")
+           .append(inList).append("</when>\n");
+        out.append(inner).append("    <otherwise>, </otherwise>\n");
+        out.append(inner).append("    </choose>\n");
+        out.append(inner).append("    ");
+        if (keys.size() > 1) {
+            out.append('(');
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            out.append(i == 0 ? "" : ", ");
+            appendBind(out, keys.get(i), ITEM_PREFIX, isParameterTypeModel, useJdbcType);
+        }
+        if (keys.size() > 1) {
+            out.append(')');
+        }
+        out.append('\n');
+        out.append(inner).append("</foreach>\n");
+        out.append(inner).append("))\n");
+        out.append(inner).append("</otherwise>\n");
+        out.append(indent).append("</choose>\n");
+    }
+
+    // PK 컬럼 (테이블 컬럼 순서)
+    private static List<ColumnInfo> primaryKeys(List<ColumnInfo> columns) {
+        List<ColumnInfo> keys = new ArrayList<>();
+        for (ColumnInfo col : columns) {
+            if (isPrimaryKey(col)) {
+                keys.add(col);
             }
-            whereBuilder.append(INDENT);
-            whereBuilder.append("AND ").append(columnNameFormatted).append("= #{").append(finalParamName).append("}\n");
-            if(useIfWhere){
-                whereBuilder.append(INDENT);
-                whereBuilder.append("</if>\n");
+        }
+        return keys;
+    }
+
+    // --- WHERE 절 포매팅 (PK 컬럼만 사용) ---
+    private static void writeWhereClause(Appendable out, List<ColumnInfo> columns, String indent, boolean useIfWhere, boolean isParameterTypeModel,
+                                         boolean useJdbcType) throws IOException {
+        out.append(indent).append("<where>\n");
+        for (ColumnInfo col : columns) {
+            if (isPrimaryKey(col)) {
+                appendWherePredicate(out, col, indent, useIfWhere, isParameterTypeModel, useJdbcType);
             }
         }
-        whereBuilder.append(INDENT).append("</where>\n");
+        out.append(indent).append("</where>\n");
+    }
+
+    // WHERE 절 조건 하나 (AND 컬럼 = #{파라미터})
+    private static void appendWherePredicate(Appendable out, ColumnInfo col, String indent, boolean useIfWhere, boolean isParameterTypeModel,
+                                             boolean useJdbcType) throws IOException {
+        if (useIfWhere) {
+            out.append(indent);
+            appendIfTestOpen(out, col, isParameterTypeModel);
+            out.append(">\n");
+        }
+        out.append(indent);
+        out.append("AND ");
+        appendPadded(out, col.getColumn_name(), 20);
+        out.append("= ");
+        appendBind(out, col, "", isParameterTypeModel, useJdbcType);
+        out.append('\n');
+        if (useIfWhere) {
+            out.append(indent);
+            out.append("</if>\n");
+        }
+    }
+
+    // <if test="..."> 태그의 여는 부분 ('>' 제외)
+    private static void appendIfTestOpen(Appendable out, ColumnInfo col, boolean isParameterTypeModel) throws IOException {
+        out.append("<if test=\"");
+        appendIfTestCondition(out, col, isParameterTypeModel);
+        out.append('"');
+    }
+
+    // <if test="..."> 조건식
+    static void appendIfTestCondition(Appendable out, ColumnInfo col, boolean isParameterTypeModel) throws IOException {
+        appendParamName(out, col.getColumn_name(), isParameterTypeModel);
+        if (isStringType(col.getData_type())) {
+            // 문자열 타입일 경우: null 체크 AND 빈 문자열 체크
+            out.append(" != null and ");
+            appendParamName(out, col.getColumn_name(), isParameterTypeModel);
+            out.append(" != ''");
+        } else {
+            // NUMBER, DATE 등 그 외 모든 타입일 경우: null 체크만
+            out.append(" != null");
+        }
+    }
+
+    // 파라미터 이름 - Model 스타일 (기본값): 소문자컬럼명, HashMap 스타일: P_대문자컬럼명
+    static void appendParamName(Appendable out, String columnName, boolean isParameterTypeModel) throws IOException {
+        if (isParameterTypeModel) {
+            appendLowerCase(out, columnName);
+        } else {
+            out.append("P_").append(columnName);
+        }
+    }
+
+    // INSERT VALUES 절의 바인드 변수 (규칙에 고정 값이 있으면 그 값, 예: INSERT_DTS -> FN_TODATE(#{P_CM_SYSDATE}))
+    // prefix: <foreach> 항목 접두어 (예: item.), 규칙 값은 그대로 사용
+    static void appendInsertBind(Appendable out, ColumnInfo col, boolean isParameterTypeModel, ColumnRules rules, String prefix,
+                                 boolean useJdbcType) throws IOException {
+        String value = rules.insertValue(col.getColumn_name());
+        if (value != null) {
+            out.append(value);
+        } else {
+            appendBind(out, col, prefix, isParameterTypeModel, useJdbcType);
+        }
+    }
+
+    // 컬럼 바인드 변수 (예: #{company_cd} 또는 #{company_cd, jdbcType=VARCHAR})
+    // jdbcType을 명시하면 null 값도 컬럼 타입으로 바인드되고, 드라이버가 값 타입을 추측하지 않음 (알 수 없는 타입은 생략)
+    static void appendBind(Appendable out, ColumnInfo col, String prefix, boolean isParameterTypeModel, boolean useJdbcType) throws IOException {
+        out.append("#{").append(prefix);
+        appendParamName(out, col.getColumn_name(), isParameterTypeModel);
+        if (useJdbcType) {
+            appendJdbcType(out, col);
+        }
+        out.append('}');
+    }
+
+    // 바인드 변수의 jdbcType 부분 (예: , jdbcType=VARCHAR), 알 수 없는 타입이면 아무것도 쓰지 않고 0 반환
+    static int appendJdbcType(Appendable out, ColumnInfo col) throws IOException {
+        JdbcTypeRegistry.TypeMapping type = JdbcTypeRegistry.of(col.getData_type());
+        if (!type.isKnown()) {
+            return 0;
+        }
+        out.append(", jdbcType=").append(type.getJdbcType());
+        return ", jdbcType=".length() + type.getJdbcType().length();
+    }
+
+    // 옵션의 템플릿에 정의된 컬럼 규칙, 없으면 기본 규칙 (jdbcType 옵션이면 규칙 값의 바인드에도 jdbcType을 붙인 규칙)
+    static ColumnRules columnRules(MapperOptions options) {
+        MapperTemplate template = options.getTemplate();
+        ColumnRules rules = template != null ? template.getColumnRules() : ColumnRules.DEFAULT;
+        return options.isUseJdbcType() ? rules.withJdbcTypes() : rules;
+    }
+
+    static boolean isPrimaryKey(ColumnInfo col) {
+        return "Y".equals(col.getPrimary_key());
+    }
+
+    // 데이터 타입이 문자열(VARCHAR, CHAR) 계열인지 확인
+    static boolean isStringType(String dataType) {
+        return dataType.startsWith("VARCHAR") || dataType.startsWith("CHAR") || dataType.startsWith("NVARCHAR");
+    }
+
+    // UPDATE SET 절 대상 컬럼 (PK와 규칙에서 제외한 컬럼 - 등록/수정 감사 컬럼 등 - 은 제외)
+    static boolean isUpdateSetColumn(ColumnInfo col, ColumnRules rules) {
+        return !isPrimaryKey(col) && !rules.isUpdateExcluded(col.getColumn_name());
+    }
+
+    static String parameterType(boolean isParameterTypeModel) {
+        return isParameterTypeModel ? "Model" : "HashMap";
+    }
+
+    // String.format("%-Ns") 대신 공백을 직접 붙여 왼쪽 정렬 (형식 문자열 파싱/중간 문자열 없음)
+    static void appendPadded(Appendable out, String value, int width) throws IOException {
+        out.append(value);
+        appendSpaces(out, width - String.valueOf(value).length());
+    }
+
+    static void appendSpaces(Appendable out, int count) throws IOException {
+        while (count > 0) {
+            int n = Math.min(count, SPACES.length());
+            out.append(SPACES, 0, n);
+            count -= n;
+        }
+    }
+
+    // 소문자 변환을 새 문자열 없이 한 글자씩 출력 (예: COMPANY_CD -> company_cd)
+    private static void appendLowerCase(Appendable out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            out.append(Character.toLowerCase(value.charAt(i)));
+        }
+    }
 
-        String parameterType = isParameterTypeModel ? "Model" : "HashMap";
-        sqlBuilder.append("\n    \n");
-        sqlBuilder.append("    <delete id=\"delete")
-                  .append("\" parameterType=\"").append(parameterType).append("\">\n");
-        sqlBuilder.append("        \n");
-        sqlBuilder.append("        DELETE FROM ").append(tableName).append("\n");
-        sqlBuilder.append(whereBuilder);
-        sqlBuilder.append("        \n");
-        sqlBuilder.append("    </delete>");
+    // StringBuilder에 쓰고 문자열로 반환 (StringBuilder는 IOException을 던지지 않음)
+    private static String render(int capacity, AppendAction action) {
+        StringBuilder sb = new StringBuilder(capacity);
+        try {
+            action.write(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
 
-        return sqlBuilder.toString();
+    // 결과 길이 추정 (컬럼당 약 80자 x 구문 수) - StringBuilder 재할당 방지용
+    private static int estimateCapacity(List<ColumnInfo> columns, int statements) {
+        return 256 * statements + columns.size() * 80 * statements;
     }
 
+    /**
+     * 매퍼 파일의 namespace를 만듭니다. (매퍼 인터페이스 이름: 모델명 + Mapper)
+     * @param mapperPackage 매퍼 인터페이스 패키지 (비어 있으면 패키지 없이)
+     * @return 예: com.example.mapper.MeItemInfoMapper
+     */
+    public static String mapperNamespace(String mapperPackage, String tableName) {
+        String mapperName = convertToCamelCase(tableName) + "Mapper";
+        return mapperPackage == null || mapperPackage.isBlank() ? mapperName : mapperPackage.trim() + "." + mapperName;
+    }
 
-    // 컬럼명을 소문자 스네이크 케이스로 변환 (예: COMPANY_CD -> company_cd)
-    private static String lowerCaseSnakeCase(String colName) {
-        return colName.toLowerCase();
+    /**
+     * generateMapper로 만든 구문들을 XML 선언, DOCTYPE, &lt;mapper namespace&gt;로 감싸 MyBatis가 읽을 수 있는 매퍼 파일 내용으로 만듭니다.
+     * @param namespace mapperNamespace로 만든 namespace
+     * @param statements generateMapper 결과
+     */
+    public static String toMapperDocument(String namespace, String statements) {
+        StringBuilder sb = new StringBuilder(statements.length() + 256);
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n");
+        sb.append("<!DOCTYPE mapper\n");
+        sb.append("        PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\"\n");
+        sb.append("        \"https://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n");
+        sb.append('\n');
+        sb.append("<mapper namespace=\"").append(namespace).append("\">\n");
+        sb.append(statements);
+        if (!statements.endsWith("\n")) {
+            sb.append('\n');
+        }
+        sb.append("</mapper>\n");
+        return sb.toString();
     }
 
     // 테이블 이름을 CamelCase로 변환 (예: ME_ITEMSERCHK_INFO_X20400 -> MeItemserchkInfoX20400)
-    private static String convertToCamelCase(String snakeCase) {
+    static String convertToCamelCase(String snakeCase) {
         if (snakeCase == null || snakeCase.isEmpty()) {
             return "";
         }
@@ -407,28 +1215,56 @@ public class MybatisMapperGenerator {
      * @param delimiter 항목 구분자 (예: ",")
      * @param padding 각 항목 뒤에 추가할 공백 수
      * @return 포매팅된 문자열
+     * (JMH 벤치마크에서 직접 측정할 수 있도록 package-private)
      */
-    private static String simplifiedFormatLineByLine(List<String> items, int colsPerLine, String delimiter, int padding) {
-        StringBuilder formattedBuilder = new StringBuilder();
-        String paddingStr = " ".repeat(padding); // 지정된 패딩 길이만큼 공백 문자열 생성
+    static String simplifiedFormatLineByLine(List<String> items, int colsPerLine, String delimiter, int padding) {
+        return render(items.size() * 32, out -> writeLineByLine(out, items, item -> true, Appendable::append, colsPerLine, delimiter, padding));
+    }
 
-        for (int i = 0; i < items.size(); i++) {
+    /**
+     * items 중 filter를 통과한 항목을 simplifiedFormatLineByLine과 같은 형태로 out에 씁니다.
+     * (필터링된 중간 리스트를 만들지 않도록 항목 수를 먼저 센 뒤 한 번 더 순회)
+     */
+    static <T> void writeLineByLine(Appendable out, List<T> items, Predicate<T> filter, ItemWriter<T> writer,
+                                            int colsPerLine, String delimiter, int padding) throws IOException {
+        int count = 0;
+        for (T item : items) {
+            if (filter.test(item)) {
+                count++;
+            }
+        }
+
+        int i = 0;
+        for (T item : items) {
+            if (!filter.test(item)) {
+                continue;
+            }
             if (i % colsPerLine == 0) { // 새 줄 시작 시 들여쓰기
                 if (i > 0) {
-                    formattedBuilder.append("\n");
+                    out.append('\n');
                 }
-                formattedBuilder.append(INDENT);
+                out.append(INDENT);
             }
 
-            formattedBuilder.append(items.get(i));
+            writer.write(out, item);
 
-            if (i < items.size() - 1) { // 마지막 항목이 아니면 구분자 및 패딩 추가
-                formattedBuilder.append(delimiter);
+            if (i < count - 1) { // 마지막 항목이 아니면 구분자 및 패딩 추가
+                out.append(delimiter);
                 if ((i + 1) % colsPerLine != 0) { // 한 줄의 마지막 항목이 아니면 패딩 추가
-                    formattedBuilder.append(paddingStr);
+                    appendSpaces(out, padding);
                 }
             }
+            i++;
         }
-        return formattedBuilder.toString();
+    }
+
+    @FunctionalInterface
+    private interface AppendAction {
+        void write(Appendable out) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface ItemWriter<T> {
+        void write(Appendable out, T item) throws IOException;
     }
 }
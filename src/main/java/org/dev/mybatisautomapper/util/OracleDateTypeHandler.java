@@ -0,0 +1,58 @@
+package org.dev.mybatisautomapper.util;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * 생성된 매퍼의 jdbcType=DATE 바인드에서 시분초를 유지하는 타입 핸들러 (java.util.Date &lt;-&gt; Oracle DATE)
+ * - MyBatis 기본 핸들러(DateOnlyTypeHandler)는 jdbcType=DATE이면 java.sql.Date로 바인드하여 시분초를 버림
+ * - TIMESTAMP로 바인드하면 Oracle이 DATE 컬럼을 INTERNAL_FUNCTION으로 감싸 인덱스를 쓰지 못하므로,
+ *   LocalDateTime을 Types.DATE로 바인드하여 DATE 그대로 비교되게 함
+ * 사용하는 프로젝트의 mybatis-config.xml에 등록합니다.
+ * <pre>
+ *     &lt;typeHandlers&gt;
+ *         &lt;typeHandler handler="org.dev.mybatisautomapper.util.OracleDateTypeHandler"/&gt;
+ *     &lt;/typeHandlers&gt;
+ * </pre>
+ */
+@MappedTypes(Date.class)
+@MappedJdbcTypes(JdbcType.DATE)
+public class OracleDateTypeHandler extends BaseTypeHandler<Date> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Date parameter, JdbcType jdbcType) throws SQLException {
+        ps.setObject(i, LocalDateTime.ofInstant(parameter.toInstant(), ZoneId.systemDefault()), Types.DATE);
+    }
+
+    @Override
+    public Date getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toDate(rs.getTimestamp(columnName));
+    }
+
+    @Override
+    public Date getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toDate(rs.getTimestamp(columnIndex));
+    }
+
+    @Override
+    public Date getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toDate(cs.getTimestamp(columnIndex));
+    }
+
+    // 조회는 시분초를 포함하는 getTimestamp로 읽음
+    private static Date toDate(Timestamp timestamp) {
+        return timestamp == null ? null : new Date(timestamp.getTime());
+    }
+}
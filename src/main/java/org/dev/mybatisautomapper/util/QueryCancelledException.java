@@ -0,0 +1,31 @@
+package org.dev.mybatisautomapper.util;
+
+/**
+ * QueryCanceller로 취소된 조회에서 발생하는 예외
+ * (MyBatis가 PersistenceException으로 감싸서 던지므로 isCause로 확인)
+ */
+public class QueryCancelledException extends RuntimeException {
+
+    public QueryCancelledException(String message) {
+        super(message);
+    }
+
+    public QueryCancelledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * @return 예외의 원인 중에 조회 취소가 있으면 true
+     */
+    public static boolean isCause(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof QueryCancelledException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,112 @@
+package org.dev.mybatisautomapper.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 실행 중인 DB 조회를 다른 스레드에서 취소하기 위한 객체
+ * - 조회를 실행하는 스레드에서 bind()로 연결하면, 그 스레드가 실행하는 구문이 StatementCancelInterceptor를 통해 등록됩니다.
+ * - cancel()은 진행 중인 구문에 Statement.cancel()을 호출하고, 이후 시작되는 조회는 실행하지 않고 바로 실패시킵니다.
+ */
+public class QueryCanceller {
+    private static final Logger logger = LogManager.getLogger(QueryCanceller.class);
+
+    private static final ThreadLocal<QueryCanceller> CURRENT = new ThreadLocal<>();
+
+    // cancelAsync의 Statement.cancel() 실행용 (취소 요청은 드물고 짧으므로 스레드 하나, 앱 종료를 막지 않도록 데몬 스레드)
+    private static final ExecutorService CANCEL_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "query-cancel");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean cancelled;
+    private Statement statement;    // 실행 중인 구문 (this로 동기화)
+
+    /** bind()의 연결 범위 (try-with-resources로 사용) */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * 현재 스레드에서 실행하는 조회를 이 객체로 취소할 수 있도록 연결합니다.
+     * @return 닫으면 이전 연결 상태로 되돌림
+     */
+    public Scope bind() {
+        QueryCanceller previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /** 진행 중인 조회를 취소하고, 이후 조회도 실행되지 않도록 합니다. (어느 스레드에서나 호출 가능) */
+    public void cancel() {
+        Statement running;
+        synchronized (this) {
+            cancelled = true;
+            running = statement;
+        }
+        if (running != null) {
+            cancelStatement(running);
+        }
+    }
+
+    /**
+     * cancel()과 같지만, 진행 중인 구문의 Statement.cancel()은 별도 스레드에서 실행하고 바로 돌아옵니다.
+     * (Oracle에서는 Statement.cancel()이 네트워크 왕복이라 블록될 수 있으므로 FX 스레드에서는 이 메서드를 사용)
+     * 이후 조회를 막는 표시는 호출 즉시 반영됩니다.
+     */
+    public void cancelAsync() {
+        Statement running;
+        synchronized (this) {
+            cancelled = true;
+            running = statement;
+        }
+        if (running != null) {
+            CANCEL_EXECUTOR.execute(() -> cancelStatement(running));
+        }
+    }
+
+    private static void cancelStatement(Statement running) {
+        try {
+            running.cancel();
+            logger.debug("[DB] 진행 중인 조회를 취소했습니다.");
+        } catch (SQLException e) {
+            // 그 사이 조회가 끝나 구문이 닫힌 경우
+            logger.debug("[DB] 조회 취소 실패 (이미 종료됨): {}", e.getMessage());
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** 현재 스레드에 연결된 객체, 없으면 null */
+    static QueryCanceller current() {
+        return CURRENT.get();
+    }
+
+    synchronized void register(Statement running) {
+        if (cancelled) {
+            throw new QueryCancelledException("조회가 취소되었습니다.");
+        }
+        statement = running;
+    }
+
+    synchronized void unregister(Statement running) {
+        if (statement == running) {
+            statement = null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.dev.mybatisautomapper.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 앱 시작부터 주요 시점(화면 표시, DB 준비 등)까지의 경과 시간을 로그로 남깁니다. (time-to-interactive 측정)
+ */
+public class StartupTimer {
+    private static final Logger logger = LogManager.getLogger(StartupTimer.class);
+
+    private static volatile long startNanos = System.nanoTime();
+    private static final Set<String> marked = ConcurrentHashMap.newKeySet();
+
+    /** 측정 시작 (main 진입 시 호출) */
+    public static void start() {
+        startNanos = System.nanoTime();
+        marked.clear();
+    }
+
+    /**
+     * 시작 후 경과 시간을 기록합니다. (같은 시점은 처음 한 번만 기록)
+     * @param milestone 시점 이름
+     */
+    public static void mark(String milestone) {
+        if (marked.add(milestone)) {
+            logger.info("[STARTUP] {}: {}ms", milestone, elapsedMillis());
+        }
+    }
+
+    public static long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,43 @@
+package org.dev.mybatisautomapper.util;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Statement;
+
+/**
+ * 조회 구문을 실행하는 동안 현재 스레드의 QueryCanceller에 등록하는 MyBatis 플러그인
+ * (QueryCanceller가 연결되지 않은 스레드의 조회는 그대로 실행)
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class})
+})
+public class StatementCancelInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        QueryCanceller canceller = QueryCanceller.current();
+        if (canceller == null) {
+            return invocation.proceed();
+        }
+
+        Statement statement = (Statement) invocation.getArgs()[0];
+        canceller.register(statement);
+        try {
+            return invocation.proceed();
+        } catch (Exception e) {
+            // 취소로 인한 오류(ORA-01013 등)는 취소 예외로 구분
+            if (canceller.isCancelled()) {
+                throw new QueryCancelledException("조회가 취소되었습니다.", ExceptionUtil.unwrapThrowable(e));
+            }
+            throw e;
+        } finally {
+            canceller.unregister(statement);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.dev.mybatisautomapper.util;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.dev.mybatisautomapper.model.ColumnInfo;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 생성된 매퍼 XML의 구문을 EXPLAIN PLAN에 넣을 수 있는 SQL로 만듭니다.
+ * - MyBatis로 XML을 그대로 파싱하여 동적 SQL(<if>, <where>, <set>, <foreach>)을 풀고,
+ *   ?(바인드 변수) 자리에는 컬럼 타입에 맞는 대표 값(리터럴)을 넣음
+ * - 대표 파라미터는 모든 <if>를 통과하도록 어떤 키든 값이 있는 맵을 사용 (list는 1건, limit는 10)
+ * - 컬럼으로 찾을 수 없는 바인드(예: 규칙 값의 P_CM_SYSDATE)는 NULL로 대체
+ */
+public final class StatementSqlRenderer {
+
+    private static final String NAMESPACE = "generated";
+    private static final Pattern STATEMENT_ID = Pattern.compile("<(select|insert|update|delete)\\s+id=\"([^\"]+)\"");
+    private static final int REPRESENTATIVE_LIMIT = 10;
+
+    private StatementSqlRenderer() {
+    }
+
+    /**
+     * @param mapperXml generateMapper로 만든 구문들 (<mapper> 안쪽 내용)
+     * @param columns   테이블 컬럼 정보 리스트 (대표 값의 타입을 정하는 데 사용)
+     * @return 구문 id -> 실행 가능한 SQL (XML에 나온 순서)
+     * @throws RuntimeException XML을 MyBatis가 파싱할 수 없는 경우 (사용자 템플릿 오류 등)
+     */
+    public static Map<String, String> render(String mapperXml, List<ColumnInfo> columns) {
+        Configuration configuration = new Configuration();
+        configuration.getTypeAliasRegistry().registerAlias("Model", HashMap.class);
+        String document = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+                + "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"https://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n"
+                + "<mapper namespace=\"" + NAMESPACE + "\">\n" + mapperXml + "\n</mapper>\n";
+        new XMLMapperBuilder(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), configuration,
+                NAMESPACE, configuration.getSqlFragments()).parse();
+
+        Map<String, ColumnInfo> columnByName = new HashMap<>();
+        for (ColumnInfo col : columns) {
+            columnByName.put(col.getColumn_name().toUpperCase(), col);
+        }
+        Map<String, String> sqlById = new LinkedHashMap<>();
+        for (String id : statementIds(mapperXml)) {
+            MappedStatement statement = configuration.getMappedStatement(NAMESPACE + "." + id);
+            BoundSql boundSql = statement.getBoundSql(new RepresentativeParameter());
+            sqlById.put(id, inlineBinds(boundSql.getSql(), boundSql.getParameterMappings(), columnByName).trim());
+        }
+        return sqlById;
+    }
+
+    /**
+     * @return 매퍼 XML에 나온 구문 id (나온 순서)
+     */
+    public static List<String> statementIds(String mapperXml) {
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = STATEMENT_ID.matcher(mapperXml);
+        while (matcher.find()) {
+            ids.add(matcher.group(2));
+        }
+        return ids;
+    }
+
+    // ?를 순서대로 대표 값으로 바꿈 (문자열 리터럴, 주석 안의 ?는 그대로 둠)
+    private static String inlineBinds(String sql, List<ParameterMapping> mappings, Map<String, ColumnInfo> columnByName) {
+        StringBuilder sb = new StringBuilder(sql.length() + mappings.size() * 8);
+        int bindIndex = 0;
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            int end;
+            if (c == '\'') {
+                end = sql.indexOf('\'', i + 1);
+                end = end < 0 ? sql.length() : end + 1;
+            } else if (c == '-' && sql.startsWith("--", i)) {
+                end = sql.indexOf('\n', i);
+                end = end < 0 ? sql.length() : end;
+            } else if (c == '/' && sql.startsWith("/*", i)) {
+                end = sql.indexOf("*/", i + 2);
+                end = end < 0 ? sql.length() : end + 2;
+            } else if (c == '?' && bindIndex < mappings.size()) {
+                sb.append(literal(mappings.get(bindIndex++).getProperty(), columnByName));
+                i++;
+                continue;
+            } else {
+                end = i + 1;
+            }
+            sb.append(sql, i, end);
+            i = end;
+        }
+        return sb.toString();
+    }
+
+    // 바인드 이름(예: P_COMPANY_CD, __frch_item_0.company_cd, last.company_cd)의 컬럼 타입에 맞는 대표 값
+    static String literal(String property, Map<String, ColumnInfo> columnByName) {
+        String name = property.substring(property.lastIndexOf('.') + 1).toUpperCase();
+        if ("LIMIT".equals(name)) {
+            return String.valueOf(REPRESENTATIVE_LIMIT);
+        }
+        ColumnInfo col = columnByName.get(name);
+        if (col == null && name.startsWith("P_")) {
+            col = columnByName.get(name.substring(2));
+        }
+        if (col == null) {
+            return "NULL";
+        }
+        String jdbcType = JdbcTypeRegistry.of(col.getData_type()).getJdbcType();
+        if (jdbcType == null) {
+            return "NULL";
+        }
+        switch (jdbcType) {
+            case "NUMERIC":
+            case "FLOAT":
+            case "DOUBLE":
+                return "0";
+            case "DATE":
+                return "SYSDATE";
+            case "TIMESTAMP":
+                return "SYSTIMESTAMP";
+            case "TIMESTAMP_WITH_TIMEZONE":
+                return "SYSTIMESTAMP";
+            case "BLOB":
+                return "EMPTY_BLOB()";
+            case "VARBINARY":
+            case "LONGVARBINARY":
+                return "HEXTORAW('00')";
+            default:
+                return "'X'";
+        }
+    }
+
+    /**
+     * 어떤 키로 꺼내도 값이 있는 대표 파라미터
+     * - <if test="x != null and x != ''">를 모두 통과 (실제 값은 inlineBinds에서 컬럼 타입으로 정함)
+     * - list(다건 구문의 foreach)는 자기 자신 1건, last(keyset 페이지)는 자기 자신
+     */
+    private static final class RepresentativeParameter extends HashMap<String, Object> {
+        @Override
+        public Object get(Object key) {
+            if ("list".equals(key)) {
+                return Collections.singletonList(this);
+            }
+            if ("last".equals(key)) {
+                return this;
+            }
+            if ("limit".equals(key)) {
+                return REPRESENTATIVE_LIMIT;
+            }
+            return "X";
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return true;
+        }
+    }
+}
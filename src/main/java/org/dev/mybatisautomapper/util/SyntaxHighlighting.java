@@ -1,15 +1,27 @@
 package org.dev.mybatisautomapper.util;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.fxmisc.richtext.CodeArea;
+import org.fxmisc.richtext.model.PlainTextChange;
 import org.fxmisc.richtext.model.StyleSpans;
 import org.fxmisc.richtext.model.StyleSpansBuilder;
+import org.fxmisc.richtext.model.TwoDimensional.Bias;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class SyntaxHighlighting {
+    private static final Logger logger = LogManager.getLogger(SyntaxHighlighting.class);
+
     // 정규식 패턴 정의
     private static final Pattern PATTERN = Pattern.compile(
             "(?<COMMENT>``|--[^\n]*)"                                     // 주석
@@ -19,11 +31,100 @@ public class SyntaxHighlighting {
           + "|(?<VALUE>\"[^\"]*\"|\'[^\']*\')"                                     // 속성 값
     );
 
+    private static final int CHUNK_PARAGRAPHS = 300;                 // 한 번에 하이라이팅할 최대 문단(줄) 수
+    private static final Duration COALESCE_DELAY = Duration.millis(40); // 연속 변경을 모아서 처리할 대기 시간
+
+    // 스타일 계산 전용 백그라운드 스레드
+    private static final ExecutorService HIGHLIGHT_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "syntax-highlighting");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     public static void apply(CodeArea codeArea) {
-        // 텍스트가 변경될 때마다 하이라이팅을 다시 계산하여 적용
-        codeArea.textProperty().addListener((obs, oldText, newText) -> {
-            codeArea.setStyleSpans(0, computeHighlighting(newText));
-        });
+        // 텍스트가 변경되면 바뀐 문단만 백그라운드에서 다시 계산하여 적용
+        new IncrementalHighlighter(codeArea).install();
+    }
+
+    /**
+     * 변경된 문단 범위만 모아 두었다가, CHUNK_PARAGRAPHS 단위로 나누어
+     * 백그라운드에서 스타일을 계산하고 FX 스레드에서 해당 문단에만 적용합니다.
+     * (FX 스레드의 작업량은 문서 전체가 아닌 한 묶음 크기로 제한됨)
+     * 모든 필드는 FX 스레드에서만 접근합니다.
+     */
+    private static final class IncrementalHighlighter {
+        private final CodeArea codeArea;
+        private final PauseTransition coalesce = new PauseTransition(COALESCE_DELAY);
+
+        private int dirtyStart = Integer.MAX_VALUE; // 다시 계산할 문단 범위 (양 끝 포함)
+        private int dirtyEnd = -1;
+        private long editCount;                     // 변경 발생 횟수 (계산 도중 변경되었는지 확인용)
+        private boolean running;                    // 백그라운드 계산 진행 중 여부
+
+        private IncrementalHighlighter(CodeArea codeArea) {
+            this.codeArea = codeArea;
+        }
+
+        private void install() {
+            coalesce.setOnFinished(event -> processNext());
+            codeArea.plainTextChanges().subscribe(this::onChange);
+        }
+
+        private void onChange(PlainTextChange change) {
+            editCount++;
+            int startParagraph = codeArea.offsetToPosition(change.getPosition(), Bias.Forward).getMajor();
+            int endParagraph = codeArea.offsetToPosition(change.getInsertionEnd(), Bias.Forward).getMajor();
+            markDirty(startParagraph, endParagraph);
+            coalesce.playFromStart();
+        }
+
+        private void markDirty(int startParagraph, int endParagraph) {
+            dirtyStart = Math.min(dirtyStart, startParagraph);
+            dirtyEnd = Math.max(dirtyEnd, endParagraph);
+        }
+
+        private void processNext() {
+            if (running) {
+                return; // 진행 중인 묶음이 끝나면 이어서 처리됨
+            }
+            int lastParagraph = codeArea.offsetToPosition(codeArea.getLength(), Bias.Backward).getMajor();
+            dirtyEnd = Math.min(dirtyEnd, lastParagraph);
+            if (dirtyStart > dirtyEnd) {
+                dirtyStart = Integer.MAX_VALUE;
+                dirtyEnd = -1;
+                return;
+            }
+
+            int from = dirtyStart;
+            int to = Math.min(dirtyEnd, from + CHUNK_PARAGRAPHS - 1);
+            dirtyStart = to + 1;
+
+            String text = codeArea.getText(
+                    codeArea.getAbsolutePosition(from, 0),
+                    codeArea.getAbsolutePosition(to, codeArea.getParagraph(to).length()));
+            long editAtStart = editCount;
+            running = true;
+
+            CompletableFuture.supplyAsync(() -> computeHighlighting(text), HIGHLIGHT_EXECUTOR)
+                    .whenComplete((spans, error) -> Platform.runLater(() -> {
+                        running = false;
+                        if (error != null) {
+                            // 이 묶음은 스타일 없이 두고 나머지 범위는 계속 처리
+                            logger.warn("구문 강조 계산 실패 (문단 {}~{})", from, to, error);
+                            processNext();
+                            return;
+                        }
+                        if (editAtStart != editCount) {
+                            // 계산 도중 내용이 바뀌었으면 결과를 버리고 다시 계산
+                            // (계산 중에 끝난 대기 시간의 processNext는 running 때문에 그냥 돌아갔으므로 여기서 다시 예약)
+                            markDirty(from, to);
+                            coalesce.playFromStart();
+                            return;
+                        }
+                        codeArea.setStyleSpans(from, 0, spans);
+                        processNext();
+                    }));
+        }
     }
 
     private static StyleSpans<Collection<String>> computeHighlighting(String text) {
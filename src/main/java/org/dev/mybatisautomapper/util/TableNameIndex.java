@@ -0,0 +1,164 @@
+package org.dev.mybatisautomapper.util;
+
+import org.dev.mybatisautomapper.model.ColumnInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 테이블명/테이블 코멘트 자동완성용 검색 인덱스 (생성 후 변경 불가, 여러 스레드에서 동시 조회 가능)
+ * - 접두어 검색: 정렬된 테이블명 배열에서 이진 탐색
+ * - 부분 문자열 검색: 2글자(bigram) 역색인에서 가장 희소한 bigram의 후보만 확인
+ * 결과 순서는 기존과 동일하게 "테이블명 접두어 일치 -> 테이블명 포함 -> 코멘트 포함", 각 그룹 내 테이블명 오름차순
+ */
+public class TableNameIndex {
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final ColumnInfo[] tables;      // 테이블명 오름차순
+    private final String[] names;           // 대문자 테이블명 (tables와 같은 순서)
+    private final String[] comments;        // 대문자 코멘트 (없으면 빈 문자열)
+    private final Map<Integer, int[]> nameBigrams;
+    private final Map<Integer, int[]> commentBigrams;
+
+    public static final TableNameIndex EMPTY = new TableNameIndex(Collections.emptyList());
+
+    /**
+     * 인덱스를 생성합니다. 테이블 수에 비례하는 비용이 들므로 FX 스레드가 아닌 곳에서 호출해야 합니다.
+     * @param tableInfos 테이블 목록 (table_nm, table_comments 사용)
+     */
+    public TableNameIndex(Collection<ColumnInfo> tableInfos) {
+        List<ColumnInfo> sorted = new ArrayList<>();
+        for (ColumnInfo info : tableInfos) {
+            if (info.getTable_nm() != null) {
+                sorted.add(info);
+            }
+        }
+        sorted.sort(Comparator.comparing(info -> info.getTable_nm().toUpperCase()));
+
+        int size = sorted.size();
+        tables = sorted.toArray(new ColumnInfo[0]);
+        names = new String[size];
+        comments = new String[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = tables[i].getTable_nm().toUpperCase();
+            String comment = tables[i].getTable_comments();
+            comments[i] = comment == null ? "" : comment.toUpperCase();
+        }
+        nameBigrams = buildBigrams(names);
+        commentBigrams = buildBigrams(comments);
+    }
+
+    public int size() {
+        return tables.length;
+    }
+
+    /**
+     * 검색어와 일치하는 테이블을 순위대로 반환합니다.
+     * @param query 검색어 (2글자 이상, 대소문자 무시)
+     * @param limit 최대 결과 수
+     * @param cancelled 더 이상 필요 없는 검색인지 확인 (true이면 중단하고 빈 결과 반환)
+     * @return 일치하는 테이블 리스트
+     */
+    public List<ColumnInfo> search(String query, int limit, BooleanSupplier cancelled) {
+        if (query == null || query.length() < 2 || tables.length == 0) {
+            return Collections.emptyList();
+        }
+        String q = query.toUpperCase();
+        List<ColumnInfo> result = new ArrayList<>(Math.min(limit, 64));
+        boolean[] added = new boolean[tables.length];
+
+        // 1. 테이블명 접두어 일치 (정렬 배열의 연속 구간)
+        int from = lowerBound(q);
+        for (int i = from; i < names.length && names[i].startsWith(q) && result.size() < limit; i++) {
+            result.add(tables[i]);
+            added[i] = true;
+        }
+
+        // 2. 테이블명 포함
+        if (!collect(nameBigrams, names, q, limit, added, result, cancelled)) {
+            return Collections.emptyList();
+        }
+
+        // 3. 코멘트 포함
+        if (!collect(commentBigrams, comments, q, limit, added, result, cancelled)) {
+            return Collections.emptyList();
+        }
+        return result;
+    }
+
+    // 가장 희소한 bigram의 후보(id 오름차순 = 테이블명 오름차순)만 확인하여 결과에 추가, 취소되면 false
+    private boolean collect(Map<Integer, int[]> bigrams, String[] targets, String q, int limit,
+                            boolean[] added, List<ColumnInfo> result, BooleanSupplier cancelled) {
+        int[] candidates = null;
+        for (int i = 0; i + 1 < q.length(); i++) {
+            int[] postings = bigrams.getOrDefault(bigram(q.charAt(i), q.charAt(i + 1)), NO_POSTINGS);
+            if (candidates == null || postings.length < candidates.length) {
+                candidates = postings;
+            }
+        }
+        for (int k = 0; k < candidates.length && result.size() < limit; k++) {
+            if ((k & 1023) == 0 && cancelled.getAsBoolean()) {
+                return false;
+            }
+            int id = candidates[k];
+            if (!added[id] && targets[id].contains(q)) {
+                result.add(tables[id]);
+                added[id] = true;
+            }
+        }
+        return true;
+    }
+
+    // prefix 이상인 첫 번째 위치
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = names.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Map<Integer, int[]> buildBigrams(String[] targets) {
+        Map<Integer, int[]> postings = new HashMap<>();
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int id = 0; id < targets.length; id++) {
+            String s = targets[id];
+            for (int i = 0; i + 1 < s.length(); i++) {
+                int key = bigram(s.charAt(i), s.charAt(i + 1));
+                int[] list = postings.get(key);
+                int count = counts.getOrDefault(key, 0);
+                if (list == null) {
+                    list = new int[4];
+                    postings.put(key, list);
+                } else if (list[count - 1] == id) {
+                    continue; // 같은 테이블에서 반복된 bigram
+                } else if (count == list.length) {
+                    list = Arrays.copyOf(list, count * 2);
+                    postings.put(key, list);
+                }
+                list[count] = id;
+                counts.put(key, count + 1);
+            }
+        }
+        // 실제 크기로 잘라서 보관
+        postings.replaceAll((key, list) -> Arrays.copyOf(list, counts.get(key)));
+        return postings;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+}
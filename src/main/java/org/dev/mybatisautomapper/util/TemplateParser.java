@@ -0,0 +1,363 @@
+package org.dev.mybatisautomapper.util;
+
+import org.dev.mybatisautomapper.util.MapperTemplate.ColumnSet;
+import org.dev.mybatisautomapper.util.MapperTemplate.Condition;
+import org.dev.mybatisautomapper.util.MapperTemplate.Instruction;
+import org.dev.mybatisautomapper.util.MapperTemplate.Statement;
+import org.dev.mybatisautomapper.util.MapperTemplate.Var;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매퍼 템플릿 파일을 MapperTemplate(명령 배열)로 컴파일합니다.
+ *
+ * <pre>
+ * # 주석 (구문 블록 밖에서만)
+ * &#64;rule insert.exclude  INSERT_IP, INSERT_MCADDR_NM      (없음은 -)
+ * &#64;rule insert.value    *INSERT_DTS = FN_TODATE(#{P_CM_SYSDATE})
+ * &#64;rule update.exclude  INSERT_ID, INSERT_DTS, UPDATE_ID, UPDATE_DTS
+ * &#64;rule update.append   UPDATE_ID = #{P_UPDATE_ID}
+ *
+ * &#64;statement select
+ *     &lt;select id="select${model}" parameterType="${parameterType}" ${result}&gt;
+ *     ${#each columns}
+ *         ${#if first}SELECT ${/if}${#if !first}     , ${/if}${column:25}${#if comment} --${comment}${/if}
+ *     ${/each}
+ *           FROM ${table}
+ *     &lt;/select&gt;
+ * &#64;end
+ * </pre>
+ * - &#64;rule : 같은 항목을 한 번이라도 선언하면 그 항목의 기본 규칙을 대체 (선언하지 않은 항목은 기본 규칙)
+ * - &#64;statement select|insert|update|delete ~ &#64;end : 구문 본문 (마지막 줄바꿈 제외), 정의하지 않은 구문은 기본 생성기 사용
+ * - ${변수}, ${변수:너비} : table, model, parameterType, result / (#each 안) column, param, bind, jdbcType, comment, dataType, test, index
+ *   (jdbcType 옵션을 쓰는 템플릿은 #{${param}} 대신 #{${param}${jdbcType}})
+ * - ${#each 집합} ~ ${/each} : columns, pk, insert, update, updateAppend
+ * - ${#if 조건} ~ ${/if}, ${#if !조건} : first, last, comment, string, useIfWhere, useIfUpdate, model
+ * - ${list 집합 항목} : 기본 INSERT 절처럼 한 줄에 5개씩 나열 (항목: column, param, bind)
+ * - $${ : 문자 그대로의 ${
+ * 블록 태그(#each, /each, #if, /if)만 있는 줄은 줄 전체가 출력에서 빠집니다.
+ */
+final class TemplateParser {
+
+    private static final String[] RULE_KEYS = {"insert.exclude", "insert.value", "update.exclude", "update.append"};
+
+    private TemplateParser() {
+    }
+
+    static MapperTemplate parse(String source, String sourceName) {
+        String[] lines = source.split("\r?\n", -1);
+        EnumMap<Statement, Instruction[]> statements = new EnumMap<>(Statement.class);
+        Map<String, List<RuleLine>> rules = new LinkedHashMap<>();
+
+        Statement current = null;
+        int bodyStartLine = 0;
+        StringBuilder body = new StringBuilder();
+
+        for (int i = 0; i < lines.length; i++) {
+            int lineNo = i + 1;
+            String line = lines[i];
+            String trimmed = line.strip();
+
+            if (current != null) {
+                if (trimmed.equals("@end")) {
+                    statements.put(current, compileBody(body.toString(), bodyStartLine, sourceName));
+                    current = null;
+                } else {
+                    if (lineNo > bodyStartLine) {
+                        body.append('\n');
+                    }
+                    body.append(line);
+                }
+                continue;
+            }
+
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            if (trimmed.startsWith("@rule ")) {
+                String rest = trimmed.substring("@rule ".length()).strip();
+                int space = indexOfWhitespace(rest);
+                String key = space < 0 ? rest : rest.substring(0, space);
+                String spec = space < 0 ? "" : rest.substring(space).strip();
+                if (!List.of(RULE_KEYS).contains(key)) {
+                    throw error(sourceName, lineNo, "알 수 없는 규칙 '" + key + "' (사용 가능: " + String.join(", ", RULE_KEYS) + ")");
+                }
+                rules.computeIfAbsent(key, k -> new ArrayList<>()).add(new RuleLine(lineNo, spec));
+            } else if (trimmed.startsWith("@statement ")) {
+                String kind = trimmed.substring("@statement ".length()).strip();
+                try {
+                    current = Statement.valueOf(kind.toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    throw error(sourceName, lineNo, "알 수 없는 구문 '" + kind + "' (사용 가능: select, insert, update, delete)");
+                }
+                if (statements.containsKey(current)) {
+                    throw error(sourceName, lineNo, "구문 '" + kind + "'이(가) 이미 정의되었습니다.");
+                }
+                bodyStartLine = lineNo + 1;
+                body.setLength(0);
+            } else {
+                throw error(sourceName, lineNo, "'@rule', '@statement' 또는 주석(#)이 와야 합니다: " + trimmed);
+            }
+        }
+        if (current != null) {
+            throw error(sourceName, bodyStartLine - 1, "@statement에 대응하는 @end가 없습니다.");
+        }
+
+        return new MapperTemplate(sourceName, statements, buildRules(rules, sourceName));
+    }
+
+    // 선언된 항목만 기본 규칙을 대체
+    private static ColumnRules buildRules(Map<String, List<RuleLine>> declared, String sourceName) {
+        ColumnRules defaults = ColumnRules.DEFAULT;
+        List<String> insertExcludes = defaults.getInsertExcludes();
+        Map<String, String> insertValues = defaults.getInsertValues();
+        List<String> updateExcludes = defaults.getUpdateExcludes();
+        Map<String, String> updateAppends = defaults.getUpdateAppends();
+
+        if (declared.containsKey("insert.exclude")) {
+            insertExcludes = parseNameList(declared.get("insert.exclude"));
+        }
+        if (declared.containsKey("insert.value")) {
+            insertValues = parseAssignments(declared.get("insert.value"), sourceName, true);
+        }
+        if (declared.containsKey("update.exclude")) {
+            updateExcludes = parseNameList(declared.get("update.exclude"));
+        }
+        if (declared.containsKey("update.append")) {
+            updateAppends = parseAssignments(declared.get("update.append"), sourceName, false);
+        }
+        return new ColumnRules(insertExcludes, insertValues, updateExcludes, updateAppends);
+    }
+
+    // "A, B, *C" 형태 (여러 줄이면 합침, "-"는 없음)
+    private static List<String> parseNameList(List<RuleLine> ruleLines) {
+        List<String> names = new ArrayList<>();
+        for (RuleLine ruleLine : ruleLines) {
+            for (String name : ruleLine.spec.split(",")) {
+                String trimmed = name.strip();
+                if (!trimmed.isEmpty() && !trimmed.equals("-")) {
+                    names.add(trimmed.toUpperCase());
+                }
+            }
+        }
+        return names;
+    }
+
+    // "컬럼패턴 = 값" 형태
+    private static Map<String, String> parseAssignments(List<RuleLine> ruleLines, String sourceName, boolean allowWildcard) {
+        Map<String, String> assignments = new LinkedHashMap<>();
+        for (RuleLine ruleLine : ruleLines) {
+            int lineNo = ruleLine.line;
+            String spec = ruleLine.spec;
+            if (spec.equals("-")) {
+                continue;
+            }
+            int eq = spec.indexOf('=');
+            if (eq <= 0 || eq == spec.length() - 1) {
+                throw error(sourceName, lineNo, "'컬럼 = 값' 형태여야 합니다: " + spec);
+            }
+            String column = spec.substring(0, eq).strip().toUpperCase();
+            if (!allowWildcard && column.contains("*")) {
+                throw error(sourceName, lineNo, "update.append에는 와일드카드를 쓸 수 없습니다: " + column);
+            }
+            assignments.put(column, spec.substring(eq + 1).strip());
+        }
+        return assignments;
+    }
+
+    // @rule 한 줄 (오류 메시지용 줄 번호 포함)
+    private static final class RuleLine {
+        private final int line;
+        private final String spec;
+
+        private RuleLine(int line, String spec) {
+            this.line = line;
+            this.spec = spec;
+        }
+    }
+
+    // ===================== 구문 본문 컴파일 =====================
+
+    // 열린 블록 (#each 또는 #if)
+    private static final class Frame {
+        private final String tag;           // "each" 또는 "if"
+        private final int line;
+        private final int start;            // 블록 시작 명령의 위치
+
+        private Frame(String tag, int line, int start) {
+            this.tag = tag;
+            this.line = line;
+            this.start = start;
+        }
+    }
+
+    private static Instruction[] compileBody(String body, int firstLine, String sourceName) {
+        List<Instruction> code = new ArrayList<>();
+        Deque<Frame> stack = new ArrayDeque<>();
+        StringBuilder literal = new StringBuilder();
+        int eachDepth = 0;
+
+        int pos = 0;
+        while (pos < body.length()) {
+            int open = body.indexOf("${", pos);
+            if (open < 0) {
+                literal.append(body, pos, body.length());
+                break;
+            }
+            if (open > 0 && body.charAt(open - 1) == '$') {
+                // $${ -> 문자 그대로의 ${
+                literal.append(body, pos, open - 1).append("${");
+                pos = open + 2;
+                continue;
+            }
+            int lineNo = firstLine + countNewlines(body, open);
+            int close = body.indexOf('}', open + 2);
+            if (close < 0) {
+                throw error(sourceName, lineNo, "'${'가 닫히지 않았습니다.");
+            }
+            String tag = body.substring(open + 2, close).strip();
+            literal.append(body, pos, open);
+            int next = close + 1;
+
+            boolean block = tag.startsWith("#") || tag.startsWith("/");
+            if (block) {
+                int lineStart = body.lastIndexOf('\n', open - 1) + 1;
+                int lineEnd = body.indexOf('\n', close + 1);
+                if (lineEnd < 0) {
+                    lineEnd = body.length();
+                }
+                if (body.substring(lineStart, open).isBlank() && body.substring(close + 1, lineEnd).isBlank()) {
+                    // 블록 태그만 있는 줄은 들여쓰기와 줄바꿈까지 제거
+                    literal.setLength(literal.length() - (open - lineStart));
+                    next = Math.min(lineEnd + 1, body.length());
+                }
+            }
+            flushLiteral(literal, code);
+
+            if (tag.startsWith("#each")) {
+                String setName = tag.substring("#each".length()).strip();
+                stack.push(new Frame("each", lineNo, code.size()));
+                code.add(Instruction.each(parseSet(setName, sourceName, lineNo, true)));
+                eachDepth++;
+            } else if (tag.startsWith("#if")) {
+                String cond = tag.substring("#if".length()).strip();
+                boolean negate = cond.startsWith("!");
+                Condition condition = parseCondition(negate ? cond.substring(1).strip() : cond, sourceName, lineNo);
+                if (condition.columnScoped && eachDepth == 0) {
+                    throw error(sourceName, lineNo, "조건 '" + condition.key + "'은(는) ${#each} 안에서만 사용할 수 있습니다.");
+                }
+                stack.push(new Frame("if", lineNo, code.size()));
+                code.add(Instruction.ifBlock(condition, negate));
+            } else if (tag.equals("/each") || tag.equals("/if")) {
+                Frame frame = stack.peek();
+                if (frame == null || !frame.tag.equals(tag.substring(1))) {
+                    throw error(sourceName, lineNo, "'${" + tag + "}'에 대응하는 시작 태그가 없습니다.");
+                }
+                stack.pop();
+                if (frame.tag.equals("each")) {
+                    eachDepth--;
+                    code.add(Instruction.endEach(frame.start));
+                }
+                // 조건이 맞지 않거나 대상이 없으면 블록 다음으로 이동
+                code.get(frame.start).jump = code.size();
+            } else if (tag.startsWith("list ")) {
+                String[] parts = tag.substring("list ".length()).strip().split("\\s+");
+                if (parts.length != 2) {
+                    throw error(sourceName, lineNo, "'${list 집합 항목}' 형태여야 합니다: " + tag);
+                }
+                ColumnSet set = parseSet(parts[0], sourceName, lineNo, false);
+                Var item = parseVar(parts[1], sourceName, lineNo);
+                if (item != Var.COLUMN && item != Var.PARAM && item != Var.BIND) {
+                    throw error(sourceName, lineNo, "list 항목은 column, param, bind 중 하나여야 합니다: " + parts[1]);
+                }
+                code.add(Instruction.list(set, item));
+            } else {
+                int colon = tag.indexOf(':');
+                Var var = parseVar(colon < 0 ? tag : tag.substring(0, colon).strip(), sourceName, lineNo);
+                int width = 0;
+                if (colon >= 0) {
+                    try {
+                        width = Integer.parseInt(tag.substring(colon + 1).strip());
+                    } catch (NumberFormatException e) {
+                        throw error(sourceName, lineNo, "너비는 숫자여야 합니다: " + tag);
+                    }
+                }
+                if (var.columnScoped && eachDepth == 0) {
+                    throw error(sourceName, lineNo, "변수 '" + var.key + "'은(는) ${#each} 안에서만 사용할 수 있습니다.");
+                }
+                code.add(Instruction.var(var, width));
+            }
+            pos = next;
+        }
+
+        if (!stack.isEmpty()) {
+            Frame unclosed = stack.peek();
+            throw error(sourceName, unclosed.line, "'${#" + unclosed.tag + "}'가 닫히지 않았습니다.");
+        }
+        flushLiteral(literal, code);
+        return code.toArray(new Instruction[0]);
+    }
+
+    private static void flushLiteral(StringBuilder literal, List<Instruction> code) {
+        if (literal.length() > 0) {
+            code.add(Instruction.literal(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    private static ColumnSet parseSet(String name, String sourceName, int lineNo, boolean allowUpdateAppend) {
+        for (ColumnSet set : ColumnSet.values()) {
+            if (set.key.equals(name) && (allowUpdateAppend || set != ColumnSet.UPDATE_APPEND)) {
+                return set;
+            }
+        }
+        throw error(sourceName, lineNo, "알 수 없는 컬럼 집합 '" + name + "'");
+    }
+
+    private static Condition parseCondition(String name, String sourceName, int lineNo) {
+        for (Condition condition : Condition.values()) {
+            if (condition.key.equals(name)) {
+                return condition;
+            }
+        }
+        throw error(sourceName, lineNo, "알 수 없는 조건 '" + name + "'");
+    }
+
+    private static Var parseVar(String name, String sourceName, int lineNo) {
+        for (Var var : Var.values()) {
+            if (var.key.equals(name)) {
+                return var;
+            }
+        }
+        throw error(sourceName, lineNo, "알 수 없는 변수 '" + name + "'");
+    }
+
+    private static int countNewlines(String text, int end) {
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            if (text.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int indexOfWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static IllegalArgumentException error(String sourceName, int lineNo, String message) {
+        return new IllegalArgumentException("템플릿 오류 (" + sourceName + ":" + lineNo + "): " + message);
+    }
+}
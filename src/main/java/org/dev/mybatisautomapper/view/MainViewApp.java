@@ -14,6 +14,8 @@ import java.net.URL;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.dev.mybatisautomapper.util.MyBatisUtil;
+import org.dev.mybatisautomapper.util.StartupTimer;
 
 public class MainViewApp extends Application {
     private static final Logger logger = LogManager.getLogger(MainViewApp.class);
@@ -57,6 +59,7 @@ public class MainViewApp extends Application {
             primaryStage.setScene(scene);
 
             primaryStage.show();
+            StartupTimer.mark("화면 표시");
         } catch (Exception e) {
             // 예외 발생 시 이곳에서 처리합니다.
             logger.error("애플리케이션 시작 중 오류가 발생했습니다.", e);
@@ -87,5 +90,12 @@ public class MainViewApp extends Application {
             alert.showAndWait();
         }
     }
-    public static void main(String[] args) { launch(); }
+    public static void main(String[] args) {
+        StartupTimer.start();
+        // 팩토리 생성과 DB 검증(드라이버 로딩, 접속, 인증)을 JavaFX 초기화/FXML 로드와 동시에 진행
+        MyBatisUtil.buildFactoryAsync();
+        // config.json에 접속 정보가 이미 있으면 첫 조회가 새 연결을 만들지 않도록 풀도 미리 채움
+        MyBatisUtil.prewarmAsyncIfConfigured();
+        launch();
+    }
 }
\ No newline at end of file
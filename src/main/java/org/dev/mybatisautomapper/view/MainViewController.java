@@ -1,9 +1,12 @@
 package org.dev.mybatisautomapper.view;
 
 import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.BorderPane;
+import javafx.stage.DirectoryChooser;
+import javafx.stage.FileChooser;
 import javafx.util.Callback;
 import org.controlsfx.control.textfield.TextFields;
 import org.controlsfx.control.textfield.AutoCompletionBinding;
@@ -17,9 +20,9 @@ import org.dev.mybatisautomapper.util.SyntaxHighlighting;
 import org.dev.mybatisautomapper.viewmodel.MainViewModel;
 import org.fxmisc.richtext.CodeArea;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.stream.Collectors;
 
 
 public class MainViewController {
@@ -31,6 +34,16 @@ public class MainViewController {
     @FXML
     private Button fetchColumnsBtn;   // 컬럼 조회 버튼
     @FXML
+    private Button generateBatchBtn;  // 일괄 생성 버튼
+    @FXML
+    private Button saveBatchBtn;      // 일괄 생성 파일 저장 버튼
+    @FXML
+    private Button exportBtn;         // 테이블별 파일 내보내기 버튼
+    @FXML
+    private Button explainBtn;        // 실행 계획 확인 버튼
+    @FXML
+    private Button aiGenerateBtn;     // AI 생성 버튼
+    @FXML
     private Label statusLabel;
     @FXML
     private Button copyToClipboardBtn; // 복사 버튼 필드 추가
@@ -41,6 +54,24 @@ public class MainViewController {
     @FXML
     private CheckBox useIfInWhereChk;
     @FXML
+    private CheckMenuItem useJdbcTypeItem;    // 생성 구문: 바인드 변수 jdbcType
+    @FXML
+    private CheckMenuItem useResultMapItem;   // 생성 구문: resultMap
+    @FXML
+    private CheckMenuItem useSelectByIndexItem; // 생성 구문: 인덱스별 조회
+    @FXML
+    private CheckMenuItem useSelectStreamItem; // 생성 구문: 스트리밍 조회
+    @FXML
+    private CheckMenuItem useSelectPageItem;  // 생성 구문: 페이지 조회
+    @FXML
+    private CheckMenuItem useInsertBatchItem; // 생성 구문: 다건 INSERT
+    @FXML
+    private CheckMenuItem useMergeItem;       // 생성 구문: MERGE
+    @FXML
+    private CheckMenuItem useByPkListItem;    // 생성 구문: PK 목록 다건 조회/수정/삭제
+    @FXML
+    private TextField mapperPackageInput;     // 내보낸 매퍼 파일의 namespace 패키지
+    @FXML
     private ToggleGroup paramTypeGroup;
     @FXML
     private RadioButton paramModelRadio;
@@ -50,6 +81,8 @@ public class MainViewController {
     private BorderPane rootPane;
     @FXML
     private ToggleButton themeToggleBtn;
+    @FXML
+    private ToggleButton watchToggleBtn;   // 스키마 변경 감시 토글
 
     private MainViewModel vm;
 
@@ -63,7 +96,7 @@ public class MainViewController {
 
         // 2) 서비스 초기화
         //    - DatabaseService는 MyBatisUtil 내부에서 config.json을 참조하도록 구현되어 있어요.
-        TableInfoService dbService = new TableInfoService();
+        TableInfoService dbService = new TableInfoService(cfg.getCache());
         //    - AIService는 factory를 통해 provider(defaultProvider)에 맞춰 생성
         AiService aiService = AiServiceFactory.create(cfg.getAi());
 
@@ -100,21 +133,9 @@ public class MainViewController {
                 return Collections.emptyList();
             }
 
-            // 테이블 목록(vm.cachedTableNames)에서
-            // 가중치 기반 정렬
-            return vm.cachedTableNames.stream()
-                .filter(tableInfo ->
-                    tableInfo.getTable_nm().contains(userInput)
-                )
-                .sorted((a, b) -> {
-                    boolean aStarts = a.getTable_nm().startsWith(userInput);
-                    boolean bStarts = b.getTable_nm().startsWith(userInput);
-                    if (aStarts && !bStarts) return -1;
-                    if (!aStarts && bStarts) return 1;
-                    return a.getTable_nm().compareTo(b.getTable_nm());
-                })
-                .limit(200)
-                .collect(Collectors.toList());
+            // 미리 만들어 둔 인덱스에서 검색 (접두어 일치 우선, 이후 포함/코멘트 순)
+            // 입력이 바뀌어 취소된 요청은 검색 도중 중단
+            return vm.searchTables(userInput, request::isCancelled);
         };
 
         // 2. 자동완성 바인딩 (ColumnInfo의 toString()이 사용됨)
@@ -142,6 +163,8 @@ public class MainViewController {
 
         //팝업 크기 설정
         binding.setPrefWidth(400);
+        // 연속 입력 시 마지막 입력 후 150ms가 지나야 검색 (debounce)
+        binding.setDelay(150);
 
         // UI 의 소문자도 대문자로 리턴
         tableInput.textProperty().addListener((obs, oldVal, newVal) -> {
@@ -160,20 +183,34 @@ public class MainViewController {
             }
         });
 
-        // 앱 시작 시 자동으로 테이블 목록을 로드하도록 VM에 요청합니다.
-         vm.onTestConnection();
+        // 앱 시작 시 디스크 스냅샷으로 자동완성 목록을 먼저 채우고, DB 연결 후 증분 갱신합니다.
+        vm.loadSchemaSnapshot();
+        vm.onTestConnection();
 
         //테이블명 세팅 끝
 
 
         statusLabel.textProperty().bind(vm.status);
         vm.logOutput.addListener((obs, oldText, newText) -> {
-            logOutputArea.replaceText(newText);
+            if (!vm.isAppendingLog()) {
+                logOutputArea.replaceText(newText);
+            }
         });
+        // AI 응답처럼 이어 붙는 출력은 붙은 부분만 추가 (바뀐 문단만 다시 하이라이팅됨)
+        vm.setOnLogAppended(logOutputArea::appendText);
         setupSyntaxHighlighting(); //SyntaxHighlighting
 
         useIfInUpdateChk.selectedProperty().bindBidirectional(vm.useIfUpdate);
         useIfInWhereChk.selectedProperty().bindBidirectional(vm.useIfWhere);
+        useJdbcTypeItem.selectedProperty().bindBidirectional(vm.useJdbcType);
+        useResultMapItem.selectedProperty().bindBidirectional(vm.useResultMap);
+        useSelectByIndexItem.selectedProperty().bindBidirectional(vm.useSelectByIndex);
+        useSelectStreamItem.selectedProperty().bindBidirectional(vm.useSelectStream);
+        useSelectPageItem.selectedProperty().bindBidirectional(vm.useSelectPage);
+        useInsertBatchItem.selectedProperty().bindBidirectional(vm.useInsertBatch);
+        useMergeItem.selectedProperty().bindBidirectional(vm.useMerge);
+        useByPkListItem.selectedProperty().bindBidirectional(vm.useByPkList);
+        mapperPackageInput.textProperty().bindBidirectional(vm.mapperPackage);
 
         // ToggleGroup의 선택된 토글이 변경될 때마다 ViewModel의 isParameterTypeModel 속성을 업데이트합니다.
         paramTypeGroup.selectedToggleProperty().addListener((obs, oldToggle, newToggle) -> {
@@ -199,6 +236,15 @@ public class MainViewController {
         // copyToClipboardBtn은 초기 상태에서 비활성화할 필요 없이 항상 활성화
         // 또는 logOutputArea에 내용이 있을 때만 활성화하도록 설정 가능
         copyToClipboardBtn.disableProperty().bind(vm.logOutput.isEmpty());
+        explainBtn.disableProperty().bind(vm.logOutput.isEmpty());
+        aiGenerateBtn.disableProperty().bind(vm.tableName.isEmpty());
+        // 일괄 생성은 테이블 목록이 로드된 후에만 가능
+        generateBatchBtn.disableProperty().bind(Bindings.isEmpty(vm.cachedTableNames));
+        saveBatchBtn.disableProperty().bind(Bindings.isEmpty(vm.cachedTableNames));
+        exportBtn.disableProperty().bind(Bindings.isEmpty(vm.cachedTableNames));
+        // 스키마 변경 감시는 DB 연결 후에만 켤 수 있음 (켜진 상태에서는 끌 수 있도록 유지)
+        watchToggleBtn.selectedProperty().bindBidirectional(vm.watchEnabled);
+        watchToggleBtn.disableProperty().bind(Bindings.isEmpty(vm.cachedTableNames).and(vm.watchEnabled.not()));
     }
 
     /**
@@ -217,6 +263,58 @@ public class MainViewController {
         vm.onFetchColumns();
     }
 
+    /**
+     * 일괄 생성 버튼 클릭 시 호출될 메서드 (입력값을 테이블명 패턴으로 사용)
+     */
+    @FXML
+    public void onGenerateBatch() {
+        vm.onGenerateBatch();
+    }
+
+    /**
+     * 일괄 생성 파일 저장 버튼 클릭 시 호출될 메서드 (저장 위치 선택 후 파일로 바로 저장)
+     */
+    @FXML
+    public void onSaveBatch() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("일괄 생성 결과 저장");
+        chooser.setInitialFileName("mapper-batch.xml");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("XML", "*.xml"));
+        File file = chooser.showSaveDialog(rootPane.getScene().getWindow());
+        if (file != null) {
+            vm.onGenerateBatchToFile(file);
+        }
+    }
+
+    /**
+     * 내보내기 버튼 클릭 시 호출될 메서드 (대상 폴더 선택 후 테이블별 파일로 저장, 바뀐 파일만 씀)
+     */
+    @FXML
+    public void onExport() {
+        DirectoryChooser chooser = new DirectoryChooser();
+        chooser.setTitle("매퍼 내보낼 폴더 선택");
+        File directory = chooser.showDialog(rootPane.getScene().getWindow());
+        if (directory != null) {
+            vm.onExportToDirectory(directory);
+        }
+    }
+
+    /**
+     * 실행 계획 버튼 클릭 시 호출될 메서드 (마지막으로 생성한 매퍼의 구문마다 실행 계획 주석 추가)
+     */
+    @FXML
+    public void onExplain() {
+        vm.onAnalyzePlans();
+    }
+
+    /**
+     * AI 생성 버튼 클릭 시 호출될 메서드 (응답을 받는 대로 출력 영역에 표시)
+     */
+    @FXML
+    public void onGenerateWithAi() {
+        vm.onGenerateWithAi();
+    }
+
     @FXML
     private void onCopyToClipboard() {
         vm.OnCopyToClipboard();
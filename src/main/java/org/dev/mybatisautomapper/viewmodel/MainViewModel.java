@@ -5,33 +5,102 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.beans.value.ChangeListener;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
+import org.dev.mybatisautomapper.dao.ColumnDao;
 import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.IndexInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
 import org.dev.mybatisautomapper.service.AiService;
+import org.dev.mybatisautomapper.service.BatchMapperService;
+import org.dev.mybatisautomapper.service.MapperExportService;
+import org.dev.mybatisautomapper.service.OraclePlanProvider;
+import org.dev.mybatisautomapper.service.PlanAnalysisService;
+import org.dev.mybatisautomapper.service.SchemaSnapshotService;
+import org.dev.mybatisautomapper.service.SchemaWatchService;
 import org.dev.mybatisautomapper.service.TableInfoService;
 import org.dev.mybatisautomapper.util.Config;
 import org.dev.mybatisautomapper.util.ConfigLoader;
+import org.dev.mybatisautomapper.util.MapperTemplate;
+import org.dev.mybatisautomapper.util.MyBatisUtil;
 import org.dev.mybatisautomapper.util.MybatisMapperGenerator;
+import org.dev.mybatisautomapper.util.QueryCanceller;
+import org.dev.mybatisautomapper.util.StartupTimer;
+import org.dev.mybatisautomapper.util.TableNameIndex;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 public class MainViewModel {
+    // 짧은 화면 작업(연결 테스트, 매퍼 생성, 스냅샷 로드, 자동완성 인덱스 생성)을 실행하는 스레드 풀 (스레드 수 제한, 앱 종료를 막지 않도록 데몬 스레드)
+    private static final int TASK_THREADS = 4;
+    private static final AtomicInteger TASK_THREAD_SEQ = new AtomicInteger();
+    private static final ExecutorService TASK_EXECUTOR = Executors.newFixedThreadPool(TASK_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "view-model-task-" + TASK_THREAD_SEQ.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 오래 걸리는 작업(일괄 생성, 파일 저장, 내보내기, 실행 계획, AI 생성)용 스레드 풀
+    // 이 작업들이 몰려도 매퍼 생성 같은 대화형 작업이 뒤에서 기다리지 않도록 TASK_EXECUTOR와 분리
+    private static final int LONG_TASK_THREADS = 2;
+    private static final AtomicInteger LONG_TASK_THREAD_SEQ = new AtomicInteger();
+    private static final ExecutorService LONG_TASK_EXECUTOR = Executors.newFixedThreadPool(LONG_TASK_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "view-model-long-task-" + LONG_TASK_THREAD_SEQ.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
     public StringProperty tableName = new SimpleStringProperty();
     public StringProperty status = new SimpleStringProperty("Ready");
     public StringProperty logOutput = new SimpleStringProperty("");
+    private Consumer<String> onLogAppended;   // logOutput 끝에 이어 붙인 내용을 받을 화면 쪽 콜백 (FX 스레드)
+    private boolean appendingLog;             // appendLog로 logOutput을 바꾸는 중 (전체 교체가 아님)
     public BooleanProperty useIfUpdate = new SimpleBooleanProperty(true); // 기본값 true
     public BooleanProperty useIfWhere = new SimpleBooleanProperty(false); // 기본값 false
     // true이면 Model, false이면 HashMap
     public BooleanProperty isParameterTypeModel = new SimpleBooleanProperty(true); // 기본값 true
+    public BooleanProperty useJdbcType = new SimpleBooleanProperty(true);  // 바인드 변수에 jdbcType 명시 (기본값 true)
+    public BooleanProperty useResultMap = new SimpleBooleanProperty(true); // SELECT 결과를 <resultMap>으로 매핑 (기본값 true)
+    public BooleanProperty useSelectByIndex = new SimpleBooleanProperty(false); // 인덱스별 조회 구문 추가
+    public BooleanProperty useSelectStream = new SimpleBooleanProperty(false); // 스트리밍 전체 조회 구문 추가
+    public BooleanProperty useSelectPage = new SimpleBooleanProperty(false);  // keyset 페이지 조회 구문 추가
+    public BooleanProperty useInsertBatch = new SimpleBooleanProperty(false); // 다건 INSERT 구문 추가
+    public BooleanProperty useMerge = new SimpleBooleanProperty(false);       // MERGE(등록 또는 수정) 구문 추가
+    public BooleanProperty useByPkList = new SimpleBooleanProperty(false);    // PK 목록 다건 조회/수정/삭제 구문 추가
     private final BooleanProperty darkThemeEnabled = new SimpleBooleanProperty(false); // 기본값은 false (라이트 모드)
+    public BooleanProperty watchEnabled = new SimpleBooleanProperty(false); // 스키마 변경 감시 여부
+    public StringProperty mapperPackage = new SimpleStringProperty("");    // 내보낸 매퍼 파일 namespace의 패키지 (<패키지>.<모델명>Mapper)
 
     private TableInfoService tableInfoService = new TableInfoService();
+    private BatchMapperService batchMapperService;
+    private MapperExportService mapperExportService;
+    private SchemaSnapshotService schemaSnapshotService;
+    private SchemaWatchService schemaWatchService;
+    private volatile TableNameIndex tableNameIndex = TableNameIndex.EMPTY; // 자동완성 검색 인덱스 (cachedTableNames 변경 시 백그라운드에서 재생성)
+    private final AtomicLong tableNameIndexVersion = new AtomicLong();
+    private String lastGeneratedTable; // 마지막으로 매퍼를 생성한 테이블 (옵션 변경 시 재생성 대상)
+    private Task<String> fetchTask;            // 진행 중인 매퍼 생성 작업 (새 요청이 오면 취소, FX 스레드에서만 접근)
+    private QueryCanceller fetchCanceller;     // fetchTask의 DB 조회 취소용
+    private Task<String> aiTask;               // 진행 중인 AI 생성 작업 (새 AI 요청이나 매퍼 생성이 시작되면 취소, FX 스레드에서만 접근)
     public final ObservableList<ColumnInfo> cachedTableNames = FXCollections.observableArrayList();   //자동완성을 위한 테이블명 캐시 리스트
     private AiService aiService;
     private Config config;
@@ -60,7 +129,12 @@ public class MainViewModel {
     //생성자
     public MainViewModel(TableInfoService tableInfoService, AiService aiService) {
         this.tableInfoService = tableInfoService;
+        this.batchMapperService = new BatchMapperService(tableInfoService);
+        this.mapperExportService = new MapperExportService(batchMapperService);
         this.aiService = aiService;
+
+        // 테이블 목록이 바뀔 때마다 자동완성 인덱스를 FX 스레드 밖에서 다시 만듭니다.
+        cachedTableNames.addListener((ListChangeListener<ColumnInfo>) change -> rebuildTableNameIndex());
     }
 
     public void init(Config config, String configPath) {
@@ -82,6 +156,66 @@ public class MainViewModel {
             config.getUi().theme = newVal ? "dark" : "light";
             ConfigLoader.save(configPath);
         });
+
+        // 3. 옵션(체크박스/파라미터 타입)이 바뀌면 방금 생성한 테이블을 다시 생성 (컬럼 정보는 캐시에서 가져옴)
+        ChangeListener<Boolean> regenerateOnOptionChange = (obs, oldVal, newVal) -> {
+            if (lastGeneratedTable != null && lastGeneratedTable.equals(tableName.get())) {
+                onFetchColumns();
+            }
+        };
+        useIfUpdate.addListener(regenerateOnOptionChange);
+        useIfWhere.addListener(regenerateOnOptionChange);
+        isParameterTypeModel.addListener(regenerateOnOptionChange);
+        useJdbcType.addListener(regenerateOnOptionChange);
+        useResultMap.addListener(regenerateOnOptionChange);
+        useSelectByIndex.addListener(regenerateOnOptionChange);
+        useSelectStream.addListener(regenerateOnOptionChange);
+        useSelectPage.addListener(regenerateOnOptionChange);
+        useInsertBatch.addListener(regenerateOnOptionChange);
+        useMerge.addListener(regenerateOnOptionChange);
+        useByPkList.addListener(regenerateOnOptionChange);
+
+        // 4. 내보내기 namespace 패키지 (config.json의 generator.mapperPackage, 내보낼 때 바뀌었으면 저장)
+        if (config.getGenerator() != null && config.getGenerator().mapperPackage != null) {
+            mapperPackage.set(config.getGenerator().mapperPackage);
+        }
+
+        // 5. 스키마 스냅샷 (DB 연결 전에도 자동완성을 쓸 수 있도록 디스크에서 먼저 로드)
+        schemaSnapshotService = new SchemaSnapshotService(SchemaSnapshotService.DEFAULT_PATH, config.getDb().url, config.getDb().user);
+
+        // 6. 스키마 변경 감시 (켜져 있는 동안 주기적으로 DDL 변경을 확인하고, 바뀐 테이블의 매퍼를 다시 생성)
+        schemaWatchService = new SchemaWatchService(tableInfoService, schemaSnapshotService, this::currentOptions);
+        watchEnabled.addListener((obs, oldVal, newVal) -> {
+            if (newVal) {
+                startSchemaWatch();
+            } else {
+                schemaWatchService.stop();
+                status.unbind();
+                status.set("스키마 변경 감시 중지됨.");
+            }
+        });
+    }
+
+    /**
+     * 디스크의 스키마 스냅샷을 백그라운드에서 로드하여 자동완성 목록을 먼저 채웁니다.
+     * (DB 연결 테스트 결과가 먼저 도착했다면 덮어쓰지 않음)
+     */
+    public void loadSchemaSnapshot() {
+        Task<List<ColumnInfo>> task = new Task<>() {
+            @Override
+            protected List<ColumnInfo> call() {
+                schemaSnapshotService.load();
+                return schemaSnapshotService.getTables();
+            }
+
+            @Override
+            protected void succeeded() {
+                if (cachedTableNames.isEmpty() && !schemaSnapshotService.isSynced()) {
+                    cachedTableNames.setAll(getValue());
+                }
+            }
+        };
+        TASK_EXECUTOR.execute(task);
     }
 
     /**
@@ -92,12 +226,24 @@ public class MainViewModel {
             @Override
             protected ConnectionResult call() throws Exception {
                 updateMessage("DB 연결 테스트 중...");
-                // 1. 연결 테스트 및 정보 가져오기
-                String info = tableInfoService.checkDbConnection();
+                // 1. 연결 테스트, 연결 정보, 테이블 목록(DDL 변경 시각 포함)을 한 세션에서 한 번에 가져오기
+                //    (팩토리는 앱 시작 시 백그라운드에서 이미 생성 중이므로 그 결과를 기다려 사용)
+                ColumnDao.ConnectionCheck check = tableInfoService.connect();
+                String info = check.getConnectionInfo();
+                // 시작 시 예열이 실패했거나 생략된 경우에만 풀을 채움 (이미 예열되었으면 아무것도 하지 않음)
+                MyBatisUtil.prewarmAsync();
+
+                updateMessage("스키마 스냅샷 갱신 중...");
+                // 2. 스키마 스냅샷 증분 갱신 (DDL이 바뀐 테이블만 다시 조회) 후 테이블 목록 가져오기
+                SchemaSnapshotService.RefreshResult refresh = schemaSnapshotService.refresh(tableInfoService, check.getTables());
+                if (refresh.getChangedTables() > 0 || refresh.getRemovedTables() > 0) {
+                    tableInfoService.invalidateAllColumns(); // DDL이 바뀌었으면 메모리 캐시도 비움
+                }
+                List<ColumnInfo> tables = schemaSnapshotService.getTables();
 
-                updateMessage("테이블 목록 조회 중...");
-                // 2. 테이블 목록 전체 조회
-                List<ColumnInfo> tables = tableInfoService.getAllTableNames();
+                info += String.format("\n\n스키마 스냅샷 : 전체 %d개, 변경 %d개, 삭제 %d개 (%dms)",
+                        refresh.getTotalTables(), refresh.getChangedTables(), refresh.getRemovedTables(), refresh.getElapsedMillis());
+                info += "\n연결 풀 : " + MyBatisUtil.getPoolStats();
 
                 // 3. 두 가지 결과를 함께 반환
                 return new ConnectionResult(info, tables);
@@ -112,6 +258,7 @@ public class MainViewModel {
 
                 // VM의 캐시 리스트에 테이블 목록을 저장
                 cachedTableNames.setAll(result.getTableNames());
+                StartupTimer.mark("DB 연결 및 테이블 목록 준비");
             }
 
             @Override
@@ -130,8 +277,8 @@ public class MainViewModel {
                 updateMessage("DB 연결 실패!");
                 logOutput.set("DB 연결 테스트 중 예외 발생:\n" + errorMessage);
 
-                // 실패 시 캐시 비우기
-                cachedTableNames.clear();
+                // 실패 시 디스크 스냅샷의 테이블 목록으로 대체 (스냅샷도 없으면 비워짐)
+                cachedTableNames.setAll(schemaSnapshotService.getTables());
             }
 
             @Override
@@ -143,7 +290,7 @@ public class MainViewModel {
 
         status.bind(task.messageProperty()); // Task의 메시지 속성과 바인딩
         logOutput.set("");
-        new Thread(task).start();
+        TASK_EXECUTOR.execute(task);
     }
 
     /**
@@ -151,51 +298,66 @@ public class MainViewModel {
      */
     public void onFetchColumns() {
         String currentTableName = tableName.get();
-        boolean currentUseIfUpdate = useIfUpdate.get();
-        boolean currentUseIfWhere = useIfWhere.get();
-        boolean currentIsParameterTypeModel = isParameterTypeModel.get();
+        MapperOptions options = newOptions();
         if (currentTableName == null || currentTableName.trim().isEmpty()) {
             status.set("테이블 이름을 입력해주세요.");
             logOutput.set("테이블 이름을 입력해야 컬럼을 조회하고 매퍼를 생성할 수 있습니다.");
             return;
         }
 
+        QueryCanceller canceller = new QueryCanceller();
         Task<String> task = new Task<>() {
             @Override
             protected String call() throws Exception {
                 // --- 1. 백그라운드 작업만 수행 ---
                 updateMessage("테이블 메타데이터 조회 중...");
 
-                // TableInfoService를 통해 컬럼 정보 조회
-                List<ColumnInfo> cols = tableInfoService.fetchColumns(currentTableName);
+                // DB와 동기화된 스냅샷에 있으면 그대로 사용, 없으면 TableInfoService를 통해 컬럼 정보 조회
+                // (새 요청으로 취소되면 진행 중인 딕셔너리 조회도 Statement.cancel()로 중단)
+                List<ColumnInfo> cols = schemaSnapshotService.getColumns(currentTableName);
+                if (cols == null) {
+                    try (QueryCanceller.Scope ignored = canceller.bind()) {
+                        cols = tableInfoService.fetchColumns(currentTableName);
+                    }
+                }
+                if (isCancelled()) {
+                    return null;
+                }
+
+                // 인덱스별 조회 구문을 만들 때만 인덱스 정보 조회
+                List<IndexInfo> indexes = Collections.emptyList();
+                if (options.isUseSelectByIndex()) {
+                    try (QueryCanceller.Scope ignored = canceller.bind()) {
+                        indexes = tableInfoService.fetchIndexes(currentTableName);
+                    }
+                }
+                if (isCancelled()) {
+                    return null;
+                }
 
                 if (cols.isEmpty()) {//비어있으면 테이블 명이 잘못된 경우로 볼 수 있음.
                     throw new IllegalStateException("테이블 '" + currentTableName + "'에 대한 컬럼 정보를 찾을 수 없습니다.");
                 }
                 updateMessage("매퍼 생성 완료.");
 
-                String generatedMapper = "";
-                String modelName = convertToModelName(currentTableName); // 테이블명 기반 모델명 유추
-                String selectStmt = MybatisMapperGenerator.generateSelectStatement(currentTableName, cols, currentUseIfWhere, currentIsParameterTypeModel);
-                String insertStmt = MybatisMapperGenerator.generateInsertStatement(currentTableName, cols, currentIsParameterTypeModel);
-                String updateStmt = MybatisMapperGenerator.generateUpdateStatement(currentTableName, cols, currentUseIfUpdate, currentUseIfWhere, currentIsParameterTypeModel);
-                String deleteStmt = MybatisMapperGenerator.generateDeleteStatement(currentTableName, cols, currentUseIfWhere, currentIsParameterTypeModel);
+                options.setTemplate(loadTemplate());
 
                 // 생성된 구문을 하나의 문자열로 합쳐서 logOutput에 담습니다.
                 // ListView에는 적합하지 않으므로, TextArea에 보여주는 것이 좋습니다.
-                generatedMapper = "\n" + selectStmt + "\n" +
-                        "\n" + insertStmt + "\n" +
-                        "\n" + updateStmt + "\n" +
-                        "\n" + deleteStmt + "\n" + "\n";
+                String generatedMapper = MybatisMapperGenerator.generateMapper(currentTableName, cols, indexes, options);
 
                 return generatedMapper;    // Task 결과로 컬럼 리스트 반환 (선택 사항)
             }
 
             @Override
             protected void succeeded() {
+                if (fetchTask != this) {
+                    return; // 새 요청으로 대체된 작업의 결과는 표시하지 않음
+                }
                 String mapperStr = getValue(); // Task의 결과값 (List<ColumnInfo>)
                 if (mapperStr != null) {
                     //화면에 표시
+                    lastGeneratedTable = currentTableName;
                     updateMessage("mapper 생성 완료!");
                     logOutput.set(mapperStr);
                 } else {
@@ -206,6 +368,9 @@ public class MainViewModel {
 
             @Override
             protected void failed() {
+                if (fetchTask != this) {
+                    return; // 새 요청으로 대체된 작업의 오류는 표시하지 않음
+                }
                 Throwable e = getException();
                 StringWriter sw = new StringWriter();
                 e.printStackTrace(new PrintWriter(sw));
@@ -217,14 +382,494 @@ public class MainViewModel {
 
             @Override
             protected void cancelled() {
+                if (fetchTask != this) {
+                    return; // 새 요청으로 대체된 작업은 화면을 건드리지 않음
+                }
                 updateMessage("쿼리 실행 취소됨.");
                 logOutput.set("쿼리 실행이 취소되었습니다.");
             }
         };
 
+        // 이전 요청은 상태와 관계없이 취소, 진행 중인 AI 생성도 취소 (이어 붙이던 응답이 새 매퍼 뒤에 붙지 않도록)
+        cancelFetch();
+        cancelAiGeneration();
+        fetchTask = task;
+        fetchCanceller = canceller;
+
+        status.bind(task.messageProperty());
+        logOutput.set("");
+        TASK_EXECUTOR.execute(task);
+    }
+
+    /**
+     * 실행 계획 버튼 이벤트 핸들러
+     * - 마지막으로 생성한 매퍼의 구문마다 EXPLAIN PLAN을 실행하여, 구문 앞에 비용/예상 행 수/접근 경로와 경고를 주석으로 닮
+     */
+    public void onAnalyzePlans() {
+        String currentTableName = lastGeneratedTable;
+        String mapperXml = logOutput.get();
+        if (currentTableName == null || mapperXml == null || mapperXml.isBlank()) {
+            status.unbind();
+            status.set("먼저 매퍼를 생성해주세요.");
+            return;
+        }
+
+        Task<List<PlanAnalysisService.StatementPlan>> task = new Task<>() {
+            @Override
+            protected List<PlanAnalysisService.StatementPlan> call() throws Exception {
+                updateMessage("실행 계획 확인 중...");
+                List<ColumnInfo> cols = schemaSnapshotService.getColumns(currentTableName);
+                if (cols == null) {
+                    cols = tableInfoService.fetchColumns(currentTableName);
+                }
+                return newPlanAnalysisService().analyze(mapperXml, cols);
+            }
+
+            @Override
+            protected void succeeded() {
+                List<PlanAnalysisService.StatementPlan> plans = getValue();
+                int warnings = 0;
+                int errors = 0;
+                for (PlanAnalysisService.StatementPlan plan : plans) {
+                    warnings += plan.getWarnings().size();
+                    errors += plan.getError() == null ? 0 : 1;
+                }
+                updateMessage(String.format("실행 계획 확인 완료: %d개 구문, 경고 %d건, 오류 %d건", plans.size(), warnings, errors));
+                // 그 사이 다른 테이블로 다시 생성했으면 결과를 버림
+                if (currentTableName.equals(lastGeneratedTable) && mapperXml.equals(logOutput.get())) {
+                    logOutput.set(PlanAnalysisService.annotate(mapperXml, plans));
+                }
+            }
+
+            @Override
+            protected void failed() {
+                Throwable e = getException();
+                StringWriter sw = new StringWriter();
+                e.printStackTrace(new PrintWriter(sw));
+
+                updateMessage("실행 계획 확인 실패..");
+                logOutput.set("실행 계획 확인 중 예외 발생:\n" + sw);
+            }
+
+            @Override
+            protected void cancelled() {
+                updateMessage("실행 계획 확인 취소됨.");
+            }
+        };
+
+        status.bind(task.messageProperty());
+        LONG_TASK_EXECUTOR.execute(task);
+    }
+
+    /**
+     * AI 생성 버튼 이벤트 핸들러
+     * - 테이블 컬럼 정보로 프롬프트를 만들어 AI에 요청하고, 응답을 받는 대로 logOutput에 이어 붙임
+     * - 토큰마다 화면을 갱신하지 않고, FX 스레드가 처리하기 전까지 받은 토큰을 모아 한 번에 붙임
+     * - 받은 응답은 작업의 StringBuilder에 모으고, logOutput에는 수신이 끝났을 때 한 번만 반영 (붙일 때마다 전체를 복사하지 않음)
+     * - 새 AI 요청이나 매퍼 생성이 시작되면 취소되고, 늦게 도착한 토큰/결과는 화면에 반영하지 않음
+     */
+    public void onGenerateWithAi() {
+        String currentTableName = tableName.get();
+        if (aiService == null) {
+            status.unbind();
+            status.set("AI 설정이 없습니다. config.json의 ai 항목을 확인해주세요.");
+            return;
+        }
+        if (currentTableName == null || currentTableName.trim().isEmpty()) {
+            status.unbind();
+            status.set("테이블 이름을 입력해주세요.");
+            return;
+        }
+
+        StringBuilder pendingTokens = new StringBuilder();      // 아직 화면에 붙이지 않은 토큰
+        AtomicBoolean flushScheduled = new AtomicBoolean();
+        Task<String> task = new Task<>() {
+            private final StringBuilder streamed = new StringBuilder();    // 화면에 붙인 응답 전체 (FX 스레드에서만 접근)
+
+            @Override
+            protected String call() throws Exception {
+                updateMessage("AI 요청 준비 중...");
+                List<ColumnInfo> cols = schemaSnapshotService.getColumns(currentTableName);
+                if (cols == null) {
+                    cols = tableInfoService.fetchColumns(currentTableName);
+                }
+                if (cols.isEmpty()) {
+                    throw new IllegalStateException("테이블 '" + currentTableName + "'에 대한 컬럼 정보를 찾을 수 없습니다.");
+                }
+
+                updateMessage("AI 응답 수신 중...");
+                return aiService.generate(buildPrompt(currentTableName, cols), token -> {
+                    if (isCancelled()) {
+                        throw new CancellationException(); // 응답을 닫아 수신 중단
+                    }
+                    synchronized (pendingTokens) {
+                        pendingTokens.append(token);
+                    }
+                    if (flushScheduled.compareAndSet(false, true)) {
+                        Platform.runLater(this::flushTokens);
+                    }
+                });
+            }
+
+            private void flushTokens() {
+                flushScheduled.set(false);
+                String tokens;
+                synchronized (pendingTokens) {
+                    tokens = pendingTokens.toString();
+                    pendingTokens.setLength(0);
+                }
+                if (aiTask != this || isCancelled()) {
+                    return;
+                }
+                streamed.append(tokens);
+                appendLog(tokens);
+            }
+
+            @Override
+            protected void succeeded() {
+                if (aiTask != this) {
+                    return;
+                }
+                aiTask = null;
+                updateMessage("AI 생성 완료!");
+                // 화면에 이미 이어 붙인 내용과 같으면 logOutput만 맞추고, 다르면(정리된 응답 등) 전체 교체
+                String result = getValue();
+                if (result.contentEquals(streamed)) {
+                    syncAppendedLog(result);
+                } else {
+                    logOutput.set(result);
+                }
+            }
+
+            @Override
+            protected void failed() {
+                if (aiTask != this) {
+                    return;
+                }
+                aiTask = null;
+                Throwable e = getException();
+                StringWriter sw = new StringWriter();
+                e.printStackTrace(new PrintWriter(sw));
+
+                updateMessage("AI 생성 실패..");
+                logOutput.set("AI 생성 중 예외 발생:\n" + sw);
+            }
+
+            @Override
+            protected void cancelled() {
+                if (aiTask != this) {
+                    return; // 새 요청으로 취소된 경우 화면은 이미 새 작업 것
+                }
+                aiTask = null;
+                updateMessage("AI 생성 취소됨.");
+                syncAppendedLog(streamed.toString());
+            }
+        };
+
+        // 이전 AI 요청과 진행 중인 매퍼 생성은 취소 (늦게 끝난 결과가 새 응답을 덮어쓰지 않도록)
+        cancelAiGeneration();
+        cancelFetch();
+        aiTask = task;
+
+        // AI 결과는 옵션 변경 시 다시 생성할 대상이 아님
+        lastGeneratedTable = null;
+        status.bind(task.messageProperty());
+        logOutput.set("");
+        LONG_TASK_EXECUTOR.execute(task);
+    }
+
+    private PlanAnalysisService newPlanAnalysisService() {
+        Config.Plan plan = config == null || config.getPlan() == null ? new Config.Plan() : config.getPlan();
+        return new PlanAnalysisService(new OraclePlanProvider(), plan.fullScanWarnRows);
+    }
+
+    /**
+     * 일괄 생성 버튼 이벤트 핸들러
+     * - 테이블명 입력란을 패턴으로 사용 (예: ME_*, *_INFO), 비어 있으면 스키마 전체
+     */
+    public void onGenerateBatch() {
+        String pattern = tableName.get();
+        MapperOptions options = newOptions();
+        boolean wholeSchema = pattern == null || pattern.isBlank();
+        List<String> targets = BatchMapperService.matchTables(cachedTableNames, pattern);
+        if (targets.isEmpty()) {
+            status.unbind();
+            status.set("일치하는 테이블이 없습니다.");
+            logOutput.set("패턴 '" + (pattern == null ? "" : pattern) + "'과 일치하는 테이블이 없습니다. DB 연결 후 테이블 목록이 로드되었는지 확인해주세요.");
+            return;
+        }
+
+        Task<BatchMapperService.BatchResult> task = new Task<>() {
+            @Override
+            protected BatchMapperService.BatchResult call() throws Exception {
+                updateMessage("일괄 생성 준비 중... (" + targets.size() + "개 테이블)");
+                options.setTemplate(loadTemplate());
+                // 패턴이 비어 있으면 테이블명 목록 없이 스키마 전체를 한 번에 조회
+                return batchMapperService.generateAll(wholeSchema ? null : targets, options, (phase, done, total, tablesPerSecond) -> {
+                    int expected = total > 0 ? total : targets.size();
+                    updateProgress(done, expected);
+                    updateMessage(String.format("%s %d/%d (%.1f tables/sec)", phase, done, expected, tablesPerSecond));
+                });
+            }
+
+            @Override
+            protected void succeeded() {
+                BatchMapperService.BatchResult result = getValue();
+                updateMessage(String.format("일괄 생성 완료! %d개 (%.1f tables/sec)", result.getMappers().size(), result.getTablesPerSecond()));
+
+                StringBuilder sb = new StringBuilder();
+                sb.append("<!-- 일괄 생성: ").append(result.getMappers().size()).append("개 테이블")
+                  .append(", 조회 ").append(result.getFetchMillis()).append("ms")
+                  .append(", 생성 ").append(result.getGenerateMillis()).append("ms");
+                if (!result.getFailures().isEmpty()) {
+                    sb.append(", 실패 ").append(result.getFailures().size()).append("건: ")
+                      .append(String.join(", ", result.getFailures().keySet()));
+                }
+                sb.append(" -->\n");
+                sb.append(result.toCombinedString());
+                logOutput.set(sb.toString());
+            }
+
+            @Override
+            protected void failed() {
+                Throwable e = getException();
+                StringWriter sw = new StringWriter();
+                e.printStackTrace(new PrintWriter(sw));
+
+                updateMessage("일괄 생성 실패..");
+                logOutput.set("일괄 생성 중 예외 발생:\n" + sw);
+            }
+
+            @Override
+            protected void cancelled() {
+                updateMessage("일괄 생성 취소됨.");
+                logOutput.set("일괄 생성이 취소되었습니다.");
+            }
+        };
+
         status.bind(task.messageProperty());
         logOutput.set("");
-        new Thread(task).start();
+        LONG_TASK_EXECUTOR.execute(task);
+    }
+
+    /**
+     * 일괄 생성 결과를 파일로 저장 (테이블명 입력란을 패턴으로 사용, 비어 있으면 스키마 전체)
+     * - 결과를 화면에 올리지 않고 파일로 바로 스트리밍하므로 스키마 전체도 메모리 부담 없이 저장 가능
+     * @param file 저장할 파일
+     */
+    public void onGenerateBatchToFile(File file) {
+        String pattern = tableName.get();
+        MapperOptions options = newOptions();
+        boolean wholeSchema = pattern == null || pattern.isBlank();
+        List<String> targets = BatchMapperService.matchTables(cachedTableNames, pattern);
+        if (targets.isEmpty()) {
+            status.unbind();
+            status.set("일치하는 테이블이 없습니다.");
+            logOutput.set("패턴 '" + (pattern == null ? "" : pattern) + "'과 일치하는 테이블이 없습니다. DB 연결 후 테이블 목록이 로드되었는지 확인해주세요.");
+            return;
+        }
+
+        Task<BatchMapperService.WriteResult> task = new Task<>() {
+            @Override
+            protected BatchMapperService.WriteResult call() throws Exception {
+                updateMessage("파일 저장 준비 중... (" + targets.size() + "개 테이블)");
+                options.setTemplate(loadTemplate());
+                return batchMapperService.writeAllToFile(wholeSchema ? null : targets, options, file.toPath(), (phase, done, total, tablesPerSecond) -> {
+                    int expected = total > 0 ? total : targets.size();
+                    updateProgress(done, expected);
+                    updateMessage(String.format("%s %d/%d (%.1f tables/sec)", phase, done, expected, tablesPerSecond));
+                });
+            }
+
+            @Override
+            protected void succeeded() {
+                BatchMapperService.WriteResult result = getValue();
+                updateMessage(String.format("파일 저장 완료! %d개 (%.1f tables/sec)", result.getWrittenTables(), result.getTablesPerSecond()));
+
+                StringBuilder sb = new StringBuilder();
+                sb.append("<!-- 일괄 생성 파일 저장: ").append(file.getAbsolutePath())
+                  .append("\n     ").append(result.getWrittenTables()).append("개 테이블")
+                  .append(", 조회 ").append(result.getFetchMillis()).append("ms")
+                  .append(", 생성/저장 ").append(result.getGenerateMillis()).append("ms");
+                if (!result.getFailures().isEmpty()) {
+                    sb.append(", 실패 ").append(result.getFailures().size()).append("건: ")
+                      .append(String.join(", ", result.getFailures().keySet()));
+                }
+                sb.append(" -->\n");
+                logOutput.set(sb.toString());
+            }
+
+            @Override
+            protected void failed() {
+                Throwable e = getException();
+                StringWriter sw = new StringWriter();
+                e.printStackTrace(new PrintWriter(sw));
+
+                updateMessage("파일 저장 실패..");
+                logOutput.set("일괄 생성 파일 저장 중 예외 발생:\n" + sw);
+            }
+
+            @Override
+            protected void cancelled() {
+                updateMessage("파일 저장 취소됨.");
+                logOutput.set("일괄 생성 파일 저장이 취소되었습니다.");
+            }
+        };
+
+        status.bind(task.messageProperty());
+        logOutput.set("");
+        LONG_TASK_EXECUTOR.execute(task);
+    }
+
+    /**
+     * 테이블별 매퍼 파일로 내보내기 (테이블명 입력란을 패턴으로 사용, 비어 있으면 스키마 전체)
+     * - 내용이 바뀐 파일만 다시 쓰므로, 변경 없는 파일의 수정 시각은 그대로 유지됨
+     * @param directory 내보낼 디렉터리 (예: 프로젝트의 src/main/resources/mapper)
+     */
+    public void onExportToDirectory(File directory) {
+        String pattern = tableName.get();
+        MapperOptions options = newOptions();
+        boolean wholeSchema = pattern == null || pattern.isBlank();
+        List<String> targets = BatchMapperService.matchTables(cachedTableNames, pattern);
+        if (targets.isEmpty()) {
+            status.unbind();
+            status.set("일치하는 테이블이 없습니다.");
+            logOutput.set("패턴 '" + (pattern == null ? "" : pattern) + "'과 일치하는 테이블이 없습니다. DB 연결 후 테이블 목록이 로드되었는지 확인해주세요.");
+            return;
+        }
+        String namespacePackage = saveMapperPackage();
+
+        Task<MapperExportService.ExportResult> task = new Task<>() {
+            @Override
+            protected MapperExportService.ExportResult call() throws Exception {
+                updateMessage("내보내기 준비 중... (" + targets.size() + "개 테이블)");
+                options.setTemplate(loadTemplate());
+                return mapperExportService.export(wholeSchema ? null : targets, options, directory.toPath(), namespacePackage, (phase, done, total, tablesPerSecond) -> {
+                    int expected = total > 0 ? total : targets.size();
+                    updateProgress(done, expected);
+                    updateMessage(String.format("%s %d/%d (%.1f tables/sec)", phase, done, expected, tablesPerSecond));
+                });
+            }
+
+            @Override
+            protected void succeeded() {
+                MapperExportService.ExportResult result = getValue();
+                updateMessage(String.format("내보내기 완료! 저장 %d개, 변경 없음 %d개", result.getWrittenTables().size(), result.getUnchangedTables()));
+
+                StringBuilder sb = new StringBuilder();
+                sb.append("<!-- 내보내기: ").append(directory.getAbsolutePath())
+                  .append("\n     저장 ").append(result.getWrittenTables().size()).append("개")
+                  .append(", 변경 없음 ").append(result.getUnchangedTables()).append("개")
+                  .append(", 생성 ").append(result.getGenerateMillis()).append("ms")
+                  .append(", 저장 ").append(result.getWriteMillis()).append("ms");
+                if (!result.getFailures().isEmpty()) {
+                    sb.append(", 실패 ").append(result.getFailures().size()).append("건: ")
+                      .append(String.join(", ", result.getFailures().keySet()));
+                }
+                sb.append(" -->\n");
+                for (String table : result.getWrittenTables()) {
+                    sb.append("<!-- 저장: ").append(table).append(".xml -->\n");
+                }
+                logOutput.set(sb.toString());
+            }
+
+            @Override
+            protected void failed() {
+                Throwable e = getException();
+                StringWriter sw = new StringWriter();
+                e.printStackTrace(new PrintWriter(sw));
+
+                updateMessage("내보내기 실패..");
+                logOutput.set("내보내기 중 예외 발생:\n" + sw);
+            }
+
+            @Override
+            protected void cancelled() {
+                updateMessage("내보내기 취소됨.");
+                logOutput.set("내보내기가 취소되었습니다.");
+            }
+        };
+
+        status.bind(task.messageProperty());
+        logOutput.set("");
+        LONG_TASK_EXECUTOR.execute(task);
+    }
+
+    /**
+     * 자동완성 검색 (자동완성 콜백 스레드에서 호출됨)
+     * @param userInput 사용자 입력
+     * @param cancelled 새 입력으로 이 검색이 필요 없어졌는지 확인
+     * @return 순위대로 정렬된 테이블 목록 (최대 200개)
+     */
+    public List<ColumnInfo> searchTables(String userInput, BooleanSupplier cancelled) {
+        return tableNameIndex.search(userInput, 200, cancelled);
+    }
+
+    // 현재 테이블 목록의 복사본으로 인덱스를 생성하고, 그 사이 목록이 다시 바뀌었으면 결과를 버림
+    private void rebuildTableNameIndex() {
+        List<ColumnInfo> snapshot = List.copyOf(cachedTableNames);
+        long version = tableNameIndexVersion.incrementAndGet();
+        TASK_EXECUTOR.execute(() -> {
+            TableNameIndex index = new TableNameIndex(snapshot);
+            if (version == tableNameIndexVersion.get()) {
+                tableNameIndex = index;
+            }
+        });
+    }
+
+    private void startSchemaWatch() {
+        Config.Watch watch = config.getWatch() == null ? new Config.Watch() : config.getWatch();
+        schemaWatchService.start(watch.intervalSeconds, new SchemaWatchService.DriftListener() {
+            @Override
+            public void onDrift(SchemaWatchService.DriftReport report) {
+                Platform.runLater(() -> {
+                    status.unbind();
+                    status.set("스키마 변경 감지: " + report.getSummary());
+                    logOutput.set(report.toText());
+                    if (report.hasTableListChange()) {
+                        cachedTableNames.setAll(schemaSnapshotService.getTables());
+                    }
+                });
+            }
+
+            @Override
+            public void onError(Exception e) {
+                Platform.runLater(() -> {
+                    status.unbind();
+                    status.set("스키마 변경 확인 실패: " + e.getMessage());
+                });
+            }
+        });
+        status.unbind();
+        status.set("스키마 변경 감시 중 (" + watch.intervalSeconds + "초 간격)");
+    }
+
+    // 화면 옵션(체크박스/라디오 버튼)으로 생성 옵션 구성 (템플릿은 작업 스레드에서 로드)
+    private MapperOptions newOptions() {
+        MapperOptions options = new MapperOptions(useIfUpdate.get(), useIfWhere.get(), isParameterTypeModel.get());
+        options.setUseJdbcType(useJdbcType.get());
+        options.setUseResultMap(useResultMap.get());
+        options.setUseSelectByIndex(useSelectByIndex.get());
+        options.setUseSelectStream(useSelectStream.get());
+        options.setUseSelectPage(useSelectPage.get());
+        options.setUseInsertBatch(useInsertBatch.get());
+        options.setUseMerge(useMerge.get());
+        options.setUseByPkList(useByPkList.get());
+        if (config != null && config.getGenerator() != null) {
+            options.setBatchSize(config.getGenerator().batchSize);
+        }
+        return options;
+    }
+
+    // 감시 스레드에서 매퍼를 다시 생성할 때 사용하는 현재 화면 옵션
+    private MapperOptions currentOptions() {
+        MapperOptions options = newOptions();
+        try {
+            options.setTemplate(loadTemplate());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return options;
     }
 
     public void OnCopyToClipboard() {
@@ -251,29 +896,96 @@ public class MainViewModel {
         return darkThemeEnabled.get();
     }
 
-    // 테이블 이름을 모델 클래스 이름으로 변환 (예: ME_ITEMSERCHK_INFO_X20400 -> MeItemserchkInfoX20400)
-    private String convertToModelName(String tableName) {
-        StringBuilder modelNameBuilder = new StringBuilder();
-        boolean capitalizeNext = true;
-        for (char c : tableName.toCharArray()) {
-            if (c == '_') {
-                capitalizeNext = true;
-            } else {
-                if (capitalizeNext) {
-                    modelNameBuilder.append(Character.toUpperCase(c));
-                    capitalizeNext = false;
-                } else {
-                    modelNameBuilder.append(Character.toLowerCase(c));
-                }
-            }
+    /**
+     * logOutput 끝에 내용이 이어 붙었을 때 호출할 콜백을 등록합니다.
+     * 콜백으로 받은 경우 화면은 전체를 다시 그리지 않고 붙은 부분만 추가하면 됩니다. (isAppendingLog 참고)
+     */
+    public void setOnLogAppended(Consumer<String> onLogAppended) {
+        this.onLogAppended = onLogAppended;
+    }
+
+    /**
+     * @return logOutput 변경이 appendLog에 의한 이어 붙이기이면 true (logOutput 리스너에서 전체 교체를 건너뛰는 데 사용)
+     */
+    public boolean isAppendingLog() {
+        return appendingLog;
+    }
+
+    // 화면에 붙은 부분만 전달 (FX 스레드에서 호출, logOutput은 이어 붙이기가 끝나면 syncAppendedLog로 맞춤)
+    private void appendLog(String text) {
+        if (onLogAppended != null) {
+            onLogAppended.accept(text);
+        }
+    }
+
+    // appendLog로 화면에 이미 붙인 전체 내용을 logOutput에 반영 (화면은 다시 그리지 않음)
+    private void syncAppendedLog(String text) {
+        if (onLogAppended == null) {
+            logOutput.set(text);
+            return;
+        }
+        appendingLog = true;
+        try {
+            logOutput.set(text);
+        } finally {
+            appendingLog = false;
         }
-        return modelNameBuilder.toString();
     }
 
-    // AI 서비스 호출 로직은 onFetchColumns()와는 별개로 필요하다면 다른 메서드로 분리하는 것이 좋습니다.
-    // 예를 들어, onGenerateAIResponse() 같은 메서드를 만들어서 onFetchColumns()로 컬럼 정보를 가져온 후
-    // 그 정보를 바탕으로 AI 호출을 진행하도록 할 수 있습니다.
-    // 현재는 주석 처리된 AI 관련 코드를 그대로 유지합니다.
+    // 진행 중인 매퍼 생성 취소 (실행 대기 중이거나 RUNNING 상태 반영 전인 작업도 포함, 이미 끝난 작업은 영향 없음)
+    // 늦게 끝난 이전 결과는 succeeded()/failed()의 fetchTask 확인으로도 화면에 반영되지 않음
+    // (FX 스레드에서 cancel()하면 cancelled()가 바로 호출되므로, 필드를 먼저 비워 취소된 작업이 화면을 건드리지 않게 함)
+    private void cancelFetch() {
+        if (fetchTask != null) {
+            Task<String> previousTask = fetchTask;
+            QueryCanceller previousCanceller = fetchCanceller;
+            fetchTask = null;
+            fetchCanceller = null;
+            previousCanceller.cancelAsync();   // Statement.cancel()은 네트워크 왕복이므로 FX 스레드를 막지 않도록
+            previousTask.cancel();
+        }
+    }
+
+    // 진행 중인 AI 생성 취소 (늦게 도착한 토큰/결과는 aiTask 확인으로 화면에 반영되지 않음)
+    private void cancelAiGeneration() {
+        if (aiTask != null) {
+            Task<String> previous = aiTask;
+            aiTask = null;
+            previous.cancel();
+        }
+    }
+
+    /**
+     * config.json에 지정된 템플릿 파일을 읽어옵니다. (파일이 바뀌지 않았으면 컴파일된 템플릿을 재사용)
+     * @return 템플릿, 지정되지 않았으면 null (기본 생성기 사용)
+     */
+    private MapperTemplate loadTemplate() throws IOException {
+        Config.Template template = config == null ? null : config.getTemplate();
+        if (template == null || template.path == null || template.path.isBlank()) {
+            return null;
+        }
+        return MapperTemplate.load(Path.of(template.path));
+    }
+
+    /**
+     * 입력된 매퍼 패키지가 config.json의 값과 다르면 저장합니다. (다음 실행과 CLI에서도 같은 namespace 사용)
+     * @return 내보내기에 사용할 패키지 (앞뒤 공백 제거)
+     */
+    private String saveMapperPackage() {
+        String value = mapperPackage.get() == null ? "" : mapperPackage.get().trim();
+        if (config == null) {
+            return value;
+        }
+        if (config.getGenerator() == null) {
+            config.setGenerator(new Config.Generator());
+        }
+        String saved = config.getGenerator().mapperPackage == null ? "" : config.getGenerator().mapperPackage;
+        if (!saved.equals(value)) {
+            config.getGenerator().mapperPackage = value;
+            ConfigLoader.save(configPath);
+        }
+        return value;
+    }
 
     private String buildPrompt(String table, List<ColumnInfo> cols) {
         // 기존 buildPrompt 로직은 유지
@@ -0,0 +1,148 @@
+package org.dev.mybatisautomapper.service;
+
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ColumnCache 조회 공유(single-flight), TTL 만료, LRU 제거, 테이블별 무효화 확인
+ */
+class ColumnCacheTest {
+
+    @Test
+    void concurrentRequestsShareOneLoad() throws Exception {
+        ColumnCache cache = new ColumnCache(10, 600);
+        BlockingLoader loader = new BlockingLoader();
+
+        CompletableFuture<List<ColumnInfo>> first = CompletableFuture.supplyAsync(() -> cache.get("TB_A", loader));
+        assertTrue(loader.started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<List<ColumnInfo>> second = CompletableFuture.supplyAsync(() -> cache.get("TB_A", loader));
+        awaitSharedLoad(cache, 1);
+        loader.release.countDown();
+
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loader.calls.get());
+        assertEquals(1, cache.getSharedLoadCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void expiredEntryIsLoadedAgain() throws Exception {
+        CountingLoader loader = new CountingLoader();
+        ColumnCache cache = new ColumnCache(10, 600);
+        cache.get("TB_A", loader);
+        cache.get("TB_A", loader);
+        assertEquals(1, loader.calls.get());
+        assertEquals(1, cache.getHitCount());
+
+        ColumnCache expiring = new ColumnCache(10, 0);
+        expiring.get("TB_A", loader);
+        Thread.sleep(20);
+        expiring.get("TB_A", loader);
+        assertEquals(3, loader.calls.get());
+        assertEquals(0, expiring.getHitCount());
+    }
+
+    @Test
+    void leastRecentlyUsedTableIsEvicted() {
+        CountingLoader loader = new CountingLoader();
+        ColumnCache cache = new ColumnCache(2, 600);
+        cache.get("TB_A", loader);
+        cache.get("TB_B", loader);
+        cache.get("TB_A", loader);   // TB_A 사용 -> TB_B가 가장 오래됨
+        cache.get("TB_C", loader);   // 최대 2개 초과 -> TB_B 제거
+        assertEquals(2, cache.size());
+        assertEquals(3, loader.calls.get());
+
+        cache.get("TB_A", loader);
+        cache.get("TB_C", loader);
+        assertEquals(3, loader.calls.get());
+        cache.get("TB_B", loader);
+        assertEquals(4, loader.calls.get());
+    }
+
+    @Test
+    void invalidatingAnotherTableKeepsInFlightResult() throws Exception {
+        ColumnCache cache = new ColumnCache(10, 600);
+        BlockingLoader loader = new BlockingLoader();
+
+        CompletableFuture<List<ColumnInfo>> load = CompletableFuture.supplyAsync(() -> cache.get("TB_A", loader));
+        assertTrue(loader.started.await(5, TimeUnit.SECONDS));
+        cache.invalidate("TB_B");
+        loader.release.countDown();
+        load.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, cache.size());
+        cache.get("TB_A", loader);
+        assertEquals(1, loader.calls.get());
+    }
+
+    @Test
+    void invalidatingSameTableDropsInFlightResult() throws Exception {
+        ColumnCache cache = new ColumnCache(10, 600);
+        BlockingLoader loader = new BlockingLoader();
+
+        CompletableFuture<List<ColumnInfo>> load = CompletableFuture.supplyAsync(() -> cache.get("TB_A", loader));
+        assertTrue(loader.started.await(5, TimeUnit.SECONDS));
+        cache.invalidate("TB_A");
+        loader.release.countDown();
+        load.get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, cache.size());   // 무효화 이전 결과는 저장하지 않음
+        cache.get("TB_A", loader);
+        assertEquals(2, loader.calls.get());
+    }
+
+    private static void awaitSharedLoad(ColumnCache cache, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cache.getSharedLoadCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, cache.getSharedLoadCount());
+    }
+
+    private static List<ColumnInfo> columns(String tableName) {
+        ColumnInfo col = new ColumnInfo();
+        col.setTable_nm(tableName);
+        col.setColumn_name("ID");
+        col.setData_type("NUMBER");
+        return List.of(col);
+    }
+
+    private static class CountingLoader implements Function<String, List<ColumnInfo>> {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public List<ColumnInfo> apply(String tableName) {
+            calls.incrementAndGet();
+            return columns(tableName);
+        }
+    }
+
+    // 첫 조회는 release될 때까지 멈춤 (진행 중인 조회를 만들기 위함)
+    private static class BlockingLoader extends CountingLoader {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public List<ColumnInfo> apply(String tableName) {
+            started.countDown();
+            try {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.apply(tableName);
+        }
+    }
+}
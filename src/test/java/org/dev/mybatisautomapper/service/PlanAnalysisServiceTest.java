@@ -0,0 +1,156 @@
+package org.dev.mybatisautomapper.service;
+
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
+import org.dev.mybatisautomapper.model.PlanStep;
+import org.dev.mybatisautomapper.util.MybatisMapperGenerator;
+import org.dev.mybatisautomapper.util.StatementSqlRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PlanAnalysisService 경고 규칙과 annotate 확인 (DB 없이 미리 준비한 계획을 반환하는 PlanProvider 사용)
+ */
+class PlanAnalysisServiceTest {
+
+    private static final long WARN_ROWS = 100_000;
+
+    private final PlanAnalysisService service = new PlanAnalysisService(sql -> List.of(), WARN_ROWS);
+
+    @Test
+    void warnsFullScanAtOrAboveThreshold() {
+        List<String> atThreshold = service.warnings("select", fullScan(WARN_ROWS));
+        assertEquals(1, atThreshold.size());
+        assertTrue(atThreshold.get(0).startsWith("TABLE ACCESS FULL TB_X ("), atThreshold.get(0));
+
+        assertEquals(1, service.warnings("select", fullScan(WARN_ROWS * 400)).size());
+        assertTrue(service.warnings("select", fullScan(WARN_ROWS - 1)).isEmpty());
+    }
+
+    @Test
+    void warnsFullScanWithoutStatistics() {
+        List<String> warnings = service.warnings("select", fullScan(null));
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.get(0).contains("통계 없음"), warnings.get(0));
+    }
+
+    @Test
+    void selectStreamIsExemptFromFullScanWarning() {
+        assertTrue(service.warnings("selectStream", fullScan(WARN_ROWS * 400)).isEmpty());
+        assertTrue(service.warnings("selectStream", fullScan(null)).isEmpty());
+    }
+
+    @Test
+    void warnsIndexSkipScanAndFullScan() {
+        List<String> skipScan = service.warnings("selectByIdx", List.of(
+                step(0, null, "SELECT STATEMENT", null, null, null),
+                step(1, 0, "TABLE ACCESS", "BY INDEX ROWID", "TB_X", WARN_ROWS * 400),
+                step(2, 1, "INDEX", "SKIP SCAN", "IX_TB_X_01", null)));
+        assertEquals(List.of("INDEX SKIP SCAN IX_TB_X_01 (인덱스 선행 컬럼 조건 없음)"), skipScan);
+
+        List<String> fullScan = service.warnings("selectPage", List.of(
+                step(0, null, "SELECT STATEMENT", null, null, null),
+                step(1, 0, "INDEX", "FULL SCAN", "PK_TB_X", null),
+                step(2, 0, "INDEX", "FAST FULL SCAN", "IX_TB_X_02", null)));
+        assertEquals(List.of("INDEX FULL SCAN PK_TB_X (인덱스 전체를 읽음)",
+                "INDEX FAST FULL SCAN IX_TB_X_02 (인덱스 전체를 읽음)"), fullScan);
+    }
+
+    @Test
+    void indexAccessWithoutWarning() {
+        List<PlanStep> steps = List.of(
+                step(0, null, "SELECT STATEMENT", null, null, null),
+                step(1, 0, "TABLE ACCESS", "BY INDEX ROWID", "TB_X", WARN_ROWS * 400),
+                step(2, 1, "INDEX", "UNIQUE SCAN", "PK_TB_X", null));
+        assertTrue(service.warnings("select", steps).isEmpty());
+
+        PlanAnalysisService.StatementPlan plan = new PlanAnalysisService.StatementPlan("select", "SELECT 1 FROM DUAL", steps, List.of(), null);
+        assertEquals("INDEX UNIQUE SCAN PK_TB_X -> TABLE ACCESS BY INDEX ROWID TB_X", plan.getAccessPath());
+    }
+
+    @Test
+    void annotateIsIdempotent() {
+        List<ColumnInfo> columns = columns();
+        MapperOptions options = new MapperOptions(true, true, true);
+        options.setUseSelectStream(true);
+        options.setUseSelectPage(true);
+        options.setUseMerge(true);
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns, options);
+
+        // SELECT는 큰 테이블 전체 읽기, MERGE는 조회 실패, 나머지는 PK 접근
+        PlanAnalysisService analysis = new PlanAnalysisService(sql -> {
+            if (sql.startsWith("SELECT")) {
+                return fullScan(WARN_ROWS * 400);
+            }
+            if (sql.startsWith("MERGE")) {
+                throw new SQLException("ORA-00942: table or view does not exist");
+            }
+            return List.of(
+                    step(0, null, "UPDATE STATEMENT", null, null, null),
+                    step(1, 0, "INDEX", "UNIQUE SCAN", "PK_TB_X", null));
+        }, WARN_ROWS);
+
+        List<PlanAnalysisService.StatementPlan> plans = analysis.analyze(mapperXml, columns);
+        assertEquals(StatementSqlRenderer.statementIds(mapperXml).size(), plans.size());
+        for (PlanAnalysisService.StatementPlan plan : plans) {
+            if (plan.getId().startsWith("merge")) {
+                assertNotNull(plan.getError());
+            } else {
+                assertNull(plan.getError(), plan.getId());
+            }
+        }
+
+        String annotated = PlanAnalysisService.annotate(mapperXml, plans);
+        assertEquals(plans.size(), count(annotated, "<!-- [PLAN] ") + count(annotated, "<!-- [PLAN 오류] "));
+        assertTrue(annotated.contains("<!-- [PLAN 경고] TABLE ACCESS FULL TB_X"));
+
+        String again = PlanAnalysisService.annotate(annotated, analysis.analyze(annotated, columns));
+        assertEquals(annotated, again);
+        assertEquals(annotated, PlanAnalysisService.annotate(again, plans));
+    }
+
+    private static List<PlanStep> fullScan(Long tableRows) {
+        return List.of(
+                step(0, null, "SELECT STATEMENT", null, null, null),
+                step(1, 0, "TABLE ACCESS", "FULL", "TB_X", tableRows));
+    }
+
+    private static PlanStep step(int id, Integer parentId, String operation, String options, String objectName, Long tableRows) {
+        return new PlanStep(id, parentId, parentId == null ? 0 : 1, operation, options, objectName, 10L, 1L, tableRows);
+    }
+
+    private static List<ColumnInfo> columns() {
+        String[][] definitions = {
+                {"COMPANY_CD", "VARCHAR2(10)", "Y"},
+                {"ITEM_NO", "NUMBER", "Y"},
+                {"ITEM_NM", "VARCHAR2(100)", "N"},
+                {"REG_DT", "DATE", "N"},
+        };
+        List<ColumnInfo> columns = new ArrayList<>();
+        for (String[] definition : definitions) {
+            ColumnInfo col = new ColumnInfo();
+            col.setTable_nm("TB_X");
+            col.setColumn_name(definition[0]);
+            col.setData_type(definition[1]);
+            col.setPrimary_key(definition[2]);
+            columns.add(col);
+        }
+        return columns;
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+}
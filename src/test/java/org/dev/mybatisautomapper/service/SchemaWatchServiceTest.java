@@ -0,0 +1,173 @@
+package org.dev.mybatisautomapper.service;
+
+import org.dev.mybatisautomapper.dao.ColumnDao;
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
+import org.dev.mybatisautomapper.model.TableDdlInfo;
+import org.dev.mybatisautomapper.model.TableDdlSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SchemaWatchService 컬럼 비교와 증분(since) 조회 확인 (DB 없이 조회 결과를 바꿔 끼운 TableInfoService 사용)
+ */
+class SchemaWatchServiceTest {
+
+    private static final long T0 = 1_700_000_000_000L;   // 초 단위 (LAST_DDL_TIME 정밀도)
+    private static final long T1 = T0 + 60_000L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void compareColumnsListsEveryKindOfChange() {
+        List<ColumnInfo> oldColumns = List.of(
+                column("ITEM_NO", "NUMBER", "Y", "품목번호", "품목"),
+                column("ITEM_NM", "VARCHAR2(50)", "N", "품목명", "품목"),
+                column("OLD_CD", "VARCHAR2(10)", "N", null, "품목"));
+        List<ColumnInfo> newColumns = List.of(
+                column("ITEM_NO", "NUMBER", "N", "품목번호", "품목 마스터"),
+                column("ITEM_NM", "VARCHAR2(100)", "N", "품목 이름", "품목 마스터"),
+                column("NEW_CD", "CHAR(1)", "N", null, "품목 마스터"));
+
+        assertEquals(List.of(
+                "테이블 코멘트 변경",
+                "ITEM_NO PK 제외",
+                "ITEM_NM VARCHAR2(50) -> VARCHAR2(100)",
+                "ITEM_NM 코멘트 변경",
+                "+NEW_CD CHAR(1)",
+                "-OLD_CD"), SchemaWatchService.compareColumns(oldColumns, newColumns));
+    }
+
+    @Test
+    void compareColumnsWithoutChangeOrSnapshot() {
+        List<ColumnInfo> columns = List.of(column("ITEM_NO", "NUMBER", "Y", null, null));
+        assertTrue(SchemaWatchService.compareColumns(columns, List.of(column("ITEM_NO", "NUMBER", "Y", null, null))).isEmpty());
+        assertEquals(List.of("컬럼 1개"), SchemaWatchService.compareColumns(null, columns));
+    }
+
+    @Test
+    void sinceQuerySkipsTablesAlreadyInSnapshot() {
+        FakeTableInfoService db = new FakeTableInfoService();
+        db.tables.put("TB_A", ddl("TB_A", T0));
+        db.tables.put("TB_B", ddl("TB_B", T1));   // 직전 최대 DDL 시각의 테이블
+        db.tables.put("TB_C", ddl("TB_C", T0));
+        db.columns.put("TB_A", List.of(column("A_NO", "NUMBER", "Y", null, null)));
+        db.columns.put("TB_B", List.of(column("B_NO", "NUMBER", "Y", null, null)));
+        db.columns.put("TB_C", List.of(column("C_NO", "NUMBER", "Y", null, null)));
+
+        SchemaSnapshotService snapshot = new SchemaSnapshotService(tempDir.resolve("schema.bin").toString(), "url", "user");
+        snapshot.refresh(db);
+        SchemaWatchService watch = new SchemaWatchService(db, snapshot, () -> new MapperOptions(true, true, true));
+        assertNull(watch.poll()); // 기준 설정
+
+        // TB_B와 같은 초(T1)에 TB_C에 컬럼 추가 -> 테이블 수/OBJECT_ID 합/최대 DDL 시각은 그대로, DDL 시각 합만 바뀜
+        db.tables.put("TB_C", ddl("TB_C", T1));
+        db.columns.put("TB_C", List.of(column("C_NO", "NUMBER", "Y", null, null), column("C_NM", "VARCHAR2(10)", "N", null, null)));
+        db.fetchedNames.clear();
+        db.fullListCalls = 0;
+
+        SchemaWatchService.DriftReport report = watch.poll();
+
+        assertEquals(List.of(new Date(T1)), db.sinceCalls);       // 전체 목록이 아닌 직전 최대 시각 이후만 조회
+        assertEquals(0, db.fullListCalls);
+        assertEquals(List.of("TB_C"), db.fetchedNames);           // TB_B(같은 시각, 스냅샷과 동일)는 제외
+        assertNotNull(report);
+        assertEquals(1, report.getTables().size());
+        SchemaWatchService.TableDrift drift = report.getTables().get(0);
+        assertEquals("TB_C", drift.getTableName());
+        assertEquals(SchemaWatchService.TableDrift.Kind.CHANGED, drift.getKind());
+        assertEquals(List.of("+C_NM VARCHAR2(10)"), drift.getChanges());
+        assertEquals(T1, snapshot.getLastDdlTime("TB_C"));
+
+        // 요약이 그대로면 추가 조회 없음
+        assertNull(watch.poll());
+        assertEquals(1, db.sinceCalls.size());
+    }
+
+    private static TableDdlInfo ddl(String tableName, long ddlTime) {
+        TableDdlInfo ddl = new TableDdlInfo();
+        ddl.setTable_nm(tableName);
+        ddl.setLast_ddl_time(new Date(ddlTime));
+        return ddl;
+    }
+
+    private static ColumnInfo column(String name, String dataType, String primaryKey, String comments, String tableComments) {
+        ColumnInfo col = new ColumnInfo();
+        col.setColumn_name(name);
+        col.setData_type(dataType);
+        col.setPrimary_key(primaryKey);
+        col.setColumn_comments(comments);
+        col.setTable_comments(tableComments);
+        return col;
+    }
+
+    /**
+     * 메모리의 테이블 목록으로 DDL 조회에 답하는 TableInfoService
+     */
+    private static class FakeTableInfoService extends TableInfoService {
+        final Map<String, TableDdlInfo> tables = new LinkedHashMap<>();
+        final Map<String, List<ColumnInfo>> columns = new LinkedHashMap<>();
+        final List<Date> sinceCalls = new ArrayList<>();
+        final List<String> fetchedNames = new ArrayList<>();
+        int fullListCalls;
+
+        @Override
+        public TableDdlSummary getTableDdlSummary() {
+            TableDdlSummary summary = new TableDdlSummary();
+            summary.setTable_count(tables.size());
+            summary.setObject_id_sum(tables.size());
+            long ddlTimeSum = 0;
+            Date max = null;
+            for (TableDdlInfo ddl : tables.values()) {
+                ddlTimeSum += ddl.getLast_ddl_time().getTime() / 1000;
+                if (max == null || ddl.getLast_ddl_time().after(max)) {
+                    max = ddl.getLast_ddl_time();
+                }
+            }
+            summary.setDdl_time_sum(ddlTimeSum);
+            summary.setMax_ddl_time(max);
+            return summary;
+        }
+
+        @Override
+        public List<TableDdlInfo> getTableDdlTimes() {
+            fullListCalls++;
+            return new ArrayList<>(tables.values());
+        }
+
+        @Override
+        public List<TableDdlInfo> getTableDdlTimesSince(Date since) {
+            sinceCalls.add(since);
+            List<TableDdlInfo> result = new ArrayList<>();
+            for (TableDdlInfo ddl : tables.values()) {
+                if (!ddl.getLast_ddl_time().before(since)) {   // LAST_DDL_TIME >= #{since}
+                    result.add(ddl);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Map<String, List<ColumnInfo>> fetchColumns(List<String> tableNames, ColumnDao.TableColumnsListener tableListener) {
+            Map<String, List<ColumnInfo>> result = new LinkedHashMap<>();
+            for (String tableName : tableNames == null ? new ArrayList<>(tables.keySet()) : tableNames) {
+                fetchedNames.add(tableName);
+                result.put(tableName, columns.get(tableName));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.dev.mybatisautomapper.util;
+
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.dev.mybatisautomapper.util.MybatisMapperGeneratorTest.column;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TemplateParser 컴파일(블록 점프, 블록 태그 줄 제거, 오류 위치)과 MapperTemplate 파일 캐시 확인
+ */
+class MapperTemplateTest {
+
+    private static final String SELECT = String.join("\n",
+            "@statement select",
+            "SELECT",
+            "${#each columns}",
+            "    ${#if first}  ${/if}${#if !first}, ${/if}${column:8}${#if comment} --${comment}${/if}",
+            "${/each}",
+            "  FROM ${table}",
+            "${#each pk}",
+            " WHERE ${column} = #{${param}}",
+            "${/each}",
+            "${#if model}",
+            "-- model",
+            "${/if}",
+            "@end");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void blocksJumpPastBodyWhenConditionFailsOrSetIsEmpty() throws IOException {
+        MapperTemplate template = MapperTemplate.parse(SELECT, "select.tmpl");
+        List<ColumnInfo> columns = List.of(
+                column("ITEM_NO", "NUMBER", "N"),
+                commented(column("ITEM_NM", "VARCHAR2(100)", "N"), "품목명"),
+                column("REG_DT", "DATE", "N"));
+
+        // PK 없음 -> #each pk 본문 건너뜀, HashMap 파라미터 -> #if model 본문 건너뜀
+        StringBuilder out = new StringBuilder();
+        template.write(MapperTemplate.Statement.SELECT, out, "TB_X", columns, new MapperOptions(false, false, false));
+        assertEquals(String.join("\n",
+                "SELECT",
+                "      ITEM_NO ",
+                "    , ITEM_NM  --품목명",
+                "    , REG_DT  ",
+                "  FROM TB_X",
+                ""), out.toString());
+    }
+
+    @Test
+    void loopRepeatsBodyForEachColumnInSet() throws IOException {
+        MapperTemplate template = MapperTemplate.parse(SELECT, "select.tmpl");
+        List<ColumnInfo> columns = List.of(
+                column("COMPANY_CD", "VARCHAR2(10)", "Y"),
+                column("ITEM_NO", "NUMBER", "Y"),
+                column("ITEM_NM", "VARCHAR2(100)", "N"));
+
+        StringBuilder out = new StringBuilder();
+        template.write(MapperTemplate.Statement.SELECT, out, "TB_X", columns, new MapperOptions(false, false, true));
+        assertEquals(String.join("\n",
+                "SELECT",
+                "      COMPANY_CD",
+                "    , ITEM_NO ",
+                "    , ITEM_NM ",
+                "  FROM TB_X",
+                " WHERE COMPANY_CD = #{company_cd}",
+                " WHERE ITEM_NO = #{item_no}",
+                "-- model",
+                ""), out.toString());
+        assertTrue(template.defines(MapperTemplate.Statement.SELECT));
+        assertFalse(template.defines(MapperTemplate.Statement.INSERT));
+    }
+
+    @Test
+    void syntaxErrorsReportFileAndLine() {
+        IllegalArgumentException unclosed = assertThrows(IllegalArgumentException.class,
+                () -> MapperTemplate.parse("# 주석\n@statement select\nSELECT\n${#each pk}\n${column}\n@end", "a.tmpl"));
+        assertTrue(unclosed.getMessage().startsWith("템플릿 오류 (a.tmpl:4)"), unclosed.getMessage());
+
+        IllegalArgumentException scoped = assertThrows(IllegalArgumentException.class,
+                () -> MapperTemplate.parse("@statement select\n${column}\n@end", "b.tmpl"));
+        assertTrue(scoped.getMessage().startsWith("템플릿 오류 (b.tmpl:2)"), scoped.getMessage());
+
+        IllegalArgumentException noEnd = assertThrows(IllegalArgumentException.class,
+                () -> MapperTemplate.parse("\n@statement select\nSELECT 1", "c.tmpl"));
+        assertTrue(noEnd.getMessage().startsWith("템플릿 오류 (c.tmpl:2)"), noEnd.getMessage());
+    }
+
+    @Test
+    void loadRecompilesOnlyWhenModifiedTimeOrSizeChanges() throws IOException {
+        Path file = tempDir.resolve("team.tmpl");
+        FileTime time = FileTime.fromMillis(1_700_000_000_000L);
+        write(file, "@statement delete\nDELETE FROM ${table}\n@end", time);
+
+        MapperTemplate first = MapperTemplate.load(file);
+        assertSame(first, MapperTemplate.load(file));
+
+        // 같은 크기, 다른 수정 시각
+        write(file, "@statement delete\ndelete from ${table}\n@end", time.toMillis() + 2000);
+        MapperTemplate touched = MapperTemplate.load(file);
+        assertNotSame(first, touched);
+        assertSame(touched, MapperTemplate.load(file));
+
+        // 같은 수정 시각, 다른 크기
+        write(file, "@statement delete\nDELETE FROM ${table} WHERE 1 = 0\n@end", time.toMillis() + 2000);
+        MapperTemplate resized = MapperTemplate.load(file);
+        assertNotSame(touched, resized);
+
+        StringBuilder out = new StringBuilder();
+        resized.write(MapperTemplate.Statement.DELETE, out, "TB_X", List.of(column("ITEM_NO", "NUMBER", "Y")), new MapperOptions());
+        assertEquals("DELETE FROM TB_X WHERE 1 = 0", out.toString());
+    }
+
+    private static void write(Path file, String content, FileTime modified) throws IOException {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, modified);
+    }
+
+    private static void write(Path file, String content, long modifiedMillis) throws IOException {
+        write(file, content, FileTime.fromMillis(modifiedMillis));
+    }
+
+    private static ColumnInfo commented(ColumnInfo col, String comment) {
+        col.setColumn_comments(comment);
+        return col;
+    }
+}
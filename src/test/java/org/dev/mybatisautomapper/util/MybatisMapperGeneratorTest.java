@@ -0,0 +1,370 @@
+package org.dev.mybatisautomapper.util;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.JdbcType;
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.IndexInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MybatisMapperGenerator가 만드는 구문 확인
+ */
+class MybatisMapperGeneratorTest {
+
+    private static final Pattern BIND = Pattern.compile("#\\{[^}]*}");
+
+    @Test
+    void everyBindCarriesJdbcType() {
+        for (int mode = 0; mode < 8; mode++) {
+            MapperOptions options = allOptions((mode & 1) != 0, (mode & 2) != 0, (mode & 4) != 0);
+            String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), options);
+
+            List<String> binds = binds(mapperXml);
+            assertFalse(binds.isEmpty());
+            for (String bind : binds) {
+                assertTrue(bind.contains(", jdbcType="), "mode " + mode + ": " + bind);
+            }
+        }
+    }
+
+    @Test
+    void jdbcTypeMatchesColumnType() {
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), allOptions(true, true, true));
+
+        // DATE 컬럼은 TIMESTAMP가 아닌 DATE로 바인드 (INTERNAL_FUNCTION 변환으로 인덱스를 못 쓰는 것 방지)
+        assertTrue(mapperXml.contains("#{reg_dt, jdbcType=DATE}"), mapperXml);
+        assertFalse(mapperXml.contains("#{reg_dt, jdbcType=TIMESTAMP}"), mapperXml);
+        assertTrue(mapperXml.contains("#{upd_dts, jdbcType=TIMESTAMP}"), mapperXml);
+        assertTrue(mapperXml.contains("#{company_cd, jdbcType=VARCHAR}"), mapperXml);
+        assertTrue(mapperXml.contains("#{item_no, jdbcType=NUMERIC}"), mapperXml);
+        assertTrue(mapperXml.contains("property=\"reg_dt\"                    javaType=\"Date\"        jdbcType=\"DATE\""), mapperXml);
+        // 규칙 값과 페이지 크기
+        assertTrue(mapperXml.contains("#{P_INSERT_ID, jdbcType=VARCHAR}"), mapperXml);
+        assertTrue(mapperXml.contains("#{P_UPDATE_ID, jdbcType=VARCHAR}"), mapperXml);
+        assertTrue(mapperXml.contains("FN_TODATE(#{P_CM_SYSDATE, jdbcType=VARCHAR})"), mapperXml);
+        assertTrue(mapperXml.contains("FETCH FIRST #{limit, jdbcType=NUMERIC} ROWS ONLY"), mapperXml);
+    }
+
+    @Test
+    void noJdbcTypeWhenOptionIsOff() {
+        MapperOptions options = allOptions(true, true, true);
+        options.setUseJdbcType(false);
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), options);
+
+        for (String bind : binds(mapperXml)) {
+            assertFalse(bind.contains("jdbcType"), bind);
+        }
+        assertTrue(mapperXml.contains("FN_TODATE(#{P_CM_SYSDATE})"), mapperXml);
+    }
+
+    @Test
+    void ruleValueJdbcTypeKeepsDeclaredType() {
+        assertEquals("#{P_ID, jdbcType=VARCHAR}", ColumnRules.withJdbcType("#{P_ID}"));
+        assertEquals("FN_TODATE(#{P_CM_SYSDATE, jdbcType=VARCHAR})", ColumnRules.withJdbcType("FN_TODATE(#{P_CM_SYSDATE})"));
+        assertEquals("#{P_NO, jdbcType=NUMERIC} + #{P_ID, jdbcType=VARCHAR}", ColumnRules.withJdbcType("#{P_NO, jdbcType=NUMERIC} + #{P_ID}"));
+        assertEquals("SYSDATE", ColumnRules.withJdbcType("SYSDATE"));
+    }
+
+    @Test
+    void pkListSplitsInListEvery1000KeysWithinOneStatement() {
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), allOptions(true, true, true));
+        List<Map<String, Object>> keys = new ArrayList<>();
+        for (int i = 0; i < MybatisMapperGenerator.IN_LIST_LIMIT + 1; i++) {
+            keys.add(Map.of("company_cd", "C", "item_no", i));
+        }
+
+        for (String id : List.of("selectByPkList", "updateByPkList", "deleteByPkList")) {
+            BoundSql boundSql = boundSql(mapperXml, id, Map.of("list", keys));
+            String sql = boundSql.getSql().replaceAll("\\s+", " ");
+            // 1000건째 다음에서 IN 목록을 닫고 OR로 이어 붙임 (구문은 하나)
+            assertEquals(1, count(sql, ") OR (COMPANY_CD, ITEM_NO) IN ("), id + ": " + sql);
+            assertEquals(2, count(sql, "(COMPANY_CD, ITEM_NO) IN ("), id);
+            assertTrue(sql.endsWith("(?, ?) ))"), id + ": " + sql.substring(sql.length() - 40));
+            assertEquals((MybatisMapperGenerator.IN_LIST_LIMIT + 1) * 2,
+                    boundSql.getParameterMappings().stream().filter(m -> m.getProperty().startsWith("__frch_item")).count(), id);
+        }
+    }
+
+    @Test
+    void pkListWithEmptyListMatchesNothing() {
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), allOptions(true, true, true));
+
+        for (String id : List.of("selectByPkList", "updateByPkList", "deleteByPkList")) {
+            String sql = boundSql(mapperXml, id, Map.of("list", List.of())).getSql().replaceAll("\\s+", " ").trim();
+            assertTrue(sql.endsWith("WHERE 1 = 0"), id + ": " + sql);
+        }
+    }
+
+    @Test
+    void resultMapMarksPkColumnsAsIdAndIsUsedBySelects() {
+        Configuration configuration = parse(MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), allOptions(true, true, true)));
+
+        ResultMap resultMap = configuration.getResultMap("test.resultMap");
+        assertEquals(List.of("COMPANY_CD", "ITEM_NO"), columnsOf(resultMap.getIdResultMappings()));
+        assertEquals(columns().stream().map(ColumnInfo::getColumn_name).toList(), columnsOf(resultMap.getResultMappings()));
+        assertEquals(JdbcType.DATE, resultMap.getResultMappings().get(3).getJdbcType());
+        for (String id : List.of("select", "selectByIxTbX01", "selectStream", "selectPage", "selectByPkList")) {
+            assertSame(resultMap, configuration.getMappedStatement("test." + id).getResultMaps().get(0), id);
+        }
+
+        MapperOptions options = allOptions(true, true, true);
+        options.setUseResultMap(false);
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), options);
+        assertFalse(mapperXml.contains("<resultMap"), mapperXml);
+        assertTrue(mapperXml.contains("<select id=\"select\" parameterType=\"Model\" resultType=\"Model\">"), mapperXml);
+    }
+
+    @Test
+    void insertBatchUnionsOneSelectPerRow() {
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), allOptions(true, true, true));
+        List<Map<String, Object>> rows = List.of(Map.of(), Map.of(), Map.of());
+
+        BoundSql boundSql = boundSql(mapperXml, "insertBatch", Map.of("list", rows));
+        String sql = boundSql.getSql().replaceAll("\\s+", " ");
+        assertTrue(sql.startsWith("INSERT INTO TB_X ( COMPANY_CD, ITEM_NO,"), sql);
+        assertEquals(rows.size() - 1, count(sql, " UNION ALL "), sql);
+        assertEquals(rows.size(), count(sql, " FROM DUAL"), sql);
+        // 행마다 컬럼 값 5개 + 규칙 값(감사 컬럼) 4개
+        assertEquals(rows.size() * columns().size(), boundSql.getParameterMappings().size());
+        assertEquals(rows.size() * 5, boundSql.getParameterMappings().stream().filter(m -> m.getProperty().startsWith("__frch_item")).count());
+        assertTrue(mapperXml.contains("행당 바인드 9개, 한 번에 최대 500건씩 나누어 호출"), mapperXml);
+    }
+
+    @Test
+    void batchSizeIsCappedByBindLimit() {
+        assertEquals(500, MybatisMapperGenerator.maxRowsPerStatement(9, 500));
+        assertEquals(MybatisMapperGenerator.MAX_BIND_VARIABLES / 200, MybatisMapperGenerator.maxRowsPerStatement(200, 500));
+        assertEquals((MybatisMapperGenerator.MAX_BIND_VARIABLES - 2) / 300, MybatisMapperGenerator.maxRowsPerStatement(300, 2, 500));
+        assertEquals(1, MybatisMapperGenerator.maxRowsPerStatement(100_000, 500));
+    }
+
+    @Test
+    void mergeMatchesOnPrimaryKey() {
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), allOptions(false, false, true));
+
+        String merge = boundSql(mapperXml, "merge", new HashMap<>()).getSql().replaceAll("\\s+", " ");
+        assertTrue(merge.startsWith("MERGE INTO TB_X T USING DUAL ON (T.COMPANY_CD = ? AND T.ITEM_NO = ?) WHEN MATCHED THEN UPDATE SET ITEM_NM = ?,"), merge);
+        assertTrue(merge.contains("WHEN NOT MATCHED THEN INSERT ( COMPANY_CD, ITEM_NO,"), merge);
+        assertFalse(merge.contains("SET COMPANY_CD"), merge);   // PK는 수정하지 않음
+
+        BoundSql batch = boundSql(mapperXml, "mergeBatch", Map.of("list", List.of(Map.of(), Map.of())));
+        String mergeBatch = batch.getSql().replaceAll("\\s+", " ");
+        assertEquals(1, count(mergeBatch, " UNION ALL "), mergeBatch);
+        assertTrue(mergeBatch.contains(") S ON (T.COMPANY_CD = S.COMPANY_CD AND T.ITEM_NO = S.ITEM_NO)"), mergeBatch);
+        assertTrue(mergeBatch.contains("VALUES ( S.COMPANY_CD, S.ITEM_NO, S.ITEM_NM, S.REG_DT, S.UPD_DTS,"), mergeBatch);
+        // 행마다 컬럼 값 5개, 규칙 값은 구문에 한 번씩
+        assertEquals(2 * 5, batch.getParameterMappings().stream().filter(m -> m.getProperty().startsWith("__frch_item")).count());
+    }
+
+    @Test
+    void mergeIsSkippedWithoutPrimaryKey() {
+        List<ColumnInfo> noPk = List.of(column("ITEM_NM", "VARCHAR2(100)", "N"), column("REG_DT", "DATE", "N"));
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", noPk, List.of(), allOptions(false, false, true));
+
+        assertTrue(mapperXml.contains("TB_X: PK가 없어 MERGE(merge, mergeBatch) 구문을 생성하지 않았습니다."), mapperXml);
+        assertFalse(mapperXml.contains("MERGE INTO"), mapperXml);
+        parse(mapperXml);
+    }
+
+    @Test
+    void selectPageSeeksPastLastRowInPkOrder() {
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), allOptions(true, true, true));
+
+        Map<String, Object> firstPage = new HashMap<>();
+        firstPage.put("last", null);
+        firstPage.put("limit", 100);
+        String first = boundSql(mapperXml, "selectPage", firstPage).getSql().replaceAll("\\s+", " ");
+        assertFalse(first.contains("WHERE"), first);
+        assertTrue(first.endsWith("FROM TB_X ORDER BY COMPANY_CD, ITEM_NO FETCH FIRST ? ROWS ONLY"), first);
+
+        Map<String, Object> nextPage = new HashMap<>(firstPage);
+        nextPage.put("last", Map.of("company_cd", "C", "item_no", 10));
+        BoundSql next = boundSql(mapperXml, "selectPage", nextPage);
+        String sql = next.getSql().replaceAll("\\s+", " ");
+        // 선행 PK 컬럼의 범위 조건(인덱스 시작 위치)과 (K1, K2) > (?, ?)를 풀어 쓴 조건
+        assertTrue(sql.contains("WHERE COMPANY_CD >= ? AND (COMPANY_CD > ? OR (COMPANY_CD = ? AND ITEM_NO > ?)) ORDER BY COMPANY_CD, ITEM_NO"), sql);
+        assertEquals(List.of("last.company_cd", "last.company_cd", "last.company_cd", "last.item_no", "limit"),
+                next.getParameterMappings().stream().map(ParameterMapping::getProperty).toList());
+    }
+
+    @Test
+    void selectPageIsSkippedWithoutPrimaryKey() {
+        List<ColumnInfo> noPk = List.of(column("ITEM_NM", "VARCHAR2(100)", "N"), column("REG_DT", "DATE", "N"));
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", noPk, List.of(), allOptions(true, true, true));
+
+        assertTrue(mapperXml.contains("TB_X: PK가 없어 페이지 조회(selectPage) 구문을 생성하지 않았습니다."), mapperXml);
+        assertFalse(mapperXml.contains("id=\"selectPage\""), mapperXml);
+    }
+
+    @Test
+    void selectStreamUsesForwardOnlyCursorWithEstimatedFetchSize() {
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), allOptions(true, true, true));
+        MappedStatement stream = parse(mapperXml).getMappedStatement("test.selectStream");
+
+        // 행 크기 354바이트 (VARCHAR2는 문자당 2바이트) -> 1MB / 354
+        assertEquals(354, FetchSizeEstimator.estimateRowBytes(columns()));
+        assertEquals(FetchSizeEstimator.TARGET_FETCH_BYTES / 354, stream.getFetchSize());
+        assertEquals(ResultSetType.FORWARD_ONLY, stream.getResultSetType());
+        assertFalse(stream.getBoundSql(new HashMap<>()).getSql().contains("WHERE"));
+        assertTrue(mapperXml.contains("Cursor<Model> selectStream();"), mapperXml);
+    }
+
+    @Test
+    void fetchSizeStaysWithinBounds() {
+        assertEquals(FetchSizeEstimator.MAX_FETCH_SIZE, FetchSizeEstimator.fetchSize(List.of(column("ID", "NUMBER", "Y"))));
+
+        List<ColumnInfo> wide = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            wide.add(column("DOC_" + i, "CLOB", "N"));
+        }
+        assertEquals(FetchSizeEstimator.MIN_FETCH_SIZE, FetchSizeEstimator.fetchSize(wide));
+    }
+
+    @Test
+    void selectByIndexOrdersBySelectivityAndUsesEveryIndexColumn() {
+        List<IndexInfo> indexes = List.of(
+                index("IX_TB_X_01", "NONUNIQUE", "REG_DT", 1, null, null),
+                index("IX_TB_X_02", "UNIQUE", "REG_DT", 2, null, null),
+                index("IX_TB_X_02", "UNIQUE", "ITEM_NM", 1, null, null),
+                index("IX_TB_X_03", "NONUNIQUE", "UPD_DTS", 1, 50L, 100L),
+                index("IX_TB_X_FN", "NONUNIQUE", "SYS_NC00010$", 1, 10L, 100L));   // 함수 기반 인덱스의 숨은 컬럼
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes, allOptions(true, true, true));
+
+        // UNIQUE -> 통계상 선택도 높은 순 -> 통계 없음, 테이블에 없는 컬럼의 인덱스는 제외
+        int unique = mapperXml.indexOf("id=\"selectByIxTbX02\"");
+        int withStats = mapperXml.indexOf("id=\"selectByIxTbX03\"");
+        int withoutStats = mapperXml.indexOf("id=\"selectByIxTbX01\"");
+        assertTrue(unique > 0 && unique < withStats && withStats < withoutStats, mapperXml);
+        assertFalse(mapperXml.contains("selectByIxTbXFn"), mapperXml);
+        assertTrue(mapperXml.contains("<!-- IX_TB_X_02 (UNIQUE: ITEM_NM, REG_DT, 1건 조회) -->"), mapperXml);
+        assertTrue(mapperXml.contains("<!-- IX_TB_X_03 (NONUNIQUE: UPD_DTS, 선택도 0.5000 - 값 하나당 약 2행) -->"), mapperXml);
+
+        // useIfWhere여도 인덱스 컬럼 조건은 항상 모두 사용 (인덱스 순서대로)
+        BoundSql boundSql = boundSql(mapperXml, "selectByIxTbX02", new HashMap<>());
+        String sql = boundSql.getSql().replaceAll("\\s+", " ");
+        assertTrue(sql.endsWith("FROM TB_X WHERE ITEM_NM = ? AND REG_DT = ?"), sql);
+        assertEquals(List.of("item_nm", "reg_dt"), boundSql.getParameterMappings().stream().map(ParameterMapping::getProperty).toList());
+    }
+
+    @Test
+    void selectByIndexIsSkippedWithoutUsableIndex() {
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns(), List.of(), allOptions(true, true, true));
+        assertTrue(mapperXml.contains("TB_X: PK 외에 조회에 사용할 인덱스가 없어 selectBy 구문을 생성하지 않았습니다."), mapperXml);
+
+        MapperOptions options = allOptions(true, true, true);
+        options.setUseSelectByIndex(false);
+        assertFalse(MybatisMapperGenerator.generateMapper("TB_X", columns(), indexes(), options).contains("selectByIx"));
+    }
+
+    static MapperOptions allOptions(boolean useIfUpdate, boolean useIfWhere, boolean parameterTypeModel) {
+        MapperOptions options = new MapperOptions(useIfUpdate, useIfWhere, parameterTypeModel);
+        options.setUseJdbcType(true);
+        options.setUseResultMap(true);
+        options.setUseSelectByIndex(true);
+        options.setUseSelectStream(true);
+        options.setUseSelectPage(true);
+        options.setUseInsertBatch(true);
+        options.setUseMerge(true);
+        options.setUseByPkList(true);
+        return options;
+    }
+
+    // 복합 PK, 문자/숫자/DATE/TIMESTAMP, 감사 컬럼(규칙 값)을 가진 테이블
+    static List<ColumnInfo> columns() {
+        return List.of(
+                column("COMPANY_CD", "VARCHAR2(10)", "Y"),
+                column("ITEM_NO", "NUMBER", "Y"),
+                column("ITEM_NM", "VARCHAR2(100)", "N"),
+                column("REG_DT", "DATE", "N"),
+                column("UPD_DTS", "TIMESTAMP(6)", "N"),
+                column("INSERT_ID", "VARCHAR2(20)", "N"),
+                column("INSERT_DTS", "DATE", "N"),
+                column("UPDATE_ID", "VARCHAR2(20)", "N"),
+                column("UPDATE_DTS", "DATE", "N"));
+    }
+
+    static List<IndexInfo> indexes() {
+        return List.of(index("IX_TB_X_01", "NONUNIQUE", "REG_DT", 1, null, null));
+    }
+
+    static IndexInfo index(String indexName, String uniqueness, String columnName, int position, Long distinctKeys, Long numRows) {
+        IndexInfo index = new IndexInfo();
+        index.setTable_nm("TB_X");
+        index.setIndex_name(indexName);
+        index.setUniqueness(uniqueness);
+        index.setColumn_name(columnName);
+        index.setColumn_position(position);
+        index.setDistinct_keys(distinctKeys);
+        index.setNum_rows(numRows);
+        return index;
+    }
+
+    static ColumnInfo column(String name, String dataType, String primaryKey) {
+        ColumnInfo col = new ColumnInfo();
+        col.setTable_nm("TB_X");
+        col.setColumn_name(name);
+        col.setData_type(dataType);
+        col.setPrimary_key(primaryKey);
+        return col;
+    }
+
+    // 생성한 구문을 MyBatis로 파싱 (DB 연결 없음, Model은 HashMap으로 대체)
+    static Configuration parse(String mapperXml) {
+        Configuration configuration = new Configuration();
+        configuration.getTypeAliasRegistry().registerAlias("Model", HashMap.class);
+        String document = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+                + "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"https://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n"
+                + "<mapper namespace=\"test\">" + mapperXml + "</mapper>";
+        new XMLMapperBuilder(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), configuration, "test",
+                configuration.getSqlFragments()).parse();
+        return configuration;
+    }
+
+    // 생성한 구문이 실제로 실행할 SQL
+    static BoundSql boundSql(String mapperXml, String statementId, Object parameter) {
+        return parse(mapperXml).getMappedStatement("test." + statementId).getBoundSql(parameter);
+    }
+
+    private static List<String> columnsOf(List<ResultMapping> mappings) {
+        return mappings.stream().map(ResultMapping::getColumn).toList();
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static List<String> binds(String mapperXml) {
+        List<String> binds = new ArrayList<>();
+        Matcher matcher = BIND.matcher(mapperXml);
+        while (matcher.find()) {
+            binds.add(matcher.group());
+        }
+        return binds;
+    }
+}
@@ -0,0 +1,38 @@
+package org.dev.mybatisautomapper.util;
+
+import org.apache.ibatis.type.JdbcType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OracleDateTypeHandlerTest {
+
+    @Test
+    void bindsDateWithTimeOfDayAsOracleDate() throws Exception {
+        List<Object[]> calls = new ArrayList<>();
+        PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    calls.add(new Object[]{method.getName(), args});
+                    return null;
+                });
+        LocalDateTime value = LocalDateTime.of(2026, 10, 18, 13, 45, 30);
+
+        new OracleDateTypeHandler().setParameter(ps, 3, Date.from(value.atZone(ZoneId.systemDefault()).toInstant()), JdbcType.DATE);
+
+        assertEquals(1, calls.size());
+        Object[] args = (Object[]) calls.get(0)[1];
+        assertEquals("setObject", calls.get(0)[0]);
+        assertEquals(3, args[0]);
+        assertEquals(value, args[1]);       // 시분초 유지
+        assertEquals(Types.DATE, args[2]);  // TIMESTAMP가 아닌 DATE로 바인드
+    }
+}
@@ -0,0 +1,96 @@
+package org.dev.mybatisautomapper.util;
+
+import org.dev.mybatisautomapper.model.ColumnInfo;
+import org.dev.mybatisautomapper.model.IndexInfo;
+import org.dev.mybatisautomapper.model.MapperOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 모든 생성 옵션을 켠 매퍼를 StatementSqlRenderer로 실행 가능한 SQL로 만드는지 확인
+ */
+class StatementSqlRendererTest {
+
+    @Test
+    void rendersEveryStatementWithAllOptions() {
+        List<ColumnInfo> columns = columns();
+        MapperOptions options = new MapperOptions(true, true, true);
+        options.setUseJdbcType(true);
+        options.setUseResultMap(true);
+        options.setUseSelectByIndex(true);
+        options.setUseSelectStream(true);
+        options.setUseSelectPage(true);
+        options.setUseInsertBatch(true);
+        options.setUseMerge(true);
+        options.setUseByPkList(true);
+        String mapperXml = MybatisMapperGenerator.generateMapper("TB_X", columns, indexes(), options);
+
+        Map<String, String> sqlById = StatementSqlRenderer.render(mapperXml, columns);
+
+        List<String> ids = StatementSqlRenderer.statementIds(mapperXml);
+        assertEquals(ids, new ArrayList<>(sqlById.keySet()));
+        assertTrue(ids.containsAll(List.of("select", "selectPage", "selectByPkList", "selectStream", "selectByIxTbX01",
+                "insert", "insertBatch", "update", "updateByPkList", "merge", "mergeBatch", "delete", "deleteByPkList")), ids.toString());
+
+        for (Map.Entry<String, String> entry : sqlById.entrySet()) {
+            String sql = entry.getValue();
+            assertTrue(sql.matches("(?s)(SELECT|INSERT|UPDATE|DELETE|MERGE)\\b.*"), entry.getKey() + ": " + sql);
+            assertFalse(sql.contains("?"), entry.getKey() + ": " + sql);
+            assertFalse(sql.contains("#{"), entry.getKey() + ": " + sql);
+        }
+        // 바인드 자리에는 컬럼 타입에 맞는 대표 값
+        String delete = sqlById.get("delete");
+        assertTrue(delete.matches("(?s).*COMPANY_CD\\s*=\\s*'X'.*"), delete);
+        assertTrue(delete.matches("(?s).*ITEM_NO\\s*=\\s*0.*"), delete);
+        assertTrue(sqlById.get("selectByIxTbX01").matches("(?s).*REG_DT\\s*=\\s*SYSDATE.*"), sqlById.get("selectByIxTbX01"));
+    }
+
+    @Test
+    void literalByColumnType() {
+        Map<String, ColumnInfo> columnByName = Map.of(
+                "ITEM_NO", column("ITEM_NO", "NUMBER", "Y"),
+                "REG_DT", column("REG_DT", "DATE", "N"),
+                "UPD_DTS", column("UPD_DTS", "TIMESTAMP(6)", "N"));
+        assertEquals("0", StatementSqlRenderer.literal("P_ITEM_NO", columnByName));
+        assertEquals("0", StatementSqlRenderer.literal("__frch_item_0.item_no", columnByName));
+        assertEquals("SYSDATE", StatementSqlRenderer.literal("reg_dt", columnByName));
+        assertEquals("SYSTIMESTAMP", StatementSqlRenderer.literal("last.upd_dts", columnByName));
+        assertEquals("10", StatementSqlRenderer.literal("limit", columnByName));
+        assertEquals("NULL", StatementSqlRenderer.literal("P_CM_SYSDATE", columnByName));
+    }
+
+    private static List<ColumnInfo> columns() {
+        return List.of(
+                column("COMPANY_CD", "VARCHAR2(10)", "Y"),
+                column("ITEM_NO", "NUMBER", "Y"),
+                column("ITEM_NM", "VARCHAR2(100)", "N"),
+                column("REG_DT", "DATE", "N"),
+                column("UPD_DTS", "TIMESTAMP(6)", "N"));
+    }
+
+    private static List<IndexInfo> indexes() {
+        IndexInfo index = new IndexInfo();
+        index.setTable_nm("TB_X");
+        index.setIndex_name("IX_TB_X_01");
+        index.setUniqueness("NONUNIQUE");
+        index.setColumn_name("REG_DT");
+        index.setColumn_position(1);
+        return List.of(index);
+    }
+
+    private static ColumnInfo column(String name, String dataType, String primaryKey) {
+        ColumnInfo col = new ColumnInfo();
+        col.setTable_nm("TB_X");
+        col.setColumn_name(name);
+        col.setData_type(dataType);
+        col.setPrimary_key(primaryKey);
+        return col;
+    }
+}